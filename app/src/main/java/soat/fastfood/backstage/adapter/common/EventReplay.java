@@ -0,0 +1,25 @@
+package soat.fastfood.backstage.adapter.common;
+
+// Marks WorkOrderEvents that are replayed from another source (peer pods, the change feed) rather than
+// raised by a local write, so they are applied to local views but not forwarded again.
+public final class EventReplay {
+
+    private static final ThreadLocal<Boolean> ACTIVE = ThreadLocal.withInitial(() -> false);
+
+    private EventReplay() {
+    }
+
+    public static void run(final Runnable publish) {
+        ACTIVE.set(true);
+        try {
+            publish.run();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    public static boolean active() {
+        return ACTIVE.get();
+    }
+
+}
@@ -0,0 +1,11 @@
+package soat.fastfood.backstage.adapter.common;
+
+// Monotonic time source for rate and latency logic, so tests can move time instead of sleeping
+@FunctionalInterface
+public interface NanoClock {
+
+    NanoClock SYSTEM = System::nanoTime;
+
+    long nanoTime();
+
+}
@@ -0,0 +1,38 @@
+package soat.fastfood.backstage.adapter.config;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
+import software.amazon.awssdk.regions.providers.AwsRegionProvider;
+
+import java.net.URI;
+
+// The clients are built by hand to share the http pools, so the region (spring.cloud.aws.region.static) and
+// the endpoint overrides used against LocalStack have to be applied to each builder here.
+@Component
+public class AwsClientConfigurer {
+
+    private static final String ENDPOINT = "aws.endpoint.";
+
+    private final AwsRegionProvider regionProvider;
+    private final Environment environment;
+
+    public AwsClientConfigurer(final AwsRegionProvider regionProvider, final Environment environment) {
+        this.regionProvider = regionProvider;
+        this.environment = environment;
+    }
+
+    public <B extends AwsClientBuilder<B, ?>> B configure(final B builder, final String service) {
+        builder.region(this.regionProvider.getRegion());
+
+        var endpoint = this.environment.getProperty(ENDPOINT + service, "");
+        if (!StringUtils.hasText(endpoint))
+            endpoint = this.environment.getProperty(ENDPOINT + "default", "");
+        if (StringUtils.hasText(endpoint))
+            builder.endpointOverride(URI.create(endpoint));
+
+        return builder;
+    }
+
+}
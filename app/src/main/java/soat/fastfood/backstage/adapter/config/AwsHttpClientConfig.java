@@ -0,0 +1,96 @@
+package soat.fastfood.backstage.adapter.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.crt.AwsCrtAsyncHttpClient;
+import software.amazon.awssdk.http.crt.AwsCrtHttpClient;
+import software.amazon.awssdk.http.crt.TcpKeepAliveConfiguration;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+
+@Configuration
+@EnableConfigurationProperties(AwsHttpClientProperties.class)
+public class AwsHttpClientConfig {
+
+    @Bean
+    public SdkHttpClient awsHttpClient(final AwsHttpClientProperties properties) {
+        return switch (properties.implementation()) {
+            case APACHE -> ApacheHttpClient.builder()
+                    .maxConnections(properties.maxConnections())
+                    .connectionTimeToLive(properties.connectionTimeToLive())
+                    .connectionMaxIdleTime(properties.connectionMaxIdleTime())
+                    .useIdleConnectionReaper(properties.useIdleConnectionReaper())
+                    .tcpKeepAlive(properties.tcpKeepAlive())
+                    .connectionTimeout(properties.connectionTimeout())
+                    .socketTimeout(properties.socketTimeout())
+                    .connectionAcquisitionTimeout(properties.connectionAcquisitionTimeout())
+                    .build();
+            case URL_CONNECTION -> UrlConnectionHttpClient.builder()
+                    .connectionTimeout(properties.connectionTimeout())
+                    .socketTimeout(properties.socketTimeout())
+                    .build();
+            case CRT -> AwsCrtHttpClient.builder()
+                    .maxConcurrency(properties.maxConnections())
+                    .connectionMaxIdleTime(properties.connectionMaxIdleTime())
+                    .connectionTimeout(properties.connectionTimeout())
+                    .connectionAcquisitionTimeout(properties.connectionAcquisitionTimeout())
+                    .tcpKeepAliveConfiguration(tcpKeepAliveConfiguration(properties))
+                    .build();
+        };
+    }
+
+    // The async client also serves the SQS listener long polls, so its read timeout has to outlast
+    // a ReceiveMessage wait; per-call bounds for DynamoDB come from the api call attempt timeout.
+    @Bean
+    public SdkAsyncHttpClient awsAsyncHttpClient(final AwsHttpClientProperties properties) {
+        if (properties.implementation() == AwsHttpClientProperties.Implementation.CRT) {
+            return AwsCrtAsyncHttpClient.builder()
+                    .maxConcurrency(properties.maxConnections())
+                    .connectionMaxIdleTime(properties.connectionMaxIdleTime())
+                    .connectionTimeout(properties.connectionTimeout())
+                    .connectionAcquisitionTimeout(properties.connectionAcquisitionTimeout())
+                    .tcpKeepAliveConfiguration(tcpKeepAliveConfiguration(properties))
+                    .build();
+        }
+
+        return NettyNioAsyncHttpClient.builder()
+                .maxConcurrency(properties.maxConnections())
+                .connectionTimeToLive(properties.connectionTimeToLive())
+                .connectionMaxIdleTime(properties.connectionMaxIdleTime())
+                .useIdleConnectionReaper(properties.useIdleConnectionReaper())
+                .tcpKeepAlive(properties.tcpKeepAlive())
+                .connectionTimeout(properties.connectionTimeout())
+                .readTimeout(properties.longPollTimeout())
+                .writeTimeout(properties.socketTimeout())
+                .connectionAcquisitionTimeout(properties.connectionAcquisitionTimeout())
+                .build();
+    }
+
+    // One publisher per pool: every client built on the same http client reports the same pool, so tagging
+    // the gauges per client would just show several copies of one pool overwriting each other.
+    @Bean
+    public HttpClientPoolMetricPublisher awsHttpClientMetrics(final MeterRegistry meterRegistry) {
+        return new HttpClientPoolMetricPublisher(meterRegistry, "sync");
+    }
+
+    @Bean
+    public HttpClientPoolMetricPublisher awsAsyncHttpClientMetrics(final MeterRegistry meterRegistry) {
+        return new HttpClientPoolMetricPublisher(meterRegistry, "async");
+    }
+
+    private static TcpKeepAliveConfiguration tcpKeepAliveConfiguration(final AwsHttpClientProperties properties) {
+        if (!Boolean.TRUE.equals(properties.tcpKeepAlive()))
+            return null;
+
+        return TcpKeepAliveConfiguration.builder()
+                .keepAliveInterval(properties.tcpKeepAliveInterval())
+                .keepAliveTimeout(properties.tcpKeepAliveInterval())
+                .build();
+    }
+
+}
@@ -0,0 +1,48 @@
+package soat.fastfood.backstage.adapter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.metrics.MetricPublisher;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "aws.http-client")
+public record AwsHttpClientProperties(
+        Implementation implementation,
+        Integer maxConnections,
+        Duration connectionTimeToLive,
+        Duration connectionMaxIdleTime,
+        Boolean useIdleConnectionReaper,
+        Boolean tcpKeepAlive,
+        Duration tcpKeepAliveInterval,
+        Duration connectionTimeout,
+        Duration socketTimeout,
+        Duration connectionAcquisitionTimeout,
+        Duration apiCallTimeout,
+        Duration apiCallAttemptTimeout,
+        Duration longPollTimeout
+) {
+
+    public ClientOverrideConfiguration clientOverrideConfiguration(final MetricPublisher metricPublisher) {
+        return ClientOverrideConfiguration.builder()
+                .apiCallTimeout(this.apiCallTimeout)
+                .apiCallAttemptTimeout(this.apiCallAttemptTimeout)
+                .addMetricPublisher(metricPublisher)
+                .build();
+    }
+
+    public ClientOverrideConfiguration longPollingOverrideConfiguration(final MetricPublisher metricPublisher) {
+        return ClientOverrideConfiguration.builder()
+                .apiCallTimeout(this.longPollTimeout)
+                .apiCallAttemptTimeout(this.longPollTimeout)
+                .addMetricPublisher(metricPublisher)
+                .build();
+    }
+
+    public enum Implementation {
+        APACHE,
+        URL_CONNECTION,
+        CRT
+    }
+
+}
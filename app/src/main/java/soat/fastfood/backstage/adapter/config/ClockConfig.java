@@ -0,0 +1,15 @@
+package soat.fastfood.backstage.adapter.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import soat.fastfood.backstage.adapter.common.NanoClock;
+
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public NanoClock nanoClock() {
+        return NanoClock.SYSTEM;
+    }
+
+}
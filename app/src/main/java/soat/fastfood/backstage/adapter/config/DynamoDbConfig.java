@@ -0,0 +1,66 @@
+package soat.fastfood.backstage.adapter.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.throttle.AdaptiveWriteLimiter;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.throttle.WriteThrottlingInterceptor;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
+
+@Configuration
+public class DynamoDbConfig {
+
+    @Bean
+    public DynamoDbClient dynamoDbClient(
+            final SdkHttpClient awsHttpClient,
+            final HttpClientPoolMetricPublisher awsHttpClientMetrics,
+            final AwsHttpClientProperties properties,
+            final AwsClientConfigurer configurer,
+            final AdaptiveWriteLimiter writeLimiter
+    ) {
+        return configurer.configure(DynamoDbClient.builder(), "dynamodb")
+                .httpClient(awsHttpClient)
+                .overrideConfiguration(properties.clientOverrideConfiguration(awsHttpClientMetrics).toBuilder()
+                        .addExecutionInterceptor(new WriteThrottlingInterceptor(writeLimiter))
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public DynamoDbAsyncClient dynamoDbAsyncClient(
+            final SdkAsyncHttpClient awsAsyncHttpClient,
+            final HttpClientPoolMetricPublisher awsAsyncHttpClientMetrics,
+            final AwsHttpClientProperties properties,
+            final AwsClientConfigurer configurer
+    ) {
+        return configurer.configure(DynamoDbAsyncClient.builder(), "dynamodb")
+                .httpClient(awsAsyncHttpClient)
+                .overrideConfiguration(properties.clientOverrideConfiguration(awsAsyncHttpClientMetrics))
+                .build();
+    }
+
+    @Bean
+    public DynamoDbStreamsClient dynamoDbStreamsClient(
+            final SdkHttpClient awsHttpClient,
+            final HttpClientPoolMetricPublisher awsHttpClientMetrics,
+            final AwsHttpClientProperties properties,
+            final AwsClientConfigurer configurer
+    ) {
+        return configurer.configure(DynamoDbStreamsClient.builder(), "dynamodb")
+                .httpClient(awsHttpClient)
+                .overrideConfiguration(properties.clientOverrideConfiguration(awsHttpClientMetrics))
+                .build();
+    }
+
+    @Bean
+    public DynamoDbEnhancedClient dynamoDbEnhancedClient(final DynamoDbClient dynamoDbClient) {
+        return DynamoDbEnhancedClient.builder()
+                .dynamoDbClient(dynamoDbClient)
+                .build();
+    }
+
+}
@@ -0,0 +1,51 @@
+package soat.fastfood.backstage.adapter.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HttpClientPoolMetricPublisher implements MetricPublisher {
+
+    private final AtomicInteger maxConcurrency = new AtomicInteger();
+    private final AtomicInteger leasedConcurrency = new AtomicInteger();
+    private final AtomicInteger availableConcurrency = new AtomicInteger();
+    private final AtomicInteger pendingAcquires = new AtomicInteger();
+    private final Timer acquireDuration;
+
+    public HttpClientPoolMetricPublisher(final MeterRegistry meterRegistry, final String pool) {
+        gauge(meterRegistry, "aws.http.pool.max", pool, this.maxConcurrency);
+        gauge(meterRegistry, "aws.http.pool.leased", pool, this.leasedConcurrency);
+        gauge(meterRegistry, "aws.http.pool.available", pool, this.availableConcurrency);
+        gauge(meterRegistry, "aws.http.pool.pending", pool, this.pendingAcquires);
+        this.acquireDuration = Timer.builder("aws.http.pool.acquire")
+                .description("Time spent waiting for a pooled connection")
+                .tag("pool", pool)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(final MetricCollection metricCollection) {
+        metricCollection.metricValues(HttpMetric.MAX_CONCURRENCY).forEach(this.maxConcurrency::set);
+        metricCollection.metricValues(HttpMetric.LEASED_CONCURRENCY).forEach(this.leasedConcurrency::set);
+        metricCollection.metricValues(HttpMetric.AVAILABLE_CONCURRENCY).forEach(this.availableConcurrency::set);
+        metricCollection.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES).forEach(this.pendingAcquires::set);
+        metricCollection.metricValues(HttpMetric.CONCURRENCY_ACQUIRE_DURATION).forEach(this.acquireDuration::record);
+        metricCollection.children().forEach(this::publish);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static void gauge(final MeterRegistry meterRegistry, final String name, final String pool, final AtomicInteger value) {
+        Gauge.builder(name, value, AtomicInteger::get)
+                .tag("pool", pool)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,26 @@
+package soat.fastfood.backstage.adapter.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+@Configuration
+@RequiredArgsConstructor
+public class HttpMessageConvertersConfig implements WebMvcConfigurer {
+
+    private final CBORMapper cborMapper;
+    private final SmileMapper smileMapper;
+
+    // JSON stays the default; application/cbor and application/x-jackson-smile are picked from Accept
+    @Override
+    public void configureMessageConverters(final HttpMessageConverters.ServerBuilder builder) {
+        builder.withCborConverter(new JacksonCborHttpMessageConverter(this.cborMapper))
+                .withSmileConverter(new JacksonSmileHttpMessageConverter(this.smileMapper));
+    }
+
+}
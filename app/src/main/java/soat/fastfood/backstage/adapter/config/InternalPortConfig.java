@@ -0,0 +1,26 @@
+package soat.fastfood.backstage.adapter.config;
+
+import org.apache.catalina.connector.Connector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.tomcat.servlet.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Second connector for the endpoints only other pods and operators may call. The public Service and the
+// gateway route target server.port alone, so nothing outside the cluster reaches this one.
+@Configuration
+public class InternalPortConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> internalConnector(
+            @Value("${work-order.internal.port}") final int port
+    ) {
+        return factory -> {
+            final var connector = new Connector(TomcatServletWebServerFactory.DEFAULT_PROTOCOL);
+            connector.setPort(port);
+            factory.addAdditionalConnectors(connector);
+        };
+    }
+
+}
@@ -4,6 +4,16 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.cfg.EnumFeature;
+import tools.jackson.databind.cfg.JsonNodeFeature;
+import tools.jackson.databind.cfg.MapperBuilder;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+import tools.jackson.dataformat.smile.SmileWriteFeature;
 
 @Configuration
 public class ObjectMapperConfig {
@@ -14,4 +24,56 @@ public class ObjectMapperConfig {
                 .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     }
 
+    @Bean
+    public CBORMapper cborMapper(final JsonMapper jsonMapper) {
+        return configuredLike(jsonMapper, CBORMapper.builder())
+                .configure(tools.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .build();
+    }
+
+    // Shared string values back-reference repeated statuses and item names inside a listing
+    @Bean
+    public SmileMapper smileMapper(final JsonMapper jsonMapper) {
+        return configuredLike(jsonMapper, SmileMapper.builder())
+                .configure(tools.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .enable(SmileWriteFeature.CHECK_SHARED_STRING_VALUES)
+                .build();
+    }
+
+    // Spring Boot applies the spring.jackson settings and every JsonMapperBuilderCustomizer to its JsonMapper
+    // only. The binary mappers copy that mapper's modules and features, so a listing negotiated as CBOR or
+    // Smile carries the same fields, dates and naming as the JSON one.
+    private static <M extends tools.jackson.databind.ObjectMapper, B extends MapperBuilder<M, B>> B configuredLike(
+            final JsonMapper jsonMapper,
+            final B builder
+    ) {
+        final var serialization = jsonMapper.serializationConfig();
+        final var deserialization = jsonMapper.deserializationConfig();
+
+        builder.addModules(jsonMapper.registeredModules());
+        for (final var feature : MapperFeature.values())
+            builder.configure(feature, jsonMapper.isEnabled(feature));
+        for (final var feature : SerializationFeature.values())
+            builder.configure(feature, jsonMapper.isEnabled(feature));
+        for (final var feature : tools.jackson.databind.DeserializationFeature.values())
+            builder.configure(feature, jsonMapper.isEnabled(feature));
+        for (final var feature : DateTimeFeature.values())
+            builder.configure(feature, jsonMapper.isEnabled(feature));
+        for (final var feature : EnumFeature.values())
+            builder.configure(feature, jsonMapper.isEnabled(feature));
+        for (final var feature : JsonNodeFeature.values())
+            builder.configure(feature, jsonMapper.isEnabled(feature));
+
+        builder.propertyNamingStrategy(serialization.getPropertyNamingStrategy())
+                .changeDefaultPropertyInclusion(inclusion -> serialization.getDefaultPropertyInclusion())
+                .changeDefaultVisibility(visibility -> serialization.getDefaultVisibilityChecker())
+                .constructorDetector(deserialization.getConstructorDetector())
+                .defaultDateFormat(serialization.getDateFormat())
+                .defaultLocale(serialization.getLocale());
+        if (serialization.hasExplicitTimeZone())
+            builder.defaultTimeZone(serialization.getTimeZone());
+
+        return builder;
+    }
+
 }
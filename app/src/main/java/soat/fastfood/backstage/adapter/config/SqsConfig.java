@@ -2,14 +2,38 @@ package soat.fastfood.backstage.adapter.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.sqs.SqsClient;
 
 @Configuration
 public class SqsConfig {
 
     @Bean
-    public SqsClient sqsClient() {
-        return SqsClient.create();
+    public SqsClient sqsClient(
+            final SdkHttpClient awsHttpClient,
+            final HttpClientPoolMetricPublisher awsHttpClientMetrics,
+            final AwsHttpClientProperties properties,
+            final AwsClientConfigurer configurer
+    ) {
+        return configurer.configure(SqsClient.builder(), "sqs")
+                .httpClient(awsHttpClient)
+                .overrideConfiguration(properties.clientOverrideConfiguration(awsHttpClientMetrics))
+                .build();
+    }
+
+    @Bean
+    public SqsAsyncClient sqsAsyncClient(
+            final SdkAsyncHttpClient awsAsyncHttpClient,
+            final HttpClientPoolMetricPublisher awsAsyncHttpClientMetrics,
+            final AwsHttpClientProperties properties,
+            final AwsClientConfigurer configurer
+    ) {
+        return configurer.configure(SqsAsyncClient.builder(), "sqs")
+                .httpClient(awsAsyncHttpClient)
+                .overrideConfiguration(properties.longPollingOverrideConfiguration(awsAsyncHttpClientMetrics))
+                .build();
     }
 
 }
@@ -7,8 +7,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import soat.fastfood.backstage.adapter.inbound.api.dto.ErrorDto;
+import soat.fastfood.backstage.adapter.inbound.api.dto.StatusConflictErrorDto;
 import soat.fastfood.backstage.application.domain.exceptions.DomainException;
+import soat.fastfood.backstage.application.domain.exceptions.InvalidStatusTransitionException;
 import soat.fastfood.backstage.application.domain.exceptions.NotFoundException;
+import soat.fastfood.backstage.application.domain.exceptions.PreconditionFailedException;
 import soat.fastfood.backstage.application.domain.utils.InstantUtils;
 
 import java.util.List;
@@ -30,6 +33,29 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(value = PreconditionFailedException.class)
+    public ResponseEntity<ErrorDto> handlePreconditionFailedException(final PreconditionFailedException ex) {
+        log.warn("PreconditionFailedException: {}", ex.getMessage());
+        final var error = new ErrorDto(
+                InstantUtils.now(),
+                HttpStatus.PRECONDITION_FAILED.value(),
+                ex.getErrors()
+        );
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+    }
+
+    @ExceptionHandler(value = InvalidStatusTransitionException.class)
+    public ResponseEntity<StatusConflictErrorDto> handleInvalidStatusTransitionException(final InvalidStatusTransitionException ex) {
+        log.warn("InvalidStatusTransitionException: {}", ex.getMessage());
+        final var error = new StatusConflictErrorDto(
+                InstantUtils.now(),
+                HttpStatus.CONFLICT.value(),
+                ex.getErrors(),
+                ex.getCurrentStatus()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(value = DomainException.class)
     public ResponseEntity<ErrorDto> handleDomainException(final DomainException ex) {
         log.error("DomainException: ", ex);
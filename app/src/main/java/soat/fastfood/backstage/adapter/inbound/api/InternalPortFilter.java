@@ -0,0 +1,50 @@
+package soat.fastfood.backstage.adapter.inbound.api;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Internal and admin endpoints answer 404 unless the request came in through the internal connector, so
+// the public route cannot reach them even though they share the context path with the API. Operators call
+// the admin ones through a port-forward to the internal port.
+@Component
+public class InternalPortFilter extends OncePerRequestFilter {
+
+    private final int internalPort;
+
+    public InternalPortFilter(@Value("${work-order.internal.port}") final int internalPort) {
+        this.internalPort = internalPort;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (isInternal(request) && request.getLocalPort() != this.internalPort) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // The servlet path is decoded and normalized by the container, so encoded or doubled slashes and path
+    // parameters cannot sneak a request past the check
+    private static boolean isInternal(final HttpServletRequest request) {
+        final var path = request.getServletPath() + (request.getPathInfo() != null ? request.getPathInfo() : "");
+        return path.startsWith("/internal/")
+                || (HttpMethod.POST.matches(request.getMethod()) && path.equals("/work-orders/purge"))
+                || (HttpMethod.DELETE.matches(request.getMethod()) && path.startsWith("/work-orders/"));
+    }
+
+}
@@ -0,0 +1,29 @@
+package soat.fastfood.backstage.adapter.inbound.api;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import soat.fastfood.backstage.adapter.outbound.invalidation.HttpInvalidationTransport;
+import soat.fastfood.backstage.adapter.outbound.invalidation.InvalidationMessage;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal/invalidations")
+@ConditionalOnProperty(name = "work-order.invalidation.transport", havingValue = "http")
+public class InvalidationController {
+
+    private final HttpInvalidationTransport transport;
+
+    @PostMapping
+    public ResponseEntity<?> receive(@RequestHeader(value = HttpInvalidationTransport.TOKEN_HEADER, required = false) String token,
+                                     @RequestBody InvalidationMessage message) {
+        if (!this.transport.accepts(token))
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+
+        this.transport.deliver(message);
+        return ResponseEntity.accepted().build();
+    }
+
+}
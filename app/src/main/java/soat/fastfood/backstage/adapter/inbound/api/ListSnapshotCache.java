@@ -0,0 +1,113 @@
+package soat.fastfood.backstage.adapter.inbound.api;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderEvent;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.usecase.retrieve.list.ListWorkOrderOutput;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Serialized JSON of each single-status listing, shared by every caller until a write touches that
+// status. Events only reach this replica, so max-age bounds how long other replicas' writes go unseen.
+@Component
+public class ListSnapshotCache {
+
+    private final ConcurrentHashMap<WorkOrderStatus, ListSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLongArray versions = new AtomicLongArray(WorkOrderStatus.values().length);
+    private final AtomicLong moves = new AtomicLong();
+    private final JsonMapper jsonMapper;
+    private final long maxAgeNanos;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ListSnapshotCache(
+            final JsonMapper jsonMapper,
+            final MeterRegistry meterRegistry,
+            @Value("${work-order.snapshots.max-age}") final Duration maxAge
+    ) {
+        this.jsonMapper = jsonMapper;
+        this.maxAgeNanos = maxAge.toNanos();
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    public ListSnapshot get(final WorkOrderStatus status, final Supplier<List<ListWorkOrderOutput>> loader) {
+        final var cached = this.snapshots.get(status);
+        if (cached != null && System.nanoTime() < cached.expiresAt()) {
+            this.hits.increment();
+            return cached;
+        }
+
+        this.misses.increment();
+        final var version = this.versions.get(status.ordinal());
+        final var moves = this.moves.get();
+        final var outputs = loader.get();
+        final var snapshot = new ListSnapshot(
+                WorkOrderETags.of(outputs, ListWorkOrderOutput::id, ListWorkOrderOutput::status, ListWorkOrderOutput::updatedAt),
+                this.jsonMapper.writeValueAsBytes(outputs),
+                outputs.stream().map(ListWorkOrderOutput::id).collect(Collectors.toUnmodifiableSet()),
+                System.nanoTime() + this.maxAgeNanos
+        );
+
+        // A write that happened while loading may not be in the outputs, so the snapshot is still
+        // served to this caller but only kept when nothing moved in between
+        if (this.versions.get(status.ordinal()) == version && this.moves.get() == moves) {
+            this.snapshots.put(status, snapshot);
+            if (this.versions.get(status.ordinal()) != version || this.moves.get() != moves)
+                this.snapshots.remove(status, snapshot);
+        }
+        return snapshot;
+    }
+
+    // A status change or a delete also leaves the list the work order was in; only cached lists
+    // can hold it, and in-flight loads are covered by the moves counter
+    @EventListener
+    public void on(final WorkOrderEvent event) {
+        switch (event) {
+            case WorkOrderEvent.Created created -> this.invalidate(created.workOrder().getStatus());
+            case WorkOrderEvent.StatusChanged changed -> {
+                this.moves.incrementAndGet();
+                this.invalidate(changed.status());
+                this.invalidateContaining(changed.workOrderID().getValue());
+            }
+            case WorkOrderEvent.Deleted deleted -> {
+                this.moves.incrementAndGet();
+                this.invalidateContaining(deleted.workOrderID().getValue());
+            }
+        }
+    }
+
+    private void invalidateContaining(final String id) {
+        this.snapshots.forEach((status, snapshot) -> {
+            if (snapshot.ids().contains(id))
+                this.invalidate(status);
+        });
+    }
+
+    private void invalidate(final WorkOrderStatus status) {
+        this.versions.incrementAndGet(status.ordinal());
+        this.snapshots.remove(status);
+    }
+
+    private static Counter counter(final MeterRegistry meterRegistry, final String outcome) {
+        return Counter.builder("backstage.list.snapshots")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    public record ListSnapshot(String eTag, byte[] json, Set<String> ids, long expiresAt) {
+    }
+
+}
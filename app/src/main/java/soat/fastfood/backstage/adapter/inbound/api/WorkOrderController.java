@@ -1,41 +1,235 @@
 package soat.fastfood.backstage.adapter.inbound.api;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import soat.fastfood.backstage.adapter.inbound.api.compression.ListResponseCompressor;
+import soat.fastfood.backstage.adapter.inbound.api.dto.BatchUpdateWorkOrderStatusDto;
+import soat.fastfood.backstage.adapter.inbound.api.dto.PurgeWorkOrdersDto;
+import soat.fastfood.backstage.adapter.inbound.api.longpoll.WorkOrderChangeNotifier;
 import soat.fastfood.backstage.adapter.inbound.api.dto.UpdateWorkOrderStatusDto;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.usecase.delete.DeleteWorkOrderCommand;
+import soat.fastfood.backstage.application.usecase.delete.DeleteWorkOrderUseCase;
+import soat.fastfood.backstage.application.usecase.delete.purge.PurgeWorkOrderCommand;
+import soat.fastfood.backstage.application.usecase.delete.purge.PurgeWorkOrderUseCase;
+import soat.fastfood.backstage.application.usecase.retrieve.count.CountWorkOrderUseCase;
 import soat.fastfood.backstage.application.usecase.retrieve.get.GetWorkOrderCommand;
 import soat.fastfood.backstage.application.usecase.retrieve.get.GetWorkOrderUseCase;
+import soat.fastfood.backstage.application.usecase.retrieve.history.GetWorkOrderHistoryCommand;
+import soat.fastfood.backstage.application.usecase.retrieve.history.GetWorkOrderHistoryUseCase;
 import soat.fastfood.backstage.application.usecase.retrieve.list.ListWorkOrderCommand;
+import soat.fastfood.backstage.application.usecase.retrieve.list.ListWorkOrderOutput;
 import soat.fastfood.backstage.application.usecase.retrieve.list.ListWorkOrderUseCase;
+import soat.fastfood.backstage.application.usecase.retrieve.preptotals.GetPrepTotalsUseCase;
+import soat.fastfood.backstage.application.usecase.retrieve.search.SearchWorkOrderCommand;
+import soat.fastfood.backstage.application.usecase.retrieve.search.SearchWorkOrderOutput;
+import soat.fastfood.backstage.application.usecase.retrieve.search.SearchWorkOrderUseCase;
+import soat.fastfood.backstage.application.usecase.retrieve.stream.StreamWorkOrderCommand;
+import soat.fastfood.backstage.application.usecase.retrieve.stream.StreamWorkOrderUseCase;
 import soat.fastfood.backstage.application.usecase.update.UpdateWorkOrderCommand;
 import soat.fastfood.backstage.application.usecase.update.UpdateWorkOrderUseCase;
+import soat.fastfood.backstage.application.usecase.update.batch.BatchUpdateWorkOrderCommand;
+import soat.fastfood.backstage.application.usecase.update.batch.BatchUpdateWorkOrderItemCommand;
+import soat.fastfood.backstage.application.usecase.update.batch.BatchUpdateWorkOrderUseCase;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/work-orders")
 public class WorkOrderController {
 
+    private static final int DEFAULT_PURGE_LIMIT = 1_000;
+
     private final GetWorkOrderUseCase getWorkOrderUseCase;
+    private final GetWorkOrderHistoryUseCase getWorkOrderHistoryUseCase;
     private final ListWorkOrderUseCase listWorkOrderUseCase;
+    private final StreamWorkOrderUseCase streamWorkOrderUseCase;
+    private final SearchWorkOrderUseCase searchWorkOrderUseCase;
+    private final GetPrepTotalsUseCase getPrepTotalsUseCase;
+    private final CountWorkOrderUseCase countWorkOrderUseCase;
     private final UpdateWorkOrderUseCase updateWorkOrderUseCase;
+    private final BatchUpdateWorkOrderUseCase batchUpdateWorkOrderUseCase;
+    private final DeleteWorkOrderUseCase deleteWorkOrderUseCase;
+    private final PurgeWorkOrderUseCase purgeWorkOrderUseCase;
+    private final ListSnapshotCache listSnapshotCache;
+    private final ListResponseCompressor listResponseCompressor;
+    private final WorkOrderChangeNotifier workOrderChangeNotifier;
+    private final JsonMapper jsonMapper;
+
+    @GetMapping("prep-totals")
+    public ResponseEntity<?> prepTotals() {
+        final var outputs = this.getPrepTotalsUseCase.execute();
+        return ResponseEntity.ok(outputs);
+    }
+
+    @GetMapping("counts")
+    public ResponseEntity<?> counts() {
+        final var outputs = this.countWorkOrderUseCase.execute();
+        return ResponseEntity.ok(outputs);
+    }
 
     @GetMapping("{id}")
-    public ResponseEntity<?> getById(@PathVariable String id) {
+    public ResponseEntity<?> getById(@PathVariable String id, WebRequest request) {
         final var output = this.getWorkOrderUseCase.execute(new GetWorkOrderCommand(id));
+        final var eTag = WorkOrderETags.of(output.version());
+        if (request.checkNotModified(eTag))
+            return null;
+
+        return ResponseEntity.ok().eTag(eTag).body(output);
+    }
+
+    @GetMapping("{id}/history")
+    public ResponseEntity<?> history(@PathVariable String id) {
+        final var output = this.getWorkOrderHistoryUseCase.execute(new GetWorkOrderHistoryCommand(id));
         return ResponseEntity.ok(output);
     }
 
+    @GetMapping(value = "{id}", params = "waitForChangeSince")
+    public DeferredResult<ResponseEntity<?>> awaitChange(@PathVariable String id,
+                                                         @RequestParam String waitForChangeSince,
+                                                         @RequestParam(required = false) String timeout) {
+        final var since = WorkOrderChangeNotifier.since(waitForChangeSince);
+        return this.workOrderChangeNotifier.await(
+                List.of(WorkOrderChangeNotifier.idKey(id)),
+                this.workOrderChangeNotifier.timeout(timeout),
+                () -> {
+                    final var output = this.getWorkOrderUseCase.execute(new GetWorkOrderCommand(id));
+                    if (!output.updatedAt().isAfter(since))
+                        return Optional.empty();
+
+                    return Optional.of(ResponseEntity.ok().eTag(WorkOrderETags.of(output.version())).body(output));
+                }
+        );
+    }
+
+    // A list has changed when it holds a work order updated after the watermark, or when its ETag no
+    // longer matches If-None-Match, which also covers work orders that left the list
+    @GetMapping(params = {"status", "waitForChangeSince"})
+    public DeferredResult<ResponseEntity<?>> awaitListChange(@RequestParam("status") List<String> statuses,
+                                                             @RequestParam String waitForChangeSince,
+                                                             @RequestParam(required = false) String timeout,
+                                                             WebRequest request) {
+        final var since = WorkOrderChangeNotifier.since(waitForChangeSince);
+        final var ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        final var keys = statuses.stream()
+                .map(WorkOrderStatus::from)
+                .map(WorkOrderChangeNotifier::statusKey)
+                .distinct()
+                .toList();
+
+        return this.workOrderChangeNotifier.await(keys, this.workOrderChangeNotifier.timeout(timeout), () -> {
+            final var outputs = this.listWorkOrderUseCase.execute(new ListWorkOrderCommand(statuses));
+            final var eTag = WorkOrderETags.of(outputs, ListWorkOrderOutput::id, ListWorkOrderOutput::status, ListWorkOrderOutput::updatedAt);
+            final var changed = (ifNoneMatch != null && !ListResponseCompressor.matches(eTag, ifNoneMatch))
+                    || outputs.stream().anyMatch(output -> output.updatedAt().isAfter(since));
+            if (!changed)
+                return Optional.empty();
+
+            return Optional.of(this.listResponseCompressor.ok(eTag, outputs, request));
+        });
+    }
+
     @GetMapping
-    public ResponseEntity<?> list(@RequestParam("status") String status) {
-        final var outputs = this.listWorkOrderUseCase.execute(new ListWorkOrderCommand(status));
-        return ResponseEntity.ok(outputs);
+    public ResponseEntity<?> list(@RequestParam(value = "status", required = false) List<String> statuses,
+                                  @RequestParam(value = "orderNumber", required = false) String orderNumber,
+                                  WebRequest request) {
+        if (orderNumber != null) {
+            final var outputs = this.searchWorkOrderUseCase.execute(new SearchWorkOrderCommand(orderNumber));
+            final var eTag = WorkOrderETags.of(outputs, SearchWorkOrderOutput::id, SearchWorkOrderOutput::status, SearchWorkOrderOutput::updatedAt);
+            if (request.checkNotModified(eTag))
+                return null;
+
+            return ResponseEntity.ok().eTag(eTag).body(outputs);
+        }
+
+        if (statuses != null && statuses.size() == 1 && ListResponseCompressor.prefersJson(request)) {
+            final var snapshot = this.listSnapshotCache.get(
+                    WorkOrderStatus.from(statuses.getFirst()),
+                    () -> this.listWorkOrderUseCase.execute(new ListWorkOrderCommand(statuses))
+            );
+            if (ListResponseCompressor.checkNotModified(snapshot.eTag(), request))
+                return null;
+
+            return this.listResponseCompressor.ok(snapshot.eTag(), snapshot.json(), request);
+        }
+
+        final var outputs = this.listWorkOrderUseCase.execute(new ListWorkOrderCommand(statuses));
+        final var eTag = WorkOrderETags.of(outputs, ListWorkOrderOutput::id, ListWorkOrderOutput::status, ListWorkOrderOutput::updatedAt);
+        if (ListResponseCompressor.checkNotModified(eTag, request))
+            return null;
+
+        return this.listResponseCompressor.ok(eTag, outputs, request);
+    }
+
+    // Pages are pulled from the GSI while the body is written, one JSON document per line
+    @GetMapping(params = "!orderNumber", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream(@RequestParam(value = "status", required = false) List<String> statuses) {
+        final var pages = this.streamWorkOrderUseCase.execute(new StreamWorkOrderCommand(statuses));
+
+        final StreamingResponseBody body = outputStream -> {
+            try (pages) {
+                pages.forEach(page -> {
+                    try {
+                        for (final var output : page) {
+                            outputStream.write(this.jsonMapper.writeValueAsBytes(output));
+                            outputStream.write('\n');
+                        }
+                        outputStream.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @PutMapping("{id}/status")
-    public ResponseEntity<?> updateStatus(@PathVariable String id, @RequestBody UpdateWorkOrderStatusDto dto) {
-        this.updateWorkOrderUseCase.execute(new UpdateWorkOrderCommand(id, dto.status()));
+    public ResponseEntity<?> updateStatus(@PathVariable String id,
+                                          @RequestBody UpdateWorkOrderStatusDto dto,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        this.updateWorkOrderUseCase.execute(new UpdateWorkOrderCommand(id, dto.status(), WorkOrderETags.version(ifMatch)));
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("status:batch")
+    public ResponseEntity<?> updateStatuses(@RequestBody BatchUpdateWorkOrderStatusDto dto) {
+        final var updates = dto.updates() == null ? List.<BatchUpdateWorkOrderItemCommand>of() : dto.updates().stream()
+                .map(item -> new BatchUpdateWorkOrderItemCommand(item.id(), item.status()))
+                .toList();
+        final var outputs = this.batchUpdateWorkOrderUseCase.execute(
+                new BatchUpdateWorkOrderCommand(updates, Boolean.TRUE.equals(dto.atomic()))
+        );
+        return ResponseEntity.ok(outputs);
+    }
+
+    @DeleteMapping("{id}")
+    public ResponseEntity<?> delete(@PathVariable String id) {
+        this.deleteWorkOrderUseCase.execute(new DeleteWorkOrderCommand(id));
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("purge")
+    public ResponseEntity<?> purge(@RequestBody PurgeWorkOrdersDto dto) {
+        final var output = this.purgeWorkOrderUseCase.execute(new PurgeWorkOrderCommand(
+                dto.status(),
+                dto.createdBefore(),
+                dto.limit() == null ? DEFAULT_PURGE_LIMIT : dto.limit(),
+                dto.checkpoint()
+        ));
+        return ResponseEntity.ok(output);
+    }
+
 }
@@ -0,0 +1,68 @@
+package soat.fastfood.backstage.adapter.inbound.api;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Function;
+
+// Items, orderNumber and createdAt never change after creation and every status change moves
+// updatedAt, so id + status + updatedAt identify the representation of a work order. A single work
+// order is tagged with its version instead, which changes with the status too and can be sent back
+// in If-Match.
+final class WorkOrderETags {
+
+    // Strong comparison: weak tags, lists and anything else that is not one of ours never match
+    private static final long NO_MATCH = -1L;
+
+    private WorkOrderETags() {
+    }
+
+    static String of(final long version) {
+        return "\"" + version + "\"";
+    }
+
+    // Null when any version is accepted, either because there is no If-Match or because it is "*"
+    static Long version(final String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*"))
+            return null;
+
+        final var tag = ifMatch.strip();
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"')
+            return NO_MATCH;
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (final NumberFormatException e) {
+            return NO_MATCH;
+        }
+    }
+
+    static <T> String of(
+            final List<T> outputs,
+            final Function<T, String> id,
+            final Function<T, String> status,
+            final Function<T, Instant> updatedAt
+    ) {
+        final var digest = sha256();
+        for (final var output : outputs) {
+            digest.update(id.apply(output).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(status.apply(output).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(updatedAt.apply(output).toString().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package soat.fastfood.backstage.adapter.inbound.api.coalescing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import soat.fastfood.backstage.adapter.inbound.api.writebehind.WriteBehindUpdateWorkOrderUseCase;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderEvent;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatusChange;
+import soat.fastfood.backstage.application.usecase.retrieve.get.DefaultGetWorkOrderUseCase;
+import soat.fastfood.backstage.application.usecase.retrieve.get.GetWorkOrderCommand;
+import soat.fastfood.backstage.application.usecase.retrieve.get.GetWorkOrderOutput;
+import soat.fastfood.backstage.application.usecase.retrieve.get.GetWorkOrderUseCase;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Primary
+@Component
+public class CoalescingGetWorkOrderUseCase extends GetWorkOrderUseCase {
+
+    private final DefaultGetWorkOrderUseCase delegate;
+    private final SingleFlight<String, GetWorkOrderOutput> singleFlight;
+    private final Optional<WriteBehindUpdateWorkOrderUseCase> writeBehind;
+
+    public CoalescingGetWorkOrderUseCase(
+            final DefaultGetWorkOrderUseCase delegate,
+            final MeterRegistry meterRegistry,
+            @Value("${work-order.coalescing.ttl}") final Duration ttl,
+            final Optional<WriteBehindUpdateWorkOrderUseCase> writeBehind
+    ) {
+        this.delegate = delegate;
+        this.singleFlight = new SingleFlight<>("get-work-order", ttl, meterRegistry);
+        this.writeBehind = writeBehind;
+    }
+
+    @Override
+    public GetWorkOrderOutput execute(final GetWorkOrderCommand command) {
+        final var output = this.singleFlight.execute(command.id(), () -> this.delegate.execute(command));
+        return this.writeBehind
+                .flatMap(buffer -> buffer.pendingStatus(command.id()))
+                .map(change -> withPendingStatus(output, change))
+                .orElse(output);
+    }
+
+    // A buffered status becomes one write, so the stored version will be one ahead; once it is
+    // written, the stored updatedAt catches up and the stored output is returned as is
+    private static GetWorkOrderOutput withPendingStatus(final GetWorkOrderOutput output, final WorkOrderStatusChange change) {
+        if (!change.at().isAfter(output.updatedAt()))
+            return output;
+
+        return new GetWorkOrderOutput(
+                output.id(),
+                output.orderNumber(),
+                output.items(),
+                change.status().name(),
+                output.createdAt(),
+                change.at(),
+                output.version() + 1
+        );
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void on(final WorkOrderEvent event) {
+        this.singleFlight.invalidate(event.workOrderID().getValue());
+    }
+
+}
@@ -0,0 +1,47 @@
+package soat.fastfood.backstage.adapter.inbound.api.coalescing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderEvent;
+import soat.fastfood.backstage.application.usecase.retrieve.list.DefaultListWorkOrderUseCase;
+import soat.fastfood.backstage.application.usecase.retrieve.list.ListWorkOrderCommand;
+import soat.fastfood.backstage.application.usecase.retrieve.list.ListWorkOrderOutput;
+import soat.fastfood.backstage.application.usecase.retrieve.list.ListWorkOrderUseCase;
+
+import java.time.Duration;
+import java.util.List;
+
+@Primary
+@Component
+public class CoalescingListWorkOrderUseCase extends ListWorkOrderUseCase {
+
+    private final DefaultListWorkOrderUseCase delegate;
+    private final SingleFlight<ListWorkOrderCommand, List<ListWorkOrderOutput>> singleFlight;
+
+    public CoalescingListWorkOrderUseCase(
+            final DefaultListWorkOrderUseCase delegate,
+            final MeterRegistry meterRegistry,
+            @Value("${work-order.coalescing.ttl}") final Duration ttl
+    ) {
+        this.delegate = delegate;
+        this.singleFlight = new SingleFlight<>("list-work-orders", ttl, meterRegistry);
+    }
+
+    @Override
+    public List<ListWorkOrderOutput> execute(final ListWorkOrderCommand command) {
+        return this.singleFlight.execute(command, () -> this.delegate.execute(command));
+    }
+
+    // Any write can move a work order between status lists
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void on(final WorkOrderEvent event) {
+        this.singleFlight.invalidateAll();
+    }
+
+}
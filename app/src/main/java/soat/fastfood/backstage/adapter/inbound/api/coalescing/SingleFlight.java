@@ -0,0 +1,120 @@
+package soat.fastfood.backstage.adapter.inbound.api.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Concurrent calls with the same key share one execution. A finished result keeps being served
+// for the configured ttl; a zero ttl only coalesces calls that overlap in time.
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final Counter executed;
+    private final Counter shared;
+    private final Counter cached;
+
+    public SingleFlight(final String name, final Duration ttl, final MeterRegistry meterRegistry) {
+        this.ttlNanos = ttl.toNanos();
+        this.executed = counter(meterRegistry, name, "executed");
+        this.shared = counter(meterRegistry, name, "shared");
+        this.cached = counter(meterRegistry, name, "cached");
+    }
+
+    public V execute(final K key, final Supplier<V> loader) {
+        while (true) {
+            final var current = this.flights.get(key);
+            if (current != null) {
+                if (!current.result().isDone()) {
+                    this.shared.increment();
+                    return await(current.result());
+                }
+                if (!current.result().isCompletedExceptionally() && System.nanoTime() < current.expiresAt()) {
+                    this.cached.increment();
+                    return await(current.result());
+                }
+                this.flights.remove(key, current);
+            }
+
+            final var flight = new Flight<V>(new CompletableFuture<>());
+            if (this.flights.putIfAbsent(key, flight) == null)
+                return this.lead(key, flight, loader);
+        }
+    }
+
+    public void invalidate(final K key) {
+        this.flights.remove(key);
+    }
+
+    public void invalidateAll() {
+        this.flights.clear();
+    }
+
+    private V lead(final K key, final Flight<V> flight, final Supplier<V> loader) {
+        this.executed.increment();
+        try {
+            final var value = loader.get();
+            flight.expiresAt = System.nanoTime() + this.ttlNanos;
+            flight.result().complete(value);
+            if (this.ttlNanos > 0)
+                CompletableFuture.delayedExecutor(this.ttlNanos, TimeUnit.NANOSECONDS)
+                        .execute(() -> this.flights.remove(key, flight));
+            else
+                this.flights.remove(key, flight);
+            return value;
+        } catch (final Throwable e) {
+            // Errors too: a flight that never completes would block every later caller of the key
+            flight.result().completeExceptionally(e);
+            this.flights.remove(key, flight);
+            throw e;
+        }
+    }
+
+    private static <V> V await(final CompletableFuture<V> result) {
+        try {
+            return result.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a coalesced call", e);
+        } catch (final ExecutionException | CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException)
+                throw runtimeException;
+            if (e.getCause() instanceof Error error)
+                throw error;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Counter counter(final MeterRegistry meterRegistry, final String name, final String outcome) {
+        return Counter.builder("backstage.coalescing.calls")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static final class Flight<V> {
+
+        private final CompletableFuture<V> result;
+        private volatile long expiresAt;
+
+        private Flight(final CompletableFuture<V> result) {
+            this.result = result;
+        }
+
+        private CompletableFuture<V> result() {
+            return this.result;
+        }
+
+        private long expiresAt() {
+            return this.expiresAt;
+        }
+    }
+
+}
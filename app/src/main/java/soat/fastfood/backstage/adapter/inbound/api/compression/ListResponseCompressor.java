@@ -0,0 +1,191 @@
+package soat.fastfood.backstage.adapter.inbound.api.compression;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+// List snapshots are identified by their ETag, so the gzip bytes of a snapshot can be reused by
+// every client until the list changes. Smaller bodies and other formats are left to the container.
+// The gzip body is tagged "<etag>-gzip", so shared caches never serve one encoding's bytes for the
+// other, and every response varies on Accept and Accept-Encoding.
+@Component
+public class ListResponseCompressor {
+
+    private static final String GZIP_SUFFIX = "-gzip";
+    private static final String[] VARY = {HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING};
+
+    private static final List<MediaType> BINARY_TYPES = List.of(
+            MediaType.APPLICATION_CBOR,
+            MediaType.valueOf("application/x-jackson-smile")
+    );
+
+    private final JsonMapper jsonMapper;
+    private final int level;
+    private final long minResponseSize;
+    private final Map<String, byte[]> snapshots;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ListResponseCompressor(
+            final JsonMapper jsonMapper,
+            final MeterRegistry meterRegistry,
+            @Value("${work-order.compression.level}") final int level,
+            @Value("${work-order.compression.min-response-size}") final DataSize minResponseSize,
+            @Value("${work-order.compression.snapshot-cache-size}") final int snapshotCacheSize
+    ) {
+        this.jsonMapper = jsonMapper;
+        this.level = level;
+        this.minResponseSize = minResponseSize.toBytes();
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, byte[]> eldest) {
+                return this.size() > snapshotCacheSize;
+            }
+        };
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    public ResponseEntity<?> ok(final String eTag, final Object body, final WebRequest request) {
+        if (!acceptsGzip(request) || !prefersJson(request))
+            return ResponseEntity.ok().eTag(eTag).varyBy(VARY).body(body);
+
+        return this.gzipped(eTag, () -> this.jsonMapper.writeValueAsBytes(body));
+    }
+
+    // For bodies already serialized as JSON, when the caller has checked prefersJson
+    public ResponseEntity<?> ok(final String eTag, final byte[] json, final WebRequest request) {
+        if (!acceptsGzip(request))
+            return identity(eTag, json);
+
+        return this.gzipped(eTag, () -> json);
+    }
+
+    // Both encodings carry the same snapshot, so If-None-Match holding either tag means the client is up
+    // to date; the 304 echoes the tag the client sent
+    public static boolean checkNotModified(final String eTag, final WebRequest request) {
+        final var ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        final var gzipETag = gzipETag(eTag);
+        final var notModified = ifNoneMatch != null && tags(ifNoneMatch).anyMatch(gzipETag::equals)
+                ? request.checkNotModified(gzipETag)
+                : request.checkNotModified(eTag);
+
+        if (notModified && request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null)
+            servletRequest.getResponse().setHeader(HttpHeaders.VARY, String.join(", ", VARY));
+        return notModified;
+    }
+
+    // Same comparison as checkNotModified, for callers that only need to know whether the client holds
+    // the snapshot in either encoding
+    public static boolean matches(final String eTag, final String ifNoneMatch) {
+        final var gzipETag = gzipETag(eTag);
+        return ifNoneMatch != null && tags(ifNoneMatch).anyMatch(tag -> tag.equals(eTag) || tag.equals(gzipETag));
+    }
+
+    // Explicit CBOR or Smile requests go through regular content negotiation
+    public static boolean prefersJson(final WebRequest request) {
+        final var accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank())
+            return true;
+
+        final var mediaTypes = MediaType.parseMediaTypes(accept).stream()
+                .filter(mediaType -> mediaType.getQualityValue() > 0)
+                .toList();
+        return mediaTypes.stream().noneMatch(mediaType -> BINARY_TYPES.stream().anyMatch(mediaType::equalsTypeAndSubtype))
+                && mediaTypes.stream().anyMatch(mediaType -> mediaType.isCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    private ResponseEntity<?> gzipped(final String eTag, final Supplier<byte[]> json) {
+        var compressed = this.find(eTag);
+        if (compressed == null) {
+            final var body = json.get();
+            if (body.length < this.minResponseSize)
+                return identity(eTag, body);
+
+            compressed = this.gzip(body);
+            this.store(eTag, compressed);
+            this.misses.increment();
+        } else {
+            this.hits.increment();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(gzipETag(eTag))
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .varyBy(VARY)
+                .body(compressed);
+    }
+
+    private static ResponseEntity<?> identity(final String eTag, final byte[] json) {
+        return ResponseEntity.ok().eTag(eTag).contentType(MediaType.APPLICATION_JSON).varyBy(VARY).body(json);
+    }
+
+    private static Stream<String> tags(final String ifNoneMatch) {
+        return Arrays.stream(ifNoneMatch.split(",")).map(tag -> tag.strip().replaceFirst("^W/", ""));
+    }
+
+    private static String gzipETag(final String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + GZIP_SUFFIX + "\"";
+    }
+
+    private synchronized byte[] find(final String eTag) {
+        return this.snapshots.get(eTag);
+    }
+
+    private synchronized void store(final String eTag, final byte[] compressed) {
+        this.snapshots.put(eTag, compressed);
+    }
+
+    private byte[] gzip(final byte[] json) {
+        final var buffer = new ByteArrayOutputStream(json.length / 4);
+        try (var gzip = new GZIPOutputStream(buffer) {{ this.def.setLevel(ListResponseCompressor.this.level); }}) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static boolean acceptsGzip(final WebRequest request) {
+        final var acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null)
+            return false;
+
+        for (final var coding : acceptEncoding.split(",")) {
+            final var parts = coding.split(";");
+            final var name = parts[0].trim();
+            if (!"gzip".equalsIgnoreCase(name) && !"*".equals(name))
+                continue;
+
+            return Arrays.stream(parts).skip(1).map(String::trim).noneMatch(param -> param.matches("q=0(\\.0*)?"));
+        }
+        return false;
+    }
+
+    private static Counter counter(final MeterRegistry meterRegistry, final String outcome) {
+        return Counter.builder("backstage.compression.snapshots")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+}
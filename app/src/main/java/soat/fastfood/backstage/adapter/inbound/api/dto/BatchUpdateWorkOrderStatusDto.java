@@ -0,0 +1,9 @@
+package soat.fastfood.backstage.adapter.inbound.api.dto;
+
+import java.util.List;
+
+public record BatchUpdateWorkOrderStatusDto(List<Item> updates, Boolean atomic) {
+
+    public record Item(String id, String status) {
+    }
+}
@@ -0,0 +1,6 @@
+package soat.fastfood.backstage.adapter.inbound.api.dto;
+
+import java.time.Instant;
+
+public record PurgeWorkOrdersDto(String status, Instant createdBefore, Integer limit, String checkpoint) {
+}
@@ -0,0 +1,138 @@
+package soat.fastfood.backstage.adapter.inbound.api.longpoll;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import soat.fastfood.backstage.application.domain.exceptions.DomainException;
+import soat.fastfood.backstage.application.domain.validation.Error;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderEvent;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+// Parks long-poll requests as DeferredResults, so no servlet thread is held while waiting. Every write
+// event re-runs the check of the requests watching that work order or status on a virtual thread.
+@Component
+public class WorkOrderChangeNotifier {
+
+    private final ConcurrentHashMap<String, Set<Runnable>> watchers = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${work-order.long-poll.default-timeout}")
+    private Duration defaultTimeout;
+
+    @Value("${work-order.long-poll.max-timeout}")
+    private Duration maxTimeout;
+
+    public static String idKey(final String id) {
+        return "id:" + id;
+    }
+
+    public static String statusKey(final WorkOrderStatus status) {
+        return "status:" + status.name();
+    }
+
+    public Duration timeout(final String requested) {
+        if (requested == null || requested.isBlank())
+            return this.defaultTimeout;
+
+        final Duration timeout;
+        try {
+            timeout = DurationStyle.detectAndParse(requested);
+        } catch (IllegalArgumentException e) {
+            throw DomainException.with(new Error("'timeout' should be a duration such as 30s"));
+        }
+        if (timeout.isNegative() || timeout.isZero())
+            throw DomainException.with(new Error("'timeout' should be greater than zero"));
+
+        return timeout.compareTo(this.maxTimeout) > 0 ? this.maxTimeout : timeout;
+    }
+
+    public static Instant since(final String waitForChangeSince) {
+        try {
+            return Instant.parse(waitForChangeSince);
+        } catch (DateTimeParseException e) {
+            throw DomainException.with(new Error("'waitForChangeSince' should be an ISO-8601 instant"));
+        }
+    }
+
+    // The check returns a response once the watched resource differs from what the client has seen
+    public DeferredResult<ResponseEntity<?>> await(
+            final List<String> keys,
+            final Duration timeout,
+            final Supplier<Optional<ResponseEntity<?>>> check
+    ) {
+        final var result = new DeferredResult<ResponseEntity<?>>(
+                timeout.toMillis(),
+                () -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).build()
+        );
+        final Runnable poll = () -> {
+            if (result.isSetOrExpired())
+                return;
+            try {
+                check.get().ifPresent(result::setResult);
+            } catch (RuntimeException e) {
+                result.setErrorResult(e);
+            }
+        };
+        final Runnable watcher = () -> this.executor.execute(poll);
+
+        keys.forEach(key -> this.watchers.computeIfAbsent(key, ignored -> ConcurrentHashMap.newKeySet()).add(watcher));
+        result.onCompletion(() -> keys.forEach(key -> this.watchers.computeIfPresent(key, (ignored, set) -> {
+            set.remove(watcher);
+            return set.isEmpty() ? null : set;
+        })));
+
+        // Checked only after registering, so a write between the first read and the registration is not missed
+        poll.run();
+        return result;
+    }
+
+    // StatusChanged and Deleted do not carry the status the work order left, so every list watcher re-checks.
+    // Runs after the coalescing caches have dropped their entries, so re-checks see the write.
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void on(final WorkOrderEvent event) {
+        this.signal(idKey(event.workOrderID().getValue()));
+        switch (event) {
+            case WorkOrderEvent.Created created -> this.signal(statusKey(created.workOrder().getStatus()));
+            case WorkOrderEvent.StatusChanged ignored -> this.signalAllStatuses();
+            case WorkOrderEvent.Deleted ignored -> this.signalAllStatuses();
+        }
+    }
+
+    private void signalAllStatuses() {
+        Arrays.stream(WorkOrderStatus.values())
+                .map(WorkOrderChangeNotifier::statusKey)
+                .forEach(this::signal);
+    }
+
+    private void signal(final String key) {
+        final var watching = this.watchers.get(key);
+        if (watching != null)
+            watching.forEach(Runnable::run);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+}
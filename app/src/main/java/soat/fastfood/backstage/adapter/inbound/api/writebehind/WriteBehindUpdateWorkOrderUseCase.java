@@ -0,0 +1,290 @@
+package soat.fastfood.backstage.adapter.inbound.api.writebehind;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import soat.fastfood.backstage.application.domain.exceptions.DomainException;
+import soat.fastfood.backstage.application.domain.exceptions.InvalidStatusTransitionException;
+import soat.fastfood.backstage.application.domain.utils.InstantUtils;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatusChange;
+import soat.fastfood.backstage.application.usecase.retrieve.get.GetWorkOrderCommand;
+import soat.fastfood.backstage.application.usecase.retrieve.get.GetWorkOrderUseCase;
+import soat.fastfood.backstage.application.usecase.update.DefaultUpdateWorkOrderUseCase;
+import soat.fastfood.backstage.application.usecase.update.UpdateWorkOrderCommand;
+import soat.fastfood.backstage.application.usecase.update.UpdateWorkOrderUseCase;
+import soat.fastfood.backstage.application.usecase.update.coalesced.ApplyWorkOrderStatusChangesCommand;
+import soat.fastfood.backstage.application.usecase.update.coalesced.ApplyWorkOrderStatusChangesUseCase;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Holds status updates of a work order for a fixed window from the first one and then writes and
+// notifies only the last status; PREPARING followed by READY becomes one write and one notification,
+// while the history still gets both changes. The first change of a window is checked against the
+// stored work order, read through the coalescing cache, so an unknown order or an illegal transition
+// is still answered at once; later changes are checked against the buffered status. Storage checks
+// again when the window closes: a rejection at that point (a write from another pod in between) is
+// logged and counted, not returned. Updates with If-Match, and every update during shutdown, go
+// straight to storage after the buffered ones of the same order.
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "work-order.write-behind.enabled", havingValue = "true")
+public class WriteBehindUpdateWorkOrderUseCase extends UpdateWorkOrderUseCase {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final DefaultUpdateWorkOrderUseCase delegate;
+    private final ApplyWorkOrderStatusChangesUseCase applyStatusChangesUseCase;
+    private final GetWorkOrderUseCase getWorkOrderUseCase;
+    private final long windowNanos;
+    private final Duration shutdownTimeout;
+    private final ConcurrentHashMap<String, Pending> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("write-behind-timer").daemon().factory()
+    );
+    private final ExecutorService flushers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter buffered;
+    private final Counter coalesced;
+    private final Counter writes;
+    private final Counter failed;
+    private final ReadWriteLock lifecycle = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    public WriteBehindUpdateWorkOrderUseCase(
+            final DefaultUpdateWorkOrderUseCase delegate,
+            final ApplyWorkOrderStatusChangesUseCase applyStatusChangesUseCase,
+            // Lazy because the coalescing read use case looks up this buffer to show pending statuses
+            @Lazy final GetWorkOrderUseCase getWorkOrderUseCase,
+            final MeterRegistry meterRegistry,
+            @Value("${work-order.write-behind.window}") final Duration window,
+            @Value("${work-order.write-behind.shutdown-timeout}") final Duration shutdownTimeout
+    ) {
+        this.delegate = delegate;
+        this.applyStatusChangesUseCase = applyStatusChangesUseCase;
+        this.getWorkOrderUseCase = getWorkOrderUseCase;
+        this.windowNanos = window.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+        this.buffered = Counter.builder("backstage.write-behind.updates").tag("outcome", "buffered").register(meterRegistry);
+        this.coalesced = Counter.builder("backstage.write-behind.updates").tag("outcome", "coalesced").register(meterRegistry);
+        this.writes = Counter.builder("backstage.write-behind.writes").tag("outcome", "written").register(meterRegistry);
+        this.failed = Counter.builder("backstage.write-behind.writes").tag("outcome", "failed").register(meterRegistry);
+        Gauge.builder("backstage.write-behind.pending", this.pending, ConcurrentHashMap::size).register(meterRegistry);
+    }
+
+    @Override
+    public void execute(final UpdateWorkOrderCommand command) {
+        final var status = WorkOrderStatus.from(command.status());
+        if (command.expectedVersion() == null && this.buffer(command.id(), status))
+            return;
+
+        this.awaitPending(command.id());
+        this.delegate.execute(command);
+    }
+
+    // False when the update has to go straight to storage. Windows are installed and scheduled under
+    // the read lock and shutdown closes the buffer under the write lock, so every window either exists
+    // before shutdown flushes the pending ones or is never opened.
+    private boolean buffer(final String id, final WorkOrderStatus status) {
+        this.lifecycle.readLock().lock();
+        try {
+            if (this.closed)
+                return false;
+
+            final var change = new WorkOrderStatusChange(status, InstantUtils.now());
+            while (true) {
+                final var current = this.pending.get(id);
+                if (current != null && current.append(change)) {
+                    this.coalesced.increment();
+                    return true;
+                }
+
+                // Nothing is buffered and the stored status is unknown, so a status that no other status
+                // leads to can only be checked by storage
+                if (current == null && status.predecessors().isEmpty())
+                    return false;
+                if (current == null)
+                    this.checkStored(id, status);
+                if (current != null && !current.accepts(change))
+                    return true;
+
+                final var next = new Pending(id, current, change);
+                final var installed = current == null
+                        ? this.pending.putIfAbsent(id, next) == null
+                        : this.pending.replace(id, current, next);
+                if (installed) {
+                    this.buffered.increment();
+                    this.timer.schedule(() -> this.flushers.execute(() -> this.flush(next)), this.windowNanos, TimeUnit.NANOSECONDS);
+                    return true;
+                }
+            }
+        } finally {
+            this.lifecycle.readLock().unlock();
+        }
+    }
+
+    // Same rule as WorkOrder.updateStatus, against the stored status; an unknown work order throws NotFoundException
+    private void checkStored(final String id, final WorkOrderStatus status) {
+        final var stored = WorkOrderStatus.from(this.getWorkOrderUseCase.execute(new GetWorkOrderCommand(id)).status());
+        if (stored != status && !stored.canTransitionTo(status))
+            throw InvalidStatusTransitionException.with(WorkOrder.class, WorkOrderID.from(id), stored.name(), status.name());
+    }
+
+    // The last buffered change, until it is written; reads use it to see their own writes
+    public Optional<WorkOrderStatusChange> pendingStatus(final String id) {
+        final var current = this.pending.get(id);
+        return current == null ? Optional.empty() : Optional.of(current.last());
+    }
+
+    // A window whose timer already fired may fail to hand its flush to the closed executor; it is still
+    // in the pending map, so the loop below flushes it
+    @PreDestroy
+    public void shutdown() {
+        this.lifecycle.writeLock().lock();
+        try {
+            this.closed = true;
+        } finally {
+            this.lifecycle.writeLock().unlock();
+        }
+
+        this.timer.shutdownNow();
+        this.pending.values().forEach(current -> this.flushers.execute(() -> this.flush(current)));
+        this.flushers.shutdown();
+        try {
+            if (!this.flushers.awaitTermination(this.shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS))
+                log.error("Write-behind buffer not flushed within {}, {} work orders left unwritten",
+                        this.shutdownTimeout, this.pending.size());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitPending(final String id) {
+        final var current = this.pending.get(id);
+        if (current == null)
+            return;
+
+        this.flush(current);
+        current.written().join();
+    }
+
+    private void flush(final Pending current) {
+        final var changes = current.close();
+        if (changes == null)
+            return;
+
+        try {
+            current.awaitPrevious();
+            this.write(current.id(), changes);
+        } finally {
+            this.pending.remove(current.id(), current);
+            current.written().complete(null);
+        }
+    }
+
+    private void write(final String id, final List<WorkOrderStatusChange> changes) {
+        for (var attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                this.applyStatusChangesUseCase.execute(new ApplyWorkOrderStatusChangesCommand(id, changes));
+                this.writes.increment();
+                return;
+            } catch (final DomainException e) {
+                log.error("Buffered status changes {} of work order {} rejected: {}", changes, id, e.getMessage());
+                break;
+            } catch (final RuntimeException e) {
+                log.warn("Failed to write buffered status changes of work order {}, attempt {}", id, attempt, e);
+            }
+        }
+        this.failed.increment();
+    }
+
+    private static final class Pending {
+
+        private final String id;
+        private Pending previous;
+        private final List<WorkOrderStatusChange> changes = new ArrayList<>(2);
+        private final CompletableFuture<Void> written = new CompletableFuture<>();
+        private boolean closed;
+
+        private Pending(final String id, final Pending previous, final WorkOrderStatusChange first) {
+            this.id = id;
+            this.previous = previous;
+            this.changes.add(first);
+        }
+
+        String id() {
+            return this.id;
+        }
+
+        // Windows of the same work order are written in order; the link is dropped afterwards so
+        // a busy order does not keep a chain of finished windows alive
+        void awaitPrevious() {
+            final Pending before;
+            synchronized (this) {
+                before = this.previous;
+            }
+            if (before == null)
+                return;
+
+            before.written().join();
+            synchronized (this) {
+                this.previous = null;
+            }
+        }
+
+        CompletableFuture<Void> written() {
+            return this.written;
+        }
+
+        synchronized WorkOrderStatusChange last() {
+            return this.changes.getLast();
+        }
+
+        // False once the changes are being written; the caller then starts a new window after them
+        synchronized boolean append(final WorkOrderStatusChange change) {
+            if (this.closed)
+                return false;
+            if (this.accepts(change))
+                this.changes.add(change);
+            return true;
+        }
+
+        // Repeating the buffered status is a no-op; anything else has to follow it
+        synchronized boolean accepts(final WorkOrderStatusChange change) {
+            final var last = this.changes.getLast().status();
+            if (last == change.status())
+                return false;
+            if (!last.canTransitionTo(change.status()))
+                throw InvalidStatusTransitionException.with(WorkOrder.class, WorkOrderID.from(this.id), last.name(), change.status().name());
+            return true;
+        }
+
+        synchronized List<WorkOrderStatusChange> close() {
+            if (this.closed)
+                return null;
+            this.closed = true;
+            return List.copyOf(this.changes);
+        }
+    }
+
+}
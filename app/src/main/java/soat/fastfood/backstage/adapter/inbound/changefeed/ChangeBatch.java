@@ -0,0 +1,7 @@
+package soat.fastfood.backstage.adapter.inbound.changefeed;
+
+import java.util.List;
+
+// finished is set once a closed shard has no more records to return
+public record ChangeBatch(List<ChangeRecord> records, boolean finished) {
+}
@@ -0,0 +1,121 @@
+package soat.fastfood.backstage.adapter.inbound.changefeed;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import soat.fastfood.backstage.adapter.common.EventReplay;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Turns the table change feed into local WorkOrderEvents, so views converge on writes from every pod
+// and from manual fixes. Records of a key stay in order: shards are read one at a time and a child
+// shard is only read once its parent is drained. On startup, views are loaded from the table, so open
+// shards start at the tip and closed ones are skipped; shards created afterwards are read from the start.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "work-order.change-feed.enabled", havingValue = "true")
+public class ChangeFeedConsumer {
+
+    private final ChangeStream changeStream;
+    private final CheckpointStore checkpointStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long shardRefreshNanos;
+    private final Map<String, ChangeStream.ShardReader> readers = new HashMap<>();
+    private final Set<String> finished = new HashSet<>();
+    private final Counter delivered;
+    private List<ChangeShard> shards;
+    private long shardsRefreshedAt;
+    private boolean shardsStale;
+    private Set<String> startedAtTip;
+
+    public ChangeFeedConsumer(
+            final ChangeStream changeStream,
+            final CheckpointStore checkpointStore,
+            final ApplicationEventPublisher eventPublisher,
+            final MeterRegistry meterRegistry,
+            @Value("${work-order.change-feed.shard-refresh-interval}") final Duration shardRefreshInterval
+    ) {
+        this.changeStream = changeStream;
+        this.checkpointStore = checkpointStore;
+        this.eventPublisher = eventPublisher;
+        this.shardRefreshNanos = shardRefreshInterval.toNanos();
+        this.delivered = Counter.builder("backstage.change-feed.records").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${work-order.change-feed.poll-interval}")
+    public synchronized void poll() {
+        try {
+            this.refreshShards();
+            for (final var shard : this.shards) {
+                if (this.readable(shard))
+                    this.read(shard);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll the change feed, resuming from the last checkpoints: {}", e.getMessage());
+            this.readers.clear();
+            this.shards = null;
+        }
+    }
+
+    private void refreshShards() {
+        if (this.shards != null && !this.shardsStale && System.nanoTime() - this.shardsRefreshedAt < this.shardRefreshNanos)
+            return;
+
+        this.shards = this.changeStream.shards();
+        this.shardsRefreshedAt = System.nanoTime();
+        this.shardsStale = false;
+        if (this.startedAtTip != null)
+            return;
+
+        this.startedAtTip = new HashSet<>();
+        for (final var shard : this.shards) {
+            if (shard.closed())
+                this.finished.add(shard.id());
+            else
+                this.startedAtTip.add(shard.id());
+        }
+    }
+
+    // Parents missing from the listing have been trimmed, so there is nothing left to wait for
+    private boolean readable(final ChangeShard shard) {
+        if (this.finished.contains(shard.id()))
+            return false;
+        if (shard.parentId() == null || this.finished.contains(shard.parentId()))
+            return true;
+        return this.shards.stream().noneMatch(candidate -> candidate.id().equals(shard.parentId()));
+    }
+
+    private void read(final ChangeShard shard) {
+        final var reader = this.readers.computeIfAbsent(shard.id(), ignored -> this.changeStream.open(
+                shard,
+                this.checkpointStore.find(shard.id()).orElse(null),
+                this.startedAtTip.contains(shard.id())
+        ));
+
+        final var batch = reader.next();
+        for (final var record : batch.records()) {
+            if (record.event() != null) {
+                EventReplay.run(() -> this.eventPublisher.publishEvent(record.event()));
+                this.delivered.increment();
+            }
+            this.checkpointStore.save(shard.id(), record.sequenceNumber());
+        }
+
+        if (batch.finished()) {
+            this.finished.add(shard.id());
+            this.readers.remove(shard.id());
+            this.shardsStale = true;
+        }
+    }
+
+}
@@ -0,0 +1,7 @@
+package soat.fastfood.backstage.adapter.inbound.changefeed;
+
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderEvent;
+
+// A null event marks a record that changed nothing the views care about; it is still checkpointed.
+public record ChangeRecord(String sequenceNumber, WorkOrderEvent event) {
+}
@@ -0,0 +1,4 @@
+package soat.fastfood.backstage.adapter.inbound.changefeed;
+
+public record ChangeShard(String id, String parentId, boolean closed) {
+}
@@ -0,0 +1,16 @@
+package soat.fastfood.backstage.adapter.inbound.changefeed;
+
+import java.util.List;
+
+public interface ChangeStream {
+
+    List<ChangeShard> shards();
+
+    // Reads after the checkpoint when there is one, otherwise from the oldest record or from the tip
+    ShardReader open(ChangeShard shard, String checkpoint, boolean fromLatest);
+
+    interface ShardReader {
+        ChangeBatch next();
+    }
+
+}
@@ -0,0 +1,11 @@
+package soat.fastfood.backstage.adapter.inbound.changefeed;
+
+import java.util.Optional;
+
+public interface CheckpointStore {
+
+    Optional<String> find(String shardId);
+
+    void save(String shardId, String sequenceNumber);
+
+}
@@ -0,0 +1,25 @@
+package soat.fastfood.backstage.adapter.inbound.changefeed;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Every pod reads the whole feed to keep its own in-memory views, and those views are rebuilt on
+// startup, so checkpoints only have to outlive a reader that failed or whose iterator expired.
+@Component
+public class InMemoryCheckpointStore implements CheckpointStore {
+
+    private final ConcurrentHashMap<String, String> checkpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<String> find(final String shardId) {
+        return Optional.ofNullable(this.checkpoints.get(shardId));
+    }
+
+    @Override
+    public void save(final String shardId, final String sequenceNumber) {
+        this.checkpoints.put(shardId, sequenceNumber);
+    }
+
+}
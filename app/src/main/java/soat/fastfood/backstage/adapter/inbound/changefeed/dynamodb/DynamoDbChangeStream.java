@@ -0,0 +1,148 @@
+package soat.fastfood.backstage.adapter.inbound.changefeed.dynamodb;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import soat.fastfood.backstage.adapter.inbound.changefeed.ChangeBatch;
+import soat.fastfood.backstage.adapter.inbound.changefeed.ChangeRecord;
+import soat.fastfood.backstage.adapter.inbound.changefeed.ChangeShard;
+import soat.fastfood.backstage.adapter.inbound.changefeed.ChangeStream;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.mapper.WorkOrderDynamoDBMapper;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.model.WorkOrderDynamoDB;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.service.WorkOrderDynamoDBService;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderEvent;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DescribeStreamRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetRecordsRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetShardIteratorRequest;
+import software.amazon.awssdk.services.dynamodb.model.Record;
+import software.amazon.awssdk.services.dynamodb.model.ShardIteratorType;
+import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Reads the work-orders table stream, which must be enabled with NEW_AND_OLD_IMAGES.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "work-order.change-feed.source", havingValue = "dynamodb", matchIfMissing = true)
+public class DynamoDbChangeStream implements ChangeStream {
+
+    private static final int MAX_RECORDS = 1000;
+    private static final TableSchema<WorkOrderDynamoDB> SCHEMA = TableSchema.fromBean(WorkOrderDynamoDB.class);
+
+    private final DynamoDbClient dynamoDbClient;
+    private final DynamoDbStreamsClient streamsClient;
+    private volatile String streamArn;
+
+    public DynamoDbChangeStream(final DynamoDbClient dynamoDbClient, final DynamoDbStreamsClient streamsClient) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.streamsClient = streamsClient;
+    }
+
+    @Override
+    public List<ChangeShard> shards() {
+        final var shards = new ArrayList<ChangeShard>();
+        String exclusiveStartShardId = null;
+        do {
+            final var description = this.streamsClient.describeStream(DescribeStreamRequest.builder()
+                    .streamArn(this.streamArn())
+                    .exclusiveStartShardId(exclusiveStartShardId)
+                    .build()).streamDescription();
+            description.shards().forEach(shard -> shards.add(new ChangeShard(
+                    shard.shardId(),
+                    shard.parentShardId(),
+                    shard.sequenceNumberRange().endingSequenceNumber() != null
+            )));
+            exclusiveStartShardId = description.lastEvaluatedShardId();
+        } while (exclusiveStartShardId != null);
+        return shards;
+    }
+
+    @Override
+    public ShardReader open(final ChangeShard shard, final String checkpoint, final boolean fromLatest) {
+        final var request = GetShardIteratorRequest.builder()
+                .streamArn(this.streamArn())
+                .shardId(shard.id());
+        if (checkpoint != null)
+            request.shardIteratorType(ShardIteratorType.AFTER_SEQUENCE_NUMBER).sequenceNumber(checkpoint);
+        else
+            request.shardIteratorType(fromLatest ? ShardIteratorType.LATEST : ShardIteratorType.TRIM_HORIZON);
+
+        final var iterator = this.streamsClient.getShardIterator(request.build()).shardIterator();
+        return new ShardReader() {
+            private String next = iterator;
+
+            @Override
+            public ChangeBatch next() {
+                if (this.next == null)
+                    return new ChangeBatch(List.of(), true);
+
+                final var response = DynamoDbChangeStream.this.streamsClient.getRecords(GetRecordsRequest.builder()
+                        .shardIterator(this.next)
+                        .limit(MAX_RECORDS)
+                        .build());
+                this.next = response.nextShardIterator();
+                final var records = response.records().stream()
+                        .map(DynamoDbChangeStream::toChangeRecord)
+                        .toList();
+                return new ChangeBatch(records, this.next == null);
+            }
+        };
+    }
+
+    private String streamArn() {
+        if (this.streamArn == null)
+            this.streamArn = this.dynamoDbClient.describeTable(builder -> builder.tableName(WorkOrderDynamoDBService.TABLE_NAME))
+                    .table()
+                    .latestStreamArn();
+        return this.streamArn;
+    }
+
+    private static ChangeRecord toChangeRecord(final Record record) {
+        final var change = record.dynamodb();
+        final var id = change.keys().get("id").s();
+        if (WorkOrderDynamoDBService.isInternalId(id))
+            return new ChangeRecord(change.sequenceNumber(), null);
+
+        final WorkOrderEvent event = switch (record.eventName()) {
+            case INSERT -> new WorkOrderEvent.Created(toDomain(change.newImage()));
+            case MODIFY -> statusChange(id, change.oldImage(), change.newImage());
+            case REMOVE -> new WorkOrderEvent.Deleted(WorkOrderID.from(id));
+            default -> {
+                log.warn("Ignoring stream record with unknown operation {}", record.eventNameAsString());
+                yield null;
+            }
+        };
+        return new ChangeRecord(change.sequenceNumber(), event);
+    }
+
+    private static WorkOrderEvent statusChange(
+            final String id,
+            final Map<String, AttributeValue> oldImage,
+            final Map<String, AttributeValue> newImage
+    ) {
+        final var status = newImage.get("status").s();
+        if (oldImage.containsKey("status") && status.equals(oldImage.get("status").s()))
+            return null;
+
+        return new WorkOrderEvent.StatusChanged(
+                WorkOrderID.from(id),
+                WorkOrderStatus.from(status),
+                Instant.parse(newImage.get("updatedAt").s()),
+                newImage.containsKey("version") ? Long.parseLong(newImage.get("version").n()) : 0L
+        );
+    }
+
+    private static WorkOrder toDomain(final Map<String, AttributeValue> image) {
+        return WorkOrderDynamoDBMapper.toDomain(SCHEMA.mapToItem(image));
+    }
+
+}
@@ -0,0 +1,86 @@
+package soat.fastfood.backstage.adapter.inbound.changefeed.memory;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import soat.fastfood.backstage.adapter.inbound.changefeed.ChangeBatch;
+import soat.fastfood.backstage.adapter.inbound.changefeed.ChangeRecord;
+import soat.fastfood.backstage.adapter.inbound.changefeed.ChangeShard;
+import soat.fastfood.backstage.adapter.inbound.changefeed.ChangeStream;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.service.WorkOrderDynamoDBService;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Stand-in for DynamoDB Streams in tests and local runs: events appended here are read back through the
+// same shard, checkpoint and ordering logic. split() closes the open shard and starts a child, as
+// DynamoDB does when it reshards. Records of internal items carry no event, as in the DynamoDB stream.
+@Component
+@ConditionalOnProperty(name = "work-order.change-feed.source", havingValue = "in-memory")
+public class InMemoryChangeStream implements ChangeStream {
+
+    private final List<Shard> shards = new ArrayList<>();
+    private long sequence;
+
+    public InMemoryChangeStream() {
+        this.shards.add(new Shard("shard-0", null));
+    }
+
+    public synchronized void append(final WorkOrderEvent event) {
+        final var internal = WorkOrderDynamoDBService.isInternalId(event.workOrderID().getValue());
+        this.shards.getLast().records.add(new ChangeRecord("%020d".formatted(++this.sequence), internal ? null : event));
+    }
+
+    public synchronized void split() {
+        final var parent = this.shards.getLast();
+        parent.closed = true;
+        this.shards.add(new Shard("shard-" + this.shards.size(), parent.id));
+    }
+
+    @Override
+    public synchronized List<ChangeShard> shards() {
+        return this.shards.stream()
+                .map(shard -> new ChangeShard(shard.id, shard.parentId, shard.closed))
+                .toList();
+    }
+
+    @Override
+    public synchronized ShardReader open(final ChangeShard changeShard, final String checkpoint, final boolean fromLatest) {
+        final var shard = this.shards.stream()
+                .filter(candidate -> candidate.id.equals(changeShard.id()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown shard: " + changeShard.id()));
+
+        final int start;
+        if (checkpoint != null)
+            start = (int) shard.records.stream().filter(record -> record.sequenceNumber().compareTo(checkpoint) <= 0).count();
+        else
+            start = fromLatest ? shard.records.size() : 0;
+
+        return new ShardReader() {
+            private int position = start;
+
+            @Override
+            public ChangeBatch next() {
+                synchronized (InMemoryChangeStream.this) {
+                    final var records = List.copyOf(shard.records.subList(this.position, shard.records.size()));
+                    this.position = shard.records.size();
+                    return new ChangeBatch(records, shard.closed);
+                }
+            }
+        };
+    }
+
+    private static final class Shard {
+        private final String id;
+        private final String parentId;
+        private final List<ChangeRecord> records = new ArrayList<>();
+        private boolean closed;
+
+        private Shard(final String id, final String parentId) {
+            this.id = id;
+            this.parentId = parentId;
+        }
+    }
+
+}
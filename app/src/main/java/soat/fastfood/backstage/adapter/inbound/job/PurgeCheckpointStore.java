@@ -0,0 +1,111 @@
+package soat.fastfood.backstage.adapter.inbound.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.service.WorkOrderDynamoDBService;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+// Purge checkpoints live in internal items of the work-orders table, one per status. The item also
+// holds a lease, so only one pod purges a status at a time and a crashed pod's checkpoint is picked
+// up by the next one once the lease expires.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "work-order.purge.enabled", havingValue = "true")
+public class PurgeCheckpointStore {
+
+    private static final String ID_PREFIX = WorkOrderDynamoDBService.INTERNAL_ID_PREFIX + "purge#";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String owner = UUID.randomUUID().toString();
+
+    public PurgeCheckpointStore(final DynamoDbClient dynamoDbClient) {
+        this.dynamoDbClient = dynamoDbClient;
+    }
+
+    public record Lease(String status, String checkpoint) {
+    }
+
+    public Optional<Lease> acquire(final String status, final Duration duration) {
+        final var now = Instant.now();
+        try {
+            final var item = this.dynamoDbClient.updateItem(UpdateItemRequest.builder()
+                    .tableName(WorkOrderDynamoDBService.TABLE_NAME)
+                    .key(key(status))
+                    .updateExpression("SET leaseOwner = :owner, leaseUntil = :until")
+                    .conditionExpression("attribute_not_exists(leaseUntil) OR leaseUntil < :now OR leaseOwner = :owner")
+                    .expressionAttributeValues(Map.of(
+                            ":owner", AttributeValue.fromS(this.owner),
+                            ":until", millis(now.plus(duration)),
+                            ":now", millis(now)
+                    ))
+                    .returnValues(ReturnValue.ALL_NEW)
+                    .build()).attributes();
+
+            final var checkpoint = item.get("checkpoint");
+            return Optional.of(new Lease(status, checkpoint == null ? null : checkpoint.s()));
+        } catch (final ConditionalCheckFailedException e) {
+            log.debug("Purge of {} work orders is leased by another pod", status);
+            return Optional.empty();
+        }
+    }
+
+    // Fails when the lease was lost, so the caller stops before purging alongside another pod
+    public void save(final Lease lease, final String checkpoint, final Duration duration) {
+        final var values = new HashMap<String, AttributeValue>();
+        values.put(":owner", AttributeValue.fromS(this.owner));
+        values.put(":until", millis(Instant.now().plus(duration)));
+
+        var expression = "SET leaseUntil = :until REMOVE checkpoint";
+        if (checkpoint != null) {
+            expression = "SET leaseUntil = :until, checkpoint = :checkpoint";
+            values.put(":checkpoint", AttributeValue.fromS(checkpoint));
+        }
+
+        try {
+            this.dynamoDbClient.updateItem(UpdateItemRequest.builder()
+                    .tableName(WorkOrderDynamoDBService.TABLE_NAME)
+                    .key(key(lease.status()))
+                    .updateExpression(expression)
+                    .conditionExpression("leaseOwner = :owner")
+                    .expressionAttributeValues(values)
+                    .build());
+        } catch (final ConditionalCheckFailedException e) {
+            throw new IllegalStateException("Lease on the purge of %s work orders was lost".formatted(lease.status()), e);
+        }
+    }
+
+    public void release(final Lease lease) {
+        try {
+            this.dynamoDbClient.updateItem(UpdateItemRequest.builder()
+                    .tableName(WorkOrderDynamoDBService.TABLE_NAME)
+                    .key(key(lease.status()))
+                    .updateExpression("REMOVE leaseOwner, leaseUntil")
+                    .conditionExpression("leaseOwner = :owner")
+                    .expressionAttributeValues(Map.of(":owner", AttributeValue.fromS(this.owner)))
+                    .build());
+        } catch (final ConditionalCheckFailedException e) {
+            log.debug("Lease on the purge of {} work orders was already taken over", lease.status());
+        }
+    }
+
+    private static Map<String, AttributeValue> key(final String status) {
+        return Map.of("id", AttributeValue.fromS(ID_PREFIX + status));
+    }
+
+    private static AttributeValue millis(final Instant instant) {
+        return AttributeValue.fromN(Long.toString(instant.toEpochMilli()));
+    }
+
+}
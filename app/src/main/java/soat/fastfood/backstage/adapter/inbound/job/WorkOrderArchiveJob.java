@@ -0,0 +1,56 @@
+package soat.fastfood.backstage.adapter.inbound.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import soat.fastfood.backstage.application.domain.utils.InstantUtils;
+import soat.fastfood.backstage.application.usecase.archive.ArchiveWorkOrderCommand;
+import soat.fastfood.backstage.application.usecase.archive.ArchiveWorkOrderUseCase;
+
+import java.time.Duration;
+
+// Every replica may run the job; deletes are conditional on the status, so overlapping runs
+// only archive the same order twice, which overwrites the same archive item.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "work-order.retention.archive.enabled", havingValue = "true")
+public class WorkOrderArchiveJob {
+
+    private final ArchiveWorkOrderUseCase archiveWorkOrderUseCase;
+    private final Duration archiveAfter;
+    private final int batchSize;
+
+    // A TTL that is not longer than the archive age lets DynamoDB delete completed orders before the job
+    // copies them, and those deletes never reach the archive
+    public WorkOrderArchiveJob(
+            final ArchiveWorkOrderUseCase archiveWorkOrderUseCase,
+            @Value("${work-order.retention.archive.after}") final Duration archiveAfter,
+            @Value("${work-order.retention.archive.batch-size}") final int batchSize,
+            @Value("${work-order.retention.completed-ttl}") final Duration completedTtl
+    ) {
+        if (completedTtl.isPositive() && completedTtl.compareTo(archiveAfter) <= 0)
+            throw new IllegalStateException("work-order.retention.completed-ttl (%s) must be longer than work-order.retention.archive.after (%s)"
+                    .formatted(completedTtl, archiveAfter));
+
+        this.archiveWorkOrderUseCase = archiveWorkOrderUseCase;
+        this.archiveAfter = archiveAfter;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${work-order.retention.archive.interval}",
+            fixedDelayString = "${work-order.retention.archive.interval}"
+    )
+    public void archive() {
+        try {
+            this.archiveWorkOrderUseCase.execute(new ArchiveWorkOrderCommand(
+                    InstantUtils.now().minus(this.archiveAfter), this.batchSize
+            ));
+        } catch (final RuntimeException e) {
+            log.warn("Work order archival failed, retrying on the next run", e);
+        }
+    }
+
+}
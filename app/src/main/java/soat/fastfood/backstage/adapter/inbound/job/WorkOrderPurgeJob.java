@@ -0,0 +1,78 @@
+package soat.fastfood.backstage.adapter.inbound.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import soat.fastfood.backstage.application.domain.utils.InstantUtils;
+import soat.fastfood.backstage.application.usecase.delete.purge.PurgeWorkOrderCommand;
+import soat.fastfood.backstage.application.usecase.delete.purge.PurgeWorkOrderUseCase;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+// Purges old work orders status by status, saving the checkpoint after every batch so a run that
+// stops halfway (limit reached, pod restarted, lease lost) resumes where it left off.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "work-order.purge.enabled", havingValue = "true")
+public class WorkOrderPurgeJob {
+
+    private final PurgeWorkOrderUseCase purgeWorkOrderUseCase;
+    private final PurgeCheckpointStore checkpointStore;
+
+    @Value("${work-order.purge.statuses}")
+    private List<String> statuses;
+
+    @Value("${work-order.purge.after}")
+    private Duration purgeAfter;
+
+    @Value("${work-order.purge.batch-size}")
+    private int batchSize;
+
+    @Value("${work-order.purge.max-per-run}")
+    private int maxPerRun;
+
+    @Value("${work-order.purge.lease}")
+    private Duration leaseDuration;
+
+    @Scheduled(
+            initialDelayString = "${work-order.purge.interval}",
+            fixedDelayString = "${work-order.purge.interval}"
+    )
+    public void purge() {
+        final var createdBefore = InstantUtils.now().minus(this.purgeAfter);
+        for (final var status : this.statuses) {
+            try {
+                this.checkpointStore.acquire(status, this.leaseDuration)
+                        .ifPresent(lease -> this.purge(lease, createdBefore));
+            } catch (final RuntimeException e) {
+                log.warn("Purge of {} work orders failed, resuming from the checkpoint on the next run", status, e);
+            }
+        }
+    }
+
+    private void purge(final PurgeCheckpointStore.Lease lease, final Instant createdBefore) {
+        var checkpoint = lease.checkpoint();
+        var purged = 0;
+        try {
+            do {
+                final var output = this.purgeWorkOrderUseCase.execute(new PurgeWorkOrderCommand(
+                        lease.status(), createdBefore, Math.min(this.batchSize, this.maxPerRun - purged), checkpoint
+                ));
+                purged += output.purged();
+                checkpoint = output.checkpoint();
+                this.checkpointStore.save(lease, checkpoint, this.leaseDuration);
+            } while (checkpoint != null && purged < this.maxPerRun);
+        } finally {
+            this.checkpointStore.release(lease);
+        }
+
+        log.info("Purge run removed {} {} work orders (finished: {})", purged, lease.status(), checkpoint == null);
+    }
+
+}
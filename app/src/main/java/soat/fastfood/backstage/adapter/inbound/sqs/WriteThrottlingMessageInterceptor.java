@@ -0,0 +1,29 @@
+package soat.fastfood.backstage.adapter.inbound.sqs;
+
+import io.awspring.cloud.sqs.listener.interceptor.MessageInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.throttle.AdaptiveWriteLimiter;
+
+import java.time.Duration;
+
+// Holds incoming messages while DynamoDB is throttling writes. A held message keeps its slot in the
+// listener container, so once every slot is taken the container stops polling the queue.
+@Component
+@RequiredArgsConstructor
+public class WriteThrottlingMessageInterceptor implements MessageInterceptor<Object> {
+
+    private final AdaptiveWriteLimiter writeLimiter;
+
+    @Value("${work-order.write-limiter.ingestion-max-pause}")
+    private Duration maxPause;
+
+    @Override
+    public Message<Object> intercept(final Message<Object> message) {
+        this.writeLimiter.awaitUnthrottled(this.maxPause);
+        return message;
+    }
+
+}
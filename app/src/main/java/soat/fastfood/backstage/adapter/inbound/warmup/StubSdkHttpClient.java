@@ -0,0 +1,66 @@
+package soat.fastfood.backstage.adapter.inbound.warmup;
+
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiFunction;
+
+public class StubSdkHttpClient implements SdkHttpClient {
+
+    private static final String TARGET_HEADER = "X-Amz-Target";
+
+    private final BiFunction<String, String, String> responder;
+
+    public StubSdkHttpClient(final BiFunction<String, String, String> responder) {
+        this.responder = responder;
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(final HttpExecuteRequest request) {
+        final var target = request.httpRequest().firstMatchingHeader(TARGET_HEADER).orElse("");
+        final var requestBody = request.contentStreamProvider()
+                .map(provider -> read(provider.newStream()))
+                .orElse("");
+
+        return new ExecutableHttpRequest() {
+            @Override
+            public HttpExecuteResponse call() {
+                final var body = responder.apply(target, requestBody).getBytes(StandardCharsets.UTF_8);
+                return HttpExecuteResponse.builder()
+                        .response(SdkHttpResponse.builder()
+                                .statusCode(200)
+                                .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                .putHeader("Content-Length", String.valueOf(body.length))
+                                .build())
+                        .responseBody(AbortableInputStream.create(new ByteArrayInputStream(body)))
+                        .build();
+            }
+
+            @Override
+            public void abort() {
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static String read(final InputStream stream) {
+        try (stream) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
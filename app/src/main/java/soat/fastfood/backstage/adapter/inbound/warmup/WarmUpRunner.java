@@ -0,0 +1,238 @@
+package soat.fastfood.backstage.adapter.inbound.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import soat.fastfood.backstage.adapter.common.Data;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.mapper.WorkOrderDynamoDBMapper;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.model.WorkOrderDynamoDB;
+import soat.fastfood.backstage.adapter.outbound.sqs.dto.WorkOrderStatusNotification;
+import soat.fastfood.backstage.application.domain.utils.IdUtils;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.usecase.retrieve.get.GetWorkOrderOutput;
+import soat.fastfood.backstage.application.usecase.retrieve.list.ListWorkOrderOutput;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final String TABLE_NAME = "work-orders";
+    private static final String STUB_ENDPOINT = "http://localhost";
+    private static final String STUB_QUEUE_URL = "http://localhost/000000000000/warm-up";
+
+    private static final String STUB_ITEM = """
+            {"id":{"S":"warm-up"},"orderNumber":{"S":"1"},"status":{"S":"RECEIVED"},\
+            "createdAt":{"S":"2026-01-01T00:00:00Z"},"updatedAt":{"S":"2026-01-01T00:00:00Z"},\
+            "items":{"L":[{"M":{"name":{"S":"Burger"},"quantity":{"N":"2"}}},{"M":{"name":{"S":"Fries"},"quantity":{"N":"1"}}}]}}""";
+
+    private static final List<WorkOrderItem> ITEMS = List.of(
+            WorkOrderItem.create("Burger", 2),
+            WorkOrderItem.create("Fries", 1),
+            WorkOrderItem.create("Soda", 2)
+    );
+
+    @Value("${warm-up.enabled}")
+    private boolean enabled;
+
+    @Value("${warm-up.iterations}")
+    private int iterations;
+
+    @Value("${warm-up.time-budget}")
+    private Duration timeBudget;
+
+    @Value("${warm-up.connections}")
+    private int connections;
+
+    @Value("${work-order.dynamodb.compact-items}")
+    private boolean compactItems;
+
+    @Value("${message.order-status}")
+    private String queue;
+
+    private final ObjectMapper objectMapper;
+    private final JsonMapper jsonMapper;
+    private final DynamoDbClient dynamoDbClient;
+    private final SqsClient sqsClient;
+    private final MeterRegistry meterRegistry;
+
+    // Readiness only switches to ACCEPTING_TRAFFIC after every ApplicationRunner returns,
+    // so the probe stays down while the JIT compiles the paths exercised here.
+    @Override
+    public void run(final ApplicationArguments args) {
+        if (!this.enabled) {
+            log.info("Warm-up disabled");
+            return;
+        }
+
+        final var start = System.nanoTime();
+        final var deadline = start + this.timeBudget.toNanos();
+
+        this.preOpenConnections();
+        final var executed = this.runSyntheticTraffic(deadline);
+
+        final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+        Timer.builder("backstage.warmup.duration")
+                .description("Time spent warming up before accepting traffic")
+                .register(this.meterRegistry)
+                .record(elapsed);
+        this.meterRegistry.counter("backstage.warmup.iterations").increment(executed);
+
+        log.info("Warm-up finished: {} of {} iterations in {} ms", executed, this.iterations, elapsed.toMillis());
+    }
+
+    // A connection goes back to the pool as soon as its call returns, so the GetItems are sent at the same
+    // time, one per virtual thread, for the pool to open one connection each. They go straight to the
+    // client: through the service, the misses would feed the latency window that sets the hedging delay.
+    private void preOpenConnections() {
+        final var start = new CountDownLatch(1);
+        final var calls = new ArrayList<Future<?>>(this.connections);
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < this.connections; i++) {
+                final var request = GetItemRequest.builder()
+                        .tableName(TABLE_NAME)
+                        .key(Map.of("id", AttributeValue.fromS("warm-up-" + i)))
+                        .build();
+                calls.add(executor.submit(() -> {
+                    start.await();
+                    return this.dynamoDbClient.getItem(request);
+                }));
+            }
+            start.countDown();
+        }
+
+        for (final var call : calls) {
+            try {
+                call.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final ExecutionException e) {
+                log.warn("Warm-up could not reach DynamoDB: {}", e.getCause().getMessage());
+                break;
+            }
+        }
+
+        try {
+            this.sqsClient.getQueueUrl(GetQueueUrlRequest.builder().queueName(this.queue).build());
+        } catch (final Exception e) {
+            log.warn("Warm-up could not reach SQS: {}", e.getMessage());
+        }
+    }
+
+    private int runSyntheticTraffic(final long deadline) {
+        final var credentials = StaticCredentialsProvider.create(AwsBasicCredentials.create("warm-up", "warm-up"));
+
+        try (final var dynamoDbClient = DynamoDbClient.builder()
+                .httpClient(new StubSdkHttpClient((target, body) -> dynamoDbResponse(target)))
+                .endpointOverride(URI.create(STUB_ENDPOINT))
+                .region(Region.US_EAST_1)
+                .credentialsProvider(credentials)
+                .build();
+             final var sqsClient = SqsClient.builder()
+                     .httpClient(new StubSdkHttpClient(this::sqsResponse))
+                     .endpointOverride(URI.create(STUB_ENDPOINT))
+                     .region(Region.US_EAST_1)
+                     .credentialsProvider(credentials)
+                     .build()) {
+
+            final var table = DynamoDbEnhancedClient.builder()
+                    .dynamoDbClient(dynamoDbClient)
+                    .build()
+                    .table(TABLE_NAME, TableSchema.fromBean(WorkOrderDynamoDB.class));
+
+            int executed = 0;
+            while (executed < this.iterations && System.nanoTime() < deadline) {
+                this.iterate(executed, table, sqsClient);
+                executed++;
+            }
+            return executed;
+        } catch (final Exception e) {
+            log.warn("Warm-up aborted: {}", e.getMessage(), e);
+            return 0;
+        }
+    }
+
+    private void iterate(final int iteration, final DynamoDbTable<WorkOrderDynamoDB> table, final SqsClient sqsClient) throws Exception {
+        final var workOrder = WorkOrder.create(IdUtils.uuid(), String.valueOf(iteration % 1000), ITEMS);
+        final var entity = WorkOrderDynamoDBMapper.fromDomain(workOrder, this.compactItems);
+        final var mapped = WorkOrderDynamoDBMapper.toDomain(entity);
+
+        this.jsonMapper.writeValueAsBytes(List.of(ListWorkOrderOutput.from(mapped), ListWorkOrderOutput.from(workOrder)));
+        this.jsonMapper.writeValueAsBytes(GetWorkOrderOutput.from(mapped));
+
+        table.putItem(entity);
+        final var retrieved = table.getItem(Key.builder().partitionValue(entity.getId()).build());
+        WorkOrderDynamoDBMapper.toDomain(retrieved);
+        table.index("StatusCreatedAtIndex")
+                .query(QueryConditional.keyEqualTo(Key.builder().partitionValue(WorkOrderStatus.RECEIVED.name()).build()))
+                .stream()
+                .flatMap(page -> page.items().stream())
+                .forEach(WorkOrderDynamoDBMapper::toDomain);
+
+        final var notification = new WorkOrderStatusNotification(entity.getId(), WorkOrderStatus.PREPARING.name());
+        sqsClient.sendMessage(SendMessageRequest.builder()
+                .queueUrl(STUB_QUEUE_URL)
+                .messageBody(this.objectMapper.writeValueAsString(new Data<>(notification)))
+                .build());
+    }
+
+    private static String dynamoDbResponse(final String target) {
+        if (target.endsWith(".GetItem"))
+            return "{\"Item\":" + STUB_ITEM + "}";
+        if (target.endsWith(".Query"))
+            return "{\"Count\":1,\"ScannedCount\":1,\"Items\":[" + STUB_ITEM + "]}";
+        return "{}";
+    }
+
+    private String sqsResponse(final String target, final String body) {
+        if (!target.endsWith(".SendMessage"))
+            return "{}";
+        try {
+            final var messageBody = this.objectMapper.readTree(body).path("MessageBody").asText();
+            final var md5 = MessageDigest.getInstance("MD5").digest(messageBody.getBytes(StandardCharsets.UTF_8));
+            return "{\"MessageId\":\"warm-up\",\"MD5OfMessageBody\":\"" + HexFormat.of().formatHex(md5) + "\"}";
+        } catch (final NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package soat.fastfood.backstage.adapter.outbound.dynamodb;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.mapper.WorkOrderDynamoDBMapper;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.service.WorkOrderArchiveDynamoDBService;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.port.WorkOrderArchivePort;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class WorkOrderArchiveDynamoDBAdapter implements WorkOrderArchivePort {
+
+    private final WorkOrderArchiveDynamoDBService service;
+
+    @Override
+    public Optional<WorkOrder> findById(final WorkOrderID workOrderID) {
+        return this.service.findById(workOrderID.getValue()).map(WorkOrderDynamoDBMapper::toDomain);
+    }
+
+    // Archived items are always stored compact, they are read one at a time and never listed
+    @Override
+    public void saveAll(final List<WorkOrder> workOrders) {
+        this.service.saveAll(workOrders.stream()
+                .map(workOrder -> WorkOrderDynamoDBMapper.fromDomain(workOrder, true))
+                .toList());
+    }
+
+}
@@ -0,0 +1,32 @@
+package soat.fastfood.backstage.adapter.outbound.dynamodb;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.service.WorkOrderDynamoDBService;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+
+import java.util.Arrays;
+
+// Backfills the status counters once for tables that existed before the counter items were introduced.
+// Runs while the context is refreshing, so before the web server, the SQS listeners and the scheduled jobs
+// start: the backfill resets every shard, and a write landing between the count and the reset would be lost.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkOrderCountsInitializer implements InitializingBean {
+
+    private final WorkOrderDynamoDBService service;
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            if (!this.service.isCountsInitialized())
+                this.service.initializeCounts(Arrays.stream(WorkOrderStatus.values()).map(Enum::name).toList());
+        } catch (final RuntimeException e) {
+            log.warn("Failed to initialize work order counts", e);
+        }
+    }
+
+}
@@ -2,31 +2,80 @@ package soat.fastfood.backstage.adapter.outbound.dynamodb;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.codec.StatusHistoryEntries;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.index.ActiveOrderNumberIndex;
 import soat.fastfood.backstage.adapter.outbound.dynamodb.mapper.WorkOrderDynamoDBMapper;
 import soat.fastfood.backstage.adapter.outbound.dynamodb.service.WorkOrderDynamoDBService;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.service.WorkOrderDynamoDBService.StoredStatus;
+import soat.fastfood.backstage.application.domain.exceptions.InvalidStatusTransitionException;
+import soat.fastfood.backstage.application.domain.exceptions.NotFoundException;
+import soat.fastfood.backstage.application.domain.exceptions.PreconditionFailedException;
+import soat.fastfood.backstage.application.domain.utils.InstantUtils;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderCursor;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderEvent;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatusChange;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatusUpdateResult;
 import soat.fastfood.backstage.application.port.WorkOrderPort;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
 
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class WorkOrderDynamoDBAdapter implements WorkOrderPort {
 
+    private static final int STREAM_PAGE_SIZE = 100;
+
     private final WorkOrderDynamoDBService service;
+    private final ActiveOrderNumberIndex activeOrderNumberIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${work-order.dynamodb.compact-items}")
+    private boolean compactItems;
+
+    @Value("${work-order.batch.parallelism}")
+    private int batchParallelism;
+
+    @Value("${work-order.counts.cache-ttl}")
+    private Duration countsCacheTtl;
+
+    private volatile CachedCounts cachedCounts;
 
     @Override
     public void create(final WorkOrder workOrder) {
-        this.service.saveOrder(WorkOrderDynamoDBMapper.fromDomain(workOrder));
+        if (this.service.saveOrder(WorkOrderDynamoDBMapper.fromDomain(workOrder, this.compactItems)))
+            this.eventPublisher.publishEvent(new WorkOrderEvent.Created(workOrder));
     }
 
     @Override
     public Optional<WorkOrder> findById(final WorkOrderID workOrderID) {
+        if (WorkOrderDynamoDBService.isInternalId(workOrderID.getValue()))
+            return Optional.empty();
+
         return this.service.findById(workOrderID.getValue()).map(WorkOrderDynamoDBMapper::toDomain);
     }
 
@@ -37,14 +86,350 @@ public class WorkOrderDynamoDBAdapter implements WorkOrderPort {
                 .toList();
     }
 
+    @Override
+    public List<WorkOrder> findAllByStatuses(final List<WorkOrderStatus> statuses) {
+        final List<List<WorkOrder>> partitions;
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var queries = statuses.stream()
+                    .map(status -> executor.submit(() -> this.findAllByStatus(status)))
+                    .toList();
+            partitions = queries.stream().map(WorkOrderDynamoDBAdapter::await).toList();
+        }
+
+        return mergeByCreatedAt(partitions);
+    }
+
+    @Override
+    public Stream<List<WorkOrder>> streamAllByStatuses(final List<WorkOrderStatus> statuses) {
+        final var partitions = statuses.stream()
+                .map(status -> this.service.streamByStatus(status.name())
+                        .map(page -> page.stream().map(WorkOrderDynamoDBMapper::toDomain).toList()))
+                .toList();
+
+        if (partitions.size() == 1)
+            return partitions.getFirst();
+
+        // Partitions are merged item by item and regrouped into pages, pulling the next GSI page of a
+        // partition only when its current one has been consumed
+        final var merged = new MergingIterator(partitions.stream()
+                .map(pages -> pages.flatMap(List::stream).iterator())
+                .toList());
+        final var pages = Stream.iterate(
+                merged.nextPage(STREAM_PAGE_SIZE),
+                page -> !page.isEmpty(),
+                page -> merged.nextPage(STREAM_PAGE_SIZE)
+        );
+        return pages.onClose(() -> partitions.forEach(Stream::close));
+    }
+
+    // Each StatusCreatedAtIndex partition is already ordered by createdAt, so a k-way merge
+    // keeps the combined list ordered without sorting it again.
+    private static List<WorkOrder> mergeByCreatedAt(final List<List<WorkOrder>> partitions) {
+        final var merged = new MergingIterator(partitions.stream().map(List::iterator).toList());
+        return merged.nextPage(partitions.stream().mapToInt(List::size).sum());
+    }
+
+    private static <T> T await(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying work orders", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException)
+                throw runtimeException;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public List<WorkOrder> findAllByStatusCreatedBefore(final WorkOrderStatus status, final Instant createdBefore,
+                                                        final int limit, final WorkOrderCursor after) {
+        return this.service.findByStatusCreatedBefore(
+                        status.name(),
+                        createdBefore.toString(),
+                        limit,
+                        after == null ? null : after.createdAt().toString(),
+                        after == null ? null : after.workOrderID().getValue()
+                ).stream()
+                .map(WorkOrderDynamoDBMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Map<WorkOrderStatus, Long> countAllByStatus() {
+        final var cached = this.cachedCounts;
+        if (cached != null && System.nanoTime() < cached.expiresAt())
+            return cached.counts();
+
+        final var stored = this.service.findCounts();
+        final var counts = new EnumMap<WorkOrderStatus, Long>(WorkOrderStatus.class);
+        for (final var status : WorkOrderStatus.values())
+            counts.put(status, Math.max(0L, stored.getOrDefault(status.name(), 0L)));
+
+        final var snapshot = Collections.unmodifiableMap(counts);
+        this.cachedCounts = new CachedCounts(snapshot, System.nanoTime() + this.countsCacheTtl.toNanos());
+        return snapshot;
+    }
+
+    @Override
+    public List<WorkOrderStatusChange> findHistory(final WorkOrderID workOrderID) {
+        return this.service.findHistory(workOrderID.getValue()).stream()
+                .map(StatusHistoryEntries::decode)
+                .toList();
+    }
+
+    @Override
+    public List<WorkOrder> findByOrderNumber(final String orderNumber) {
+        final var indexed = this.activeOrderNumberIndex.find(orderNumber);
+        if (indexed.isPresent())
+            return indexed.get();
+
+        final var workOrders = this.service.findByOrderNumber(orderNumber).stream()
+                .map(WorkOrderDynamoDBMapper::toDomain)
+                .toList();
+
+        // Completed orders go through the index too, so entries it still holds for them are evicted
+        workOrders.forEach(this.activeOrderNumberIndex::put);
+        return workOrders.stream()
+                .filter(workOrder -> workOrder.getStatus() != WorkOrderStatus.COMPLETED)
+                .toList();
+    }
+
     @Override
     public void updateStatus(final WorkOrderID workOrderID, final WorkOrderStatus status) {
-        this.service.updateStatus(workOrderID.getValue(), status.name());
+        this.applyStatusChanges(workOrderID, List.of(new WorkOrderStatusChange(status, InstantUtils.now())), null);
+    }
+
+    @Override
+    public void updateStatus(final WorkOrderID workOrderID, final WorkOrderStatus status, final long expectedVersion) {
+        this.applyStatusChanges(workOrderID, List.of(new WorkOrderStatusChange(status, InstantUtils.now())), expectedVersion);
+    }
+
+    @Override
+    public void applyStatusChanges(final WorkOrderID workOrderID, final List<WorkOrderStatusChange> changes) {
+        this.applyStatusChanges(workOrderID, changes, null);
+    }
+
+    // Consecutive changes are written at once: the stored status must precede the first one, the item gets
+    // the last one and every change goes to the history. Changes the stored status already reflects are
+    // dropped, so repeating the current status is a no-op: nothing is written and no event is published.
+    // A version mismatch wins over an invalid transition, as the caller acted on a stale copy.
+    private void applyStatusChanges(final WorkOrderID workOrderID, final List<WorkOrderStatusChange> changes, final Long expectedVersion) {
+        var pending = changes;
+        while (!pending.isEmpty()) {
+            final var last = pending.getLast();
+            final var update = this.service.updateStatus(
+                    workOrderID.getValue(),
+                    last.status().name(),
+                    predecessors(pending.getFirst().status()),
+                    expectedVersion,
+                    last.at().toString(),
+                    pending.stream().map(change -> StatusHistoryEntries.encode(change.status().name(), change.at())).toList()
+            );
+            if (update.previousStatus() == null)
+                throw NotFoundException.with(WorkOrder.class, workOrderID);
+            if (update.applied()) {
+                this.eventPublisher.publishEvent(new WorkOrderEvent.StatusChanged(workOrderID, last.status(), last.at(), update.currentVersion()));
+                return;
+            }
+            if (expectedVersion != null && expectedVersion != update.currentVersion())
+                throw PreconditionFailedException.with(WorkOrder.class, workOrderID, expectedVersion, update.currentVersion());
+
+            final var reached = this.indexOfStatus(pending, update.previousStatus());
+            if (reached < 0)
+                throw InvalidStatusTransitionException.with(WorkOrder.class, workOrderID, update.previousStatus(), last.status().name());
+            pending = pending.subList(reached + 1, pending.size());
+        }
+    }
+
+    private int indexOfStatus(final List<WorkOrderStatusChange> changes, final String status) {
+        for (var i = changes.size() - 1; i >= 0; i--) {
+            if (changes.get(i).status().name().equals(status))
+                return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public Map<WorkOrderID, WorkOrderStatusUpdateResult> updateStatuses(final Map<WorkOrderID, WorkOrderStatus> statuses, final boolean atomic) {
+        return atomic ? this.updateStatusesInTransaction(statuses) : this.updateStatusesConcurrently(statuses);
+    }
+
+    private Map<WorkOrderID, WorkOrderStatusUpdateResult> updateStatusesInTransaction(final Map<WorkOrderID, WorkOrderStatus> statuses) {
+        final var workOrderIDs = List.copyOf(statuses.keySet());
+        final var current = this.service.findStatuses(workOrderIDs.stream().map(WorkOrderID::getValue).toList());
+
+        // Every transition is checked before writing, so the whole batch is rejected without a transaction.
+        // Work orders already in the requested status are left out of it and reported as updated
+        final var rejected = new LinkedHashMap<WorkOrderID, WorkOrderStatusUpdateResult>();
+        final var changed = new ArrayList<WorkOrderID>(workOrderIDs.size());
+        for (final var workOrderID : workOrderIDs) {
+            final var previous = current.get(workOrderID.getValue());
+            final var status = statuses.get(workOrderID);
+            if (previous == null)
+                rejected.put(workOrderID, WorkOrderStatusUpdateResult.NOT_FOUND);
+            else if (!previous.status().equals(status.name()) && !WorkOrderStatus.from(previous.status()).canTransitionTo(status))
+                rejected.put(workOrderID, WorkOrderStatusUpdateResult.CONFLICT);
+            else if (!previous.status().equals(status.name()))
+                changed.add(workOrderID);
+        }
+
+        final var results = new LinkedHashMap<WorkOrderID, WorkOrderStatusUpdateResult>();
+        if (!rejected.isEmpty()) {
+            workOrderIDs.forEach(workOrderID -> results.put(
+                    workOrderID, rejected.getOrDefault(workOrderID, WorkOrderStatusUpdateResult.ABORTED)
+            ));
+            return results;
+        }
+
+        final var updatedAt = InstantUtils.now();
+        if (!changed.isEmpty()) {
+            final var previousById = new LinkedHashMap<String, StoredStatus>();
+            final var statusesById = new LinkedHashMap<String, String>();
+            changed.forEach(workOrderID -> {
+                previousById.put(workOrderID.getValue(), current.get(workOrderID.getValue()));
+                statusesById.put(workOrderID.getValue(), statuses.get(workOrderID).name());
+            });
+
+            try {
+                this.service.updateStatusesInTransaction(previousById, statusesById, updatedAt.toString());
+            } catch (final TransactionCanceledException e) {
+                // Cancellation reasons follow the order of the actions in the request; a failed
+                // condition means the work order changed after it was read
+                final var reasons = e.cancellationReasons();
+                workOrderIDs.forEach(workOrderID -> results.put(workOrderID, WorkOrderStatusUpdateResult.ABORTED));
+                for (var i = 0; i < changed.size(); i++) {
+                    if (i < reasons.size() && "ConditionalCheckFailed".equals(reasons.get(i).code()))
+                        results.put(changed.get(i), WorkOrderStatusUpdateResult.FAILED);
+                }
+                log.warn("Batch status update transaction cancelled for {} work orders", workOrderIDs.size());
+                return results;
+            }
+        }
+
+        workOrderIDs.forEach(workOrderID -> results.put(workOrderID, WorkOrderStatusUpdateResult.UPDATED));
+        changed.forEach(workOrderID -> this.eventPublisher.publishEvent(
+                new WorkOrderEvent.StatusChanged(
+                        workOrderID, statuses.get(workOrderID), updatedAt, current.get(workOrderID.getValue()).version() + 1
+                )
+        ));
+        return results;
+    }
+
+    private Map<WorkOrderID, WorkOrderStatusUpdateResult> updateStatusesConcurrently(final Map<WorkOrderID, WorkOrderStatus> statuses) {
+        final var results = new ConcurrentHashMap<WorkOrderID, WorkOrderStatusUpdateResult>();
+        final var permits = new Semaphore(this.batchParallelism);
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            statuses.forEach((workOrderID, status) -> executor.submit(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    this.updateStatus(workOrderID, status);
+                    results.put(workOrderID, WorkOrderStatusUpdateResult.UPDATED);
+                } catch (final NotFoundException e) {
+                    results.put(workOrderID, WorkOrderStatusUpdateResult.NOT_FOUND);
+                } catch (final InvalidStatusTransitionException e) {
+                    results.put(workOrderID, WorkOrderStatusUpdateResult.CONFLICT);
+                } catch (final RuntimeException e) {
+                    log.warn("Failed to update work order {} to status {}", workOrderID.getValue(), status, e);
+                    results.put(workOrderID, WorkOrderStatusUpdateResult.FAILED);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        return results;
+    }
+
+    private static List<String> predecessors(final WorkOrderStatus status) {
+        return status.predecessors().stream().map(WorkOrderStatus::name).sorted().toList();
     }
 
     @Override
     public void deleteById(final WorkOrderID workOrderID) {
+        if (WorkOrderDynamoDBService.isInternalId(workOrderID.getValue()))
+            return;
+
         this.service.deleteById(workOrderID.getValue());
+        this.eventPublisher.publishEvent(new WorkOrderEvent.Deleted(workOrderID));
+    }
+
+    @Override
+    public int deleteAll(final List<WorkOrder> workOrders) {
+        final var statusesById = new LinkedHashMap<String, String>();
+        workOrders.forEach(workOrder -> statusesById.put(workOrder.getId().getValue(), workOrder.getStatus().name()));
+
+        final var deleted = this.service.deleteAll(statusesById);
+        workOrders.forEach(workOrder -> this.eventPublisher.publishEvent(new WorkOrderEvent.Deleted(workOrder.getId())));
+        return deleted;
+    }
+
+    @Override
+    public List<WorkOrderID> deleteAllByStatus(final List<WorkOrderID> workOrderIDs, final WorkOrderStatus status) {
+        final var deleted = this.service.deleteAllWithStatus(
+                workOrderIDs.stream().map(WorkOrderID::getValue).toList(),
+                status.name()
+        ).stream().map(WorkOrderID::from).toList();
+
+        deleted.forEach(workOrderID -> this.eventPublisher.publishEvent(new WorkOrderEvent.Deleted(workOrderID)));
+        return deleted;
+    }
+
+    private record CachedCounts(Map<WorkOrderStatus, Long> counts, long expiresAt) {
+    }
+
+    private static final class MergingIterator {
+
+        private final PriorityQueue<PeekingIterator> heads;
+
+        private MergingIterator(final List<Iterator<WorkOrder>> partitions) {
+            this.heads = new PriorityQueue<>(
+                    Math.max(1, partitions.size()),
+                    Comparator.comparing(iterator -> iterator.peek().getCreatedAt())
+            );
+            partitions.stream()
+                    .filter(Iterator::hasNext)
+                    .map(PeekingIterator::new)
+                    .forEach(this.heads::add);
+        }
+
+        private List<WorkOrder> nextPage(final int size) {
+            final var page = new ArrayList<WorkOrder>();
+            while (page.size() < size && !this.heads.isEmpty()) {
+                final var head = this.heads.poll();
+                page.add(head.next());
+                if (head.hasNext())
+                    this.heads.add(head);
+            }
+            return page;
+        }
+    }
+
+    private static final class PeekingIterator {
+
+        private final Iterator<WorkOrder> iterator;
+        private WorkOrder next;
+
+        private PeekingIterator(final Iterator<WorkOrder> iterator) {
+            this.iterator = iterator;
+            this.next = iterator.next();
+        }
+
+        private WorkOrder peek() {
+            return this.next;
+        }
+
+        private boolean hasNext() {
+            return this.next != null;
+        }
+
+        private WorkOrder next() {
+            final var current = this.next;
+            this.next = this.iterator.hasNext() ? this.iterator.next() : null;
+            return current;
+        }
     }
 
 }
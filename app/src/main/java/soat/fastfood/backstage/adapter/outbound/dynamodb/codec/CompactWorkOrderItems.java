@@ -0,0 +1,167 @@
+package soat.fastfood.backstage.adapter.outbound.dynamodb.codec;
+
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+// Binary layout: [version][varint count] then per item [varint name length + 1][UTF-8 name][varint zigzag quantity + 1].
+// A zero length or quantity marks a null value. Only the header is read until an element is accessed.
+public final class CompactWorkOrderItems extends AbstractList<WorkOrderItem> {
+
+    private static final byte VERSION = 1;
+
+    private final byte[] bytes;
+    private final int size;
+    private final int offset;
+
+    private volatile WorkOrderItem[] decoded;
+
+    private CompactWorkOrderItems(final byte[] bytes) {
+        if (bytes.length == 0 || bytes[0] != VERSION)
+            throw new IllegalArgumentException("Unsupported compact items version");
+
+        final var cursor = new int[]{1};
+        final var size = readVarint(bytes, cursor);
+        // Every item takes at least two bytes, so a larger count can only come from a corrupted header
+        if (size < 0 || size > (bytes.length - cursor[0]) / 2)
+            throw new IllegalArgumentException("Compact items declare " + Long.toUnsignedString(size)
+                    + " items but only have " + (bytes.length - cursor[0]) + " bytes left");
+
+        this.bytes = bytes;
+        this.size = (int) size;
+        this.offset = cursor[0];
+    }
+
+    public static List<WorkOrderItem> decode(final byte[] bytes) {
+        return new CompactWorkOrderItems(bytes);
+    }
+
+    public static byte[] encode(final List<WorkOrderItem> items) {
+        final var buffer = new Buffer(16 + items.size() * 16);
+        buffer.write(VERSION);
+        buffer.writeVarint(items.size());
+
+        for (final var item : items) {
+            if (item.getName() == null) {
+                buffer.writeVarint(0);
+            } else {
+                final var name = item.getName().getBytes(StandardCharsets.UTF_8);
+                buffer.writeVarint(name.length + 1L);
+                buffer.write(name);
+            }
+
+            final var quantity = item.getQuantity();
+            buffer.writeVarint(quantity == null ? 0 : zigzag(quantity) + 1);
+        }
+
+        return buffer.toByteArray();
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public WorkOrderItem get(final int index) {
+        return this.items()[index];
+    }
+
+    private WorkOrderItem[] items() {
+        var items = this.decoded;
+        if (items == null) {
+            items = this.decodeAll();
+            this.decoded = items;
+        }
+        return items;
+    }
+
+    private WorkOrderItem[] decodeAll() {
+        final var items = new WorkOrderItem[this.size];
+        final var cursor = new int[]{this.offset};
+
+        for (var i = 0; i < this.size; i++) {
+            final var nameLength = readVarint(this.bytes, cursor);
+            String name = null;
+            if (nameLength != 0) {
+                if (nameLength < 0 || nameLength - 1 > this.bytes.length - cursor[0])
+                    throw new IllegalArgumentException("Compact item " + i + " has a name of " + (nameLength - 1)
+                            + " bytes but only " + (this.bytes.length - cursor[0]) + " bytes are left");
+                name = new String(this.bytes, cursor[0], (int) nameLength - 1, StandardCharsets.UTF_8);
+                cursor[0] += (int) nameLength - 1;
+            }
+
+            final var quantity = readVarint(this.bytes, cursor);
+            if (quantity < 0 || quantity > 0x1_0000_0000L)
+                throw new IllegalArgumentException("Compact item " + i + " has a quantity out of the int range");
+            items[i] = WorkOrderItem.create(name, quantity == 0 ? null : unzigzag(quantity - 1));
+        }
+
+        return items;
+    }
+
+    private static long zigzag(final int value) {
+        return Integer.toUnsignedLong((value << 1) ^ (value >> 31));
+    }
+
+    private static int unzigzag(final long value) {
+        final var encoded = (int) value;
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+
+    private static long readVarint(final byte[] bytes, final int[] cursor) {
+        long value = 0;
+        for (var shift = 0; shift < 64; shift += 7) {
+            if (cursor[0] >= bytes.length)
+                throw new IllegalArgumentException("Compact items truncated at byte " + cursor[0]);
+            final var current = bytes[cursor[0]++];
+            value |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0)
+                return value;
+        }
+        throw new IllegalArgumentException("Malformed varint in compact items");
+    }
+
+    private static final class Buffer {
+
+        private byte[] bytes;
+        private int length;
+
+        private Buffer(final int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        private void write(final byte value) {
+            this.ensureCapacity(1);
+            this.bytes[this.length++] = value;
+        }
+
+        private void write(final byte[] values) {
+            this.ensureCapacity(values.length);
+            System.arraycopy(values, 0, this.bytes, this.length, values.length);
+            this.length += values.length;
+        }
+
+        private void writeVarint(long value) {
+            this.ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                this.bytes[this.length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            this.bytes[this.length++] = (byte) value;
+        }
+
+        private void ensureCapacity(final int extra) {
+            if (this.length + extra > this.bytes.length)
+                this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2, this.length + extra));
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(this.bytes, this.length);
+        }
+    }
+
+}
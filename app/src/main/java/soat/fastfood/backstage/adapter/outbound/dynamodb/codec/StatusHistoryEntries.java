@@ -0,0 +1,32 @@
+package soat.fastfood.backstage.adapter.outbound.dynamodb.codec;
+
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatusChange;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+// One history entry per string: "<STATUS>@<epoch micros>", e.g. "READY@1768905300123456"
+public final class StatusHistoryEntries {
+
+    private static final char SEPARATOR = '@';
+
+    private StatusHistoryEntries() {
+    }
+
+    public static String encode(final String status, final Instant at) {
+        return status + SEPARATOR + ChronoUnit.MICROS.between(Instant.EPOCH, at);
+    }
+
+    public static WorkOrderStatusChange decode(final String entry) {
+        final var separator = entry.lastIndexOf(SEPARATOR);
+        if (separator < 1)
+            throw new IllegalArgumentException("Invalid status history entry: " + entry);
+
+        return new WorkOrderStatusChange(
+                WorkOrderStatus.valueOf(entry.substring(0, separator)),
+                Instant.EPOCH.plus(Long.parseLong(entry.substring(separator + 1)), ChronoUnit.MICROS)
+        );
+    }
+
+}
@@ -0,0 +1,192 @@
+package soat.fastfood.backstage.adapter.outbound.dynamodb.hedging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import soat.fastfood.backstage.adapter.common.NanoClock;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Hedged point reads: when the first call is still running after the p95 of recent calls, a second
+// identical call is sent and whichever succeeds first wins. Every read adds budget-percent of a token
+// to the budget and every hedge spends a whole one, so hedges stay below that share of the reads even
+// when the table slows down as a whole.
+@Component
+public class HedgedReads {
+
+    private static final double MAX_BUDGET = 10;
+
+    private final boolean enabled;
+    private final double budgetPerRead;
+    private final long minDelayNanos;
+    private final LatencyWindow latencies;
+    private final ExecutorService executor;
+    private final NanoClock clock;
+    private final Counter notHedged;
+    private final Counter hedged;
+    private final Counter budgetExhausted;
+    private final Counter hedgeWins;
+    private double budget;
+
+    @Autowired
+    public HedgedReads(
+            @Value("${work-order.hedging.enabled}") final boolean enabled,
+            @Value("${work-order.hedging.budget-percent}") final double budgetPercent,
+            @Value("${work-order.hedging.min-delay}") final Duration minDelay,
+            @Value("${work-order.hedging.window}") final int window,
+            final NanoClock clock,
+            final MeterRegistry meterRegistry
+    ) {
+        this(enabled, budgetPercent, minDelay, window, Executors.newVirtualThreadPerTaskExecutor(), clock, meterRegistry);
+    }
+
+    HedgedReads(
+            final boolean enabled,
+            final double budgetPercent,
+            final Duration minDelay,
+            final int window,
+            final ExecutorService executor,
+            final NanoClock clock,
+            final MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.budgetPerRead = budgetPercent / 100;
+        this.minDelayNanos = minDelay.toNanos();
+        this.latencies = new LatencyWindow(window, 0.95);
+        this.executor = executor;
+        this.clock = clock;
+
+        this.notHedged = reads(meterRegistry, "not-hedged");
+        this.hedged = reads(meterRegistry, "hedged");
+        this.budgetExhausted = reads(meterRegistry, "budget-exhausted");
+        this.hedgeWins = Counter.builder("backstage.dynamodb.hedging.wins").register(meterRegistry);
+        Gauge.builder("backstage.dynamodb.hedging.delay", this, hedgedReads -> hedgedReads.delayNanos() / 1e9)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public <T> T read(final Supplier<T> call) {
+        if (!this.enabled)
+            return call.get();
+
+        this.deposit();
+        final var delayNanos = this.delayNanos();
+        final var first = this.submit(call);
+        if (delayNanos < 0) {
+            final var result = await(first);
+            this.notHedged.increment();
+            return result;
+        }
+
+        try {
+            final var result = first.get(delayNanos, TimeUnit.NANOSECONDS);
+            this.notHedged.increment();
+            return result;
+        } catch (final TimeoutException e) {
+            // Still running after the p95, hedge below
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading from DynamoDB", e);
+        } catch (final ExecutionException e) {
+            throw unwrap(e);
+        }
+
+        if (!this.withdraw()) {
+            this.budgetExhausted.increment();
+            return await(first);
+        }
+
+        this.hedged.increment();
+        final var second = this.submit(call);
+        final var result = new CompletableFuture<T>();
+        final var failures = new AtomicInteger();
+        first.whenComplete((value, error) -> complete(result, value, error, failures));
+        second.whenComplete((value, error) -> {
+            if (complete(result, value, error, failures))
+                this.hedgeWins.increment();
+        });
+        return await(result);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> submit(final Supplier<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            final var start = this.clock.nanoTime();
+            try {
+                return call.get();
+            } finally {
+                this.latencies.record(this.clock.nanoTime() - start);
+            }
+        }, this.executor);
+    }
+
+    // The first success wins; the read only fails when both calls do
+    private static <T> boolean complete(final CompletableFuture<T> result, final T value, final Throwable error,
+                                        final AtomicInteger failures) {
+        if (error == null)
+            return result.complete(value);
+        if (failures.incrementAndGet() == 2)
+            result.completeExceptionally(error);
+        return false;
+    }
+
+    private long delayNanos() {
+        final var p95 = this.latencies.value();
+        return p95 < 0 ? -1 : Math.max(p95, this.minDelayNanos);
+    }
+
+    private synchronized void deposit() {
+        this.budget = Math.min(MAX_BUDGET, this.budget + this.budgetPerRead);
+    }
+
+    private synchronized boolean withdraw() {
+        if (this.budget < 1)
+            return false;
+        this.budget -= 1;
+        return true;
+    }
+
+    private static <T> T await(final CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading from DynamoDB", e);
+        } catch (final ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(final ExecutionException e) {
+        var cause = e.getCause();
+        if (cause instanceof CompletionException && cause.getCause() != null)
+            cause = cause.getCause();
+        if (cause instanceof RuntimeException runtimeException)
+            return runtimeException;
+        return new IllegalStateException(cause);
+    }
+
+    private static Counter reads(final MeterRegistry meterRegistry, final String outcome) {
+        return Counter.builder("backstage.dynamodb.hedging.reads")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+}
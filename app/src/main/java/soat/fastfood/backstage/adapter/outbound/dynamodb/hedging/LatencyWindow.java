@@ -0,0 +1,40 @@
+package soat.fastfood.backstage.adapter.outbound.dynamodb.hedging;
+
+import java.util.Arrays;
+
+// Latencies of the last calls, with a percentile recomputed every tenth of the window
+final class LatencyWindow {
+
+    private final long[] samples;
+    private final double percentile;
+    private final int recomputeEvery;
+    private int next;
+    private int size;
+    private int sinceRecompute;
+    private volatile long value = -1;
+
+    LatencyWindow(final int capacity, final double percentile) {
+        this.samples = new long[capacity];
+        this.percentile = percentile;
+        this.recomputeEvery = Math.max(1, capacity / 10);
+    }
+
+    synchronized void record(final long nanos) {
+        this.samples[this.next] = nanos;
+        this.next = (this.next + 1) % this.samples.length;
+        this.size = Math.min(this.size + 1, this.samples.length);
+
+        if (++this.sinceRecompute >= this.recomputeEvery) {
+            this.sinceRecompute = 0;
+            final var sorted = Arrays.copyOf(this.samples, this.size);
+            Arrays.sort(sorted);
+            this.value = sorted[(int) Math.ceil(this.percentile * this.size) - 1];
+        }
+    }
+
+    // -1 until a tenth of the window has been recorded
+    long value() {
+        return this.value;
+    }
+
+}
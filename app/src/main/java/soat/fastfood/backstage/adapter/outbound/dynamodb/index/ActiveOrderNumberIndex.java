@@ -0,0 +1,126 @@
+package soat.fastfood.backstage.adapter.outbound.dynamodb.index;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderEvent;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Entries are kept fresh by the Created, StatusChanged and Deleted events, local or replayed from other
+// pods, so an active order is answered from memory for as long as it stays open. max-age is only a safety
+// net for events that never arrive, and each event restarts it.
+@Component
+public class ActiveOrderNumberIndex {
+
+    private final Map<String, Entry> entriesById = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> idsByOrderNumber = new ConcurrentHashMap<>();
+
+    @Value("${work-order.order-number-index.max-age}")
+    private Duration maxAge;
+
+    public Optional<List<WorkOrder>> find(final String orderNumber) {
+        final var ids = this.idsByOrderNumber.get(orderNumber);
+        if (ids == null || ids.isEmpty())
+            return Optional.empty();
+
+        final var now = System.nanoTime();
+        final var workOrders = new ArrayList<WorkOrder>(ids.size());
+        var expired = false;
+        for (final var id : ids) {
+            final var entry = this.entriesById.get(id);
+            if (entry == null) {
+                ids.remove(id);
+                expired = true;
+                continue;
+            }
+            // Expired entries are dropped here, otherwise an order that never changes again would stay in
+            // memory until the pod restarts
+            if (now - entry.indexedAt() > this.maxAge.toNanos()) {
+                this.remove(entry.workOrder().getId());
+                expired = true;
+                continue;
+            }
+            workOrders.add(entry.workOrder());
+        }
+
+        if (expired)
+            return Optional.empty();
+
+        workOrders.sort(Comparator.comparing(WorkOrder::getCreatedAt).reversed());
+        return Optional.of(workOrders);
+    }
+
+    @EventListener
+    public void on(final WorkOrderEvent event) {
+        switch (event) {
+            case WorkOrderEvent.Created created -> this.put(created.workOrder());
+            case WorkOrderEvent.StatusChanged changed -> this.updateStatus(changed.workOrderID(), changed.status(), changed.updatedAt(), changed.version());
+            case WorkOrderEvent.Deleted deleted -> this.remove(deleted.workOrderID());
+        }
+    }
+
+    // A copy older than the indexed one, such as a GSI result read before the last event, is ignored
+    public synchronized void put(final WorkOrder workOrder) {
+        final var id = workOrder.getId().getValue();
+        if (workOrder.getStatus() == WorkOrderStatus.COMPLETED) {
+            this.remove(workOrder.getId());
+            return;
+        }
+
+        final var indexed = this.entriesById.get(id);
+        if (indexed != null && indexed.workOrder().getVersion() > workOrder.getVersion())
+            return;
+
+        this.entriesById.put(id, new Entry(workOrder, System.nanoTime()));
+        this.idsByOrderNumber
+                .computeIfAbsent(workOrder.getOrderNumber(), orderNumber -> ConcurrentHashMap.newKeySet())
+                .add(id);
+    }
+
+    // The version comes from the event, so a replayed or out-of-order event cannot move the entry back
+    public synchronized void updateStatus(final WorkOrderID workOrderID, final WorkOrderStatus status,
+                                          final Instant updatedAt, final long version) {
+        final var entry = this.entriesById.get(workOrderID.getValue());
+        if (entry == null || entry.workOrder().getVersion() >= version)
+            return;
+
+        final var current = entry.workOrder();
+        this.put(WorkOrder.with(
+                current.getId(),
+                current.getOrderNumber(),
+                status,
+                current.getCreatedAt(),
+                updatedAt,
+                current.getItems(),
+                version
+        ));
+    }
+
+    public synchronized void remove(final WorkOrderID workOrderID) {
+        final var id = workOrderID.getValue();
+        final var entry = this.entriesById.remove(id);
+        if (entry == null)
+            return;
+
+        this.idsByOrderNumber.computeIfPresent(entry.workOrder().getOrderNumber(), (orderNumber, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private record Entry(WorkOrder workOrder, long indexedAt) {
+    }
+
+}
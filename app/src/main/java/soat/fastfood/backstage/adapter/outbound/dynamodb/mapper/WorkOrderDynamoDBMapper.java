@@ -1,11 +1,13 @@
 package soat.fastfood.backstage.adapter.outbound.dynamodb.mapper;
 
+import soat.fastfood.backstage.adapter.outbound.dynamodb.codec.CompactWorkOrderItems;
 import soat.fastfood.backstage.adapter.outbound.dynamodb.model.WorkOrderDynamoDB;
 import soat.fastfood.backstage.adapter.outbound.dynamodb.model.WorkOrderItemDynamoDB;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import software.amazon.awssdk.core.SdkBytes;
 
 import java.time.Instant;
 import java.util.List;
@@ -16,13 +18,21 @@ public final class WorkOrderDynamoDBMapper {
     }
 
     public static WorkOrderDynamoDB fromDomain(final WorkOrder workOrder) {
+        return fromDomain(workOrder, false);
+    }
+
+    public static WorkOrderDynamoDB fromDomain(final WorkOrder workOrder, final boolean compactItems) {
         final var workOrderDynamoDB = new WorkOrderDynamoDB();
         workOrderDynamoDB.setId(workOrder.getId().getValue());
         workOrderDynamoDB.setOrderNumber(workOrder.getOrderNumber());
         workOrderDynamoDB.setStatus(workOrder.getStatus().name());
         workOrderDynamoDB.setCreatedAt(workOrder.getCreatedAt().toString());
         workOrderDynamoDB.setUpdatedAt(workOrder.getUpdatedAt().toString());
-        workOrderDynamoDB.setItems(fromDomainItems(workOrder.getItems()));
+        workOrderDynamoDB.setVersion(workOrder.getVersion());
+        if (compactItems)
+            workOrderDynamoDB.setCompactItems(SdkBytes.fromByteArrayUnsafe(CompactWorkOrderItems.encode(workOrder.getItems())));
+        else
+            workOrderDynamoDB.setItems(fromDomainItems(workOrder.getItems()));
         return workOrderDynamoDB;
     }
 
@@ -47,13 +57,20 @@ public final class WorkOrderDynamoDBMapper {
                     WorkOrderStatus.from(workOrderDynamoDB.getStatus()),
                     workOrderDynamoDB.getCreatedAt() != null ? Instant.parse(workOrderDynamoDB.getCreatedAt()) : null,
                     workOrderDynamoDB.getUpdatedAt() != null ? Instant.parse(workOrderDynamoDB.getUpdatedAt()) : null,
-                    toDomain(workOrderDynamoDB.getItems())
+                    toDomainItems(workOrderDynamoDB),
+                    workOrderDynamoDB.getVersion() != null ? workOrderDynamoDB.getVersion() : 0L
             );
         } catch (final Exception e) {
             throw new IllegalStateException("Error mapping WorkOrderDynamoDB to WorkOrder", e);
         }
     }
 
+    public static List<WorkOrderItem> toDomainItems(final WorkOrderDynamoDB workOrderDynamoDB) {
+        if (workOrderDynamoDB.getCompactItems() != null)
+            return CompactWorkOrderItems.decode(workOrderDynamoDB.getCompactItems().asByteArrayUnsafe());
+        return toDomain(workOrderDynamoDB.getItems());
+    }
+
     public static List<WorkOrderItem> toDomain(final List<WorkOrderItemDynamoDB> itemsDynamoDB) {
         return itemsDynamoDB.stream()
                 .map(WorkOrderDynamoDBMapper::toDomain)
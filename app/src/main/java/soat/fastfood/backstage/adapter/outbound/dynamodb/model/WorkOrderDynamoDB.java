@@ -1,5 +1,6 @@
 package soat.fastfood.backstage.adapter.outbound.dynamodb.model;
 
+import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;
 
 import java.util.List;
@@ -12,6 +13,8 @@ public class WorkOrderDynamoDB {
     private String createdAt;
     private String updatedAt;
     private List<WorkOrderItemDynamoDB> items;
+    private SdkBytes compactItems;
+    private Long version;
 
     public WorkOrderDynamoDB() {
     }
@@ -34,7 +37,7 @@ public class WorkOrderDynamoDB {
         this.status = status;
     }
 
-    @DynamoDbSecondarySortKey(indexNames = "StatusCreatedAtIndex")
+    @DynamoDbSecondarySortKey(indexNames = {"StatusCreatedAtIndex", "OrderNumberIndex"})
     public String getCreatedAt() {
         return createdAt;
     }
@@ -43,6 +46,7 @@ public class WorkOrderDynamoDB {
         this.createdAt = createdAt;
     }
 
+    @DynamoDbSecondaryPartitionKey(indexNames = "OrderNumberIndex")
     public String getOrderNumber() {
         return orderNumber;
     }
@@ -67,4 +71,20 @@ public class WorkOrderDynamoDB {
         this.items = items;
     }
 
+    public SdkBytes getCompactItems() {
+        return compactItems;
+    }
+
+    public void setCompactItems(SdkBytes compactItems) {
+        this.compactItems = compactItems;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
 }
\ No newline at end of file
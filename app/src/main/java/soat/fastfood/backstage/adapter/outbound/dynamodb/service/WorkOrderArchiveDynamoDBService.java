@@ -0,0 +1,78 @@
+package soat.fastfood.backstage.adapter.outbound.dynamodb.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.model.WorkOrderDynamoDB;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+
+import java.util.List;
+import java.util.Optional;
+
+// Tabela de arquivo: apenas a chave id, sem GSIs e sem contadores
+@Service
+public class WorkOrderArchiveDynamoDBService {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkOrderArchiveDynamoDBService.class);
+
+    public static final String TABLE_NAME = "work-orders-archive";
+    // Limite de itens por BatchWriteItem
+    private static final int BATCH_SIZE = 25;
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final DynamoDbEnhancedClient enhancedClient;
+    private final DynamoDbTable<WorkOrderDynamoDB> table;
+
+    public WorkOrderArchiveDynamoDBService(DynamoDbEnhancedClient enhancedClient) {
+        this.enhancedClient = enhancedClient;
+        this.table = enhancedClient.table(TABLE_NAME, TableSchema.fromBean(WorkOrderDynamoDB.class));
+    }
+
+    public Optional<WorkOrderDynamoDB> findById(String id) {
+        log.debug("Buscando pedido arquivado por ID: {}", id);
+        return Optional.ofNullable(table.getItem(Key.builder().partitionValue(id).build()));
+    }
+
+    // Grava em lotes de 25, reenviando os itens não processados com backoff.
+    // A gravação é idempotente: arquivar o mesmo pedido de novo só sobrescreve o item.
+    public void saveAll(List<WorkOrderDynamoDB> entities) {
+        log.info("Arquivando {} pedidos", entities.size());
+
+        for (var from = 0; from < entities.size(); from += BATCH_SIZE) {
+            var pending = entities.subList(from, Math.min(from + BATCH_SIZE, entities.size()));
+
+            for (var attempt = 1; !pending.isEmpty(); attempt++) {
+                if (attempt > MAX_ATTEMPTS)
+                    throw new IllegalStateException("Não foi possível arquivar %d pedidos após %d tentativas"
+                            .formatted(pending.size(), MAX_ATTEMPTS));
+                if (attempt > 1)
+                    backoff(attempt);
+
+                final var batch = WriteBatch.builder(WorkOrderDynamoDB.class).mappedTableResource(table);
+                pending.forEach(batch::addPutItem);
+
+                pending = enhancedClient.batchWriteItem(BatchWriteItemEnhancedRequest.builder()
+                                .writeBatches(batch.build())
+                                .build())
+                        .unprocessedPutItemsForTable(table);
+                if (!pending.isEmpty())
+                    log.warn("{} pedidos não processados pelo BatchWriteItem, tentativa {}", pending.size(), attempt);
+            }
+        }
+    }
+
+    private static void backoff(int attempt) {
+        try {
+            Thread.sleep(50L << attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido ao arquivar pedidos", e);
+        }
+    }
+
+}
@@ -2,35 +2,126 @@ package soat.fastfood.backstage.adapter.outbound.dynamodb.service;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.codec.StatusHistoryEntries;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.hedging.HedgedReads;
 import soat.fastfood.backstage.adapter.outbound.dynamodb.model.WorkOrderDynamoDB;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.throttle.AdaptiveWriteLimiter;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.throttle.AdaptiveWriteLimiter.Priority;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.throttle.WriteCapacityBudget;
 import software.amazon.awssdk.enhanced.dynamodb.*;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class WorkOrderDynamoDBService {
 
     private static final Logger log = LoggerFactory.getLogger(WorkOrderDynamoDBService.class);
+
+    public static final String TABLE_NAME = "work-orders";
+    // Histórico de status por pedido, em tabela separada para não aumentar os itens lidos pela API
+    public static final String HISTORY_TABLE_NAME = "work-order-history";
+    // Itens internos (contadores, checkpoints) têm ID iniciado por '#'; sem o atributo status, não aparecem nos GSIs
+    public static final String INTERNAL_ID_PREFIX = "#";
+    public static final String COUNTS_ID = INTERNAL_ID_PREFIX + "counts";
+    // Os contadores são divididos em itens "#counts", "#counts#1" ... para não concentrar todas as escritas
+    // em uma única chave; cada transação soma em um deles, escolhido ao acaso, e a leitura soma todos.
+    // O primeiro mantém o ID original, então o item já existente continua valendo. Só aumente este número.
+    private static final int COUNTS_SHARDS = 10;
+    private static final String COUNTS_INITIALIZED = "initialized";
+    private static final int MAX_ATTEMPTS = 3;
+    // Limite de itens por BatchWriteItem
+    private static final int BATCH_WRITE_SIZE = 25;
+    private static final int MAX_BATCH_WRITE_ATTEMPTS = 5;
+
+    private final DynamoDbEnhancedClient enhancedClient;
+    private final DynamoDbClient dynamoDbClient;
     private final DynamoDbTable<WorkOrderDynamoDB> table;
+    private final WriteCapacityBudget writeCapacityBudget;
+    // Escritas interativas (status) têm prioridade sobre a ingestão e os expurgos
+    private final AdaptiveWriteLimiter writeLimiter;
+    // Leituras por ID com requisição de reserva quando a primeira demora mais que o p95
+    private final HedgedReads hedgedReads;
+    // Atributo TTL (epoch em segundos) gravado quando o pedido vai para COMPLETED; zero desativa
+    private final Duration completedTtl;
+
+    public WorkOrderDynamoDBService(
+            DynamoDbEnhancedClient enhancedClient,
+            DynamoDbClient dynamoDbClient,
+            WriteCapacityBudget writeCapacityBudget,
+            AdaptiveWriteLimiter writeLimiter,
+            HedgedReads hedgedReads,
+            @Value("${work-order.retention.completed-ttl}") Duration completedTtl
+    ) {
+        this.enhancedClient = enhancedClient;
+        this.dynamoDbClient = dynamoDbClient;
+        this.table = enhancedClient.table(TABLE_NAME, TableSchema.fromBean(WorkOrderDynamoDB.class));
+        this.writeCapacityBudget = writeCapacityBudget;
+        this.writeLimiter = writeLimiter;
+        this.hedgedReads = hedgedReads;
+        this.completedTtl = completedTtl;
+    }
 
-    public WorkOrderDynamoDBService(DynamoDbEnhancedClient enhancedClient) {
-        this.table = enhancedClient.table("work-orders", TableSchema.fromBean(WorkOrderDynamoDB.class));
+    public static boolean isInternalId(String id) {
+        return id.startsWith(INTERNAL_ID_PREFIX);
     }
 
-    public void saveOrder(WorkOrderDynamoDB entity) {
+    // Cria o pedido e incrementa o contador do status na mesma transação.
+    // Retorna false quando o ID já existe (reentrega da mensagem), sem alterar os contadores.
+    public boolean saveOrder(WorkOrderDynamoDB entity) {
         log.debug("Salvando pedido ID: {}", entity.getId());
-        table.putItem(entity);
+        writeLimiter.acquire(Priority.BULK);
+
+        final var put = TransactWriteItem.builder()
+                .put(Put.builder()
+                        .tableName(TABLE_NAME)
+                        .item(table.tableSchema().itemToMap(entity, true))
+                        .conditionExpression("attribute_not_exists(id)")
+                        .build())
+                .build();
+
+        try {
+            dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                    .transactItems(
+                            put,
+                            countsUpdate(Map.of(entity.getStatus(), 1L)),
+                            historyAppend(entity.getId(), entity.getStatus(), entity.getCreatedAt())
+                    )
+                    .build());
+            return true;
+        } catch (TransactionCanceledException e) {
+            if (isConditionalCheckFailed(e, 0)) {
+                log.warn("Pedido ID: {} já existe, ignorando gravação", entity.getId());
+                return false;
+            }
+            throw e;
+        }
     }
 
     public Optional<WorkOrderDynamoDB> findById(String id) {
         log.debug("Buscando pedido por ID: {}", id);
+        if (isInternalId(id))
+            return Optional.empty();
         Key key = Key.builder().partitionValue(id).build();
-        return Optional.ofNullable(table.getItem(key));
+        return Optional.ofNullable(hedgedReads.read(() -> table.getItem(key)));
     }
 
     public List<WorkOrderDynamoDB> findByStatus(String status) {
@@ -49,44 +140,523 @@ public class WorkOrderDynamoDBService {
                 .collect(Collectors.toList());
     }
 
+    // Páginas do GSI buscadas sob demanda, conforme o stream é consumido
+    public Stream<List<WorkOrderDynamoDB>> streamByStatus(String status) {
+        log.debug("Consultando GSI StatusCreatedAtIndex em páginas para status: {}", status);
+
+        QueryConditional queryConditional = QueryConditional
+                .keyEqualTo(Key.builder().partitionValue(status).build());
+
+        return table.index("StatusCreatedAtIndex")
+                .query(QueryEnhancedRequest.builder()
+                        .queryConditional(queryConditional)
+                        .build())
+                .stream()
+                .map(Page::items);
+    }
+
+    // Pedidos do status criados antes do instante informado, dos mais antigos para os mais novos.
+    // Com afterCreatedAt e afterId, a consulta continua a partir desse pedido.
+    public List<WorkOrderDynamoDB> findByStatusCreatedBefore(String status, String createdBefore, int limit,
+                                                             String afterCreatedAt, String afterId) {
+        log.debug("Consultando GSI StatusCreatedAtIndex para status: {} antes de {}", status, createdBefore);
+
+        QueryConditional queryConditional = QueryConditional
+                .sortLessThan(Key.builder().partitionValue(status).sortValue(createdBefore).build());
+
+        final var request = QueryEnhancedRequest.builder()
+                .queryConditional(queryConditional)
+                .limit(limit);
+        if (afterId != null)
+            request.exclusiveStartKey(Map.of(
+                    "id", string(afterId),
+                    "status", string(status),
+                    "createdAt", string(afterCreatedAt)
+            ));
+
+        return table.index("StatusCreatedAtIndex")
+                .query(request.build())
+                .stream()
+                .flatMap(page -> page.items().stream())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    public List<WorkOrderDynamoDB> findByOrderNumber(String orderNumber) {
+        log.debug("Consultando GSI OrderNumberIndex para orderNumber: {}", orderNumber);
+
+        DynamoDbIndex<WorkOrderDynamoDB> index = table.index("OrderNumberIndex");
+
+        QueryConditional queryConditional = QueryConditional
+                .keyEqualTo(Key.builder().partitionValue(orderNumber).build());
+
+        return index.query(QueryEnhancedRequest.builder()
+                        .queryConditional(queryConditional)
+                        .scanIndexForward(false)
+                        .build())
+                .stream()
+                .flatMap(page -> page.items().stream())
+                .collect(Collectors.toList());
+    }
+
     public List<WorkOrderDynamoDB> findAll() {
         log.debug("Executando Scan na tabela orders");
         return table.scan()
                 .items()
                 .stream()
+                .filter(item -> !isInternalId(item.getId()))
                 .collect(Collectors.toList());
     }
 
     public void deleteById(String id) {
         log.debug("Deletando pedido ID: {}", id);
-        table.deleteItem(Key.builder().partitionValue(id).build());
+        if (isInternalId(id))
+            return;
+        writeLimiter.acquire(Priority.INTERACTIVE);
+
+        for (var attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            final var current = table.getItem(Key.builder().partitionValue(id).build());
+            if (current == null)
+                return;
+
+            final var delete = TransactWriteItem.builder()
+                    .delete(Delete.builder()
+                            .tableName(TABLE_NAME)
+                            .key(idKey(id))
+                            .conditionExpression("#status = :previous")
+                            .expressionAttributeNames(Map.of("#status", "status"))
+                            .expressionAttributeValues(Map.of(":previous", string(current.getStatus())))
+                            .build())
+                    .build();
+
+            try {
+                dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                        .transactItems(delete, countsUpdate(Map.of(current.getStatus(), -1L)))
+                        .build());
+                return;
+            } catch (TransactionCanceledException e) {
+                if (!isConditionalCheckFailed(e, 0))
+                    throw e;
+                log.warn("Pedido ID: {} alterado durante a exclusão, tentativa {}", id, attempt);
+            }
+        }
+
+        throw new IllegalStateException("Não foi possível excluir a WorkOrder %s após alterações concorrentes".formatted(id));
+    }
+
+    // Exclui em uma transação os pedidos que continuam no status informado, descontando os contadores.
+    // Se algum mudou de status, a transação é cancelada e cada pedido é excluído separadamente.
+    // Retorna os IDs efetivamente excluídos.
+    public List<String> deleteAllWithStatus(List<String> ids, String status) {
+        log.info("Excluindo {} pedidos com status {}", ids.size(), status);
+        if (ids.isEmpty())
+            return List.of();
+        writeLimiter.acquire(Priority.BULK);
+
+        final var transactItems = new ArrayList<TransactWriteItem>(ids.size() + 1);
+        ids.forEach(id -> transactItems.add(conditionalDelete(id, status)));
+        transactItems.add(countsUpdate(Map.of(status, -(long) ids.size())));
+
+        try {
+            dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                    .transactItems(transactItems)
+                    .build());
+            return ids;
+        } catch (TransactionCanceledException e) {
+            log.warn("Exclusão em lote cancelada, excluindo {} pedidos individualmente", ids.size());
+        }
+
+        final var deleted = new ArrayList<String>(ids.size());
+        for (final var id : ids) {
+            try {
+                dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                        .transactItems(conditionalDelete(id, status), countsUpdate(Map.of(status, -1L)))
+                        .build());
+                deleted.add(id);
+            } catch (TransactionCanceledException e) {
+                if (!isConditionalCheckFailed(e, 0))
+                    throw e;
+                log.warn("Pedido ID: {} não está mais com status {}, mantido", id, status);
+            }
+        }
+        return deleted;
+    }
+
+    // Exclusão em massa com BatchWriteItem, em lotes de 25 e dentro do orçamento de WCU.
+    // O BatchWriteItem não aceita condições nem transações: os contadores são descontados depois de cada
+    // lote, pelo status informado. Serve para pedidos antigos, cujo status não muda mais.
+    public int deleteAll(Map<String, String> statusesById) {
+        log.info("Excluindo {} pedidos em lotes", statusesById.size());
+
+        final var ids = List.copyOf(statusesById.keySet());
+        for (var from = 0; from < ids.size(); from += BATCH_WRITE_SIZE) {
+            final var chunk = ids.subList(from, Math.min(from + BATCH_WRITE_SIZE, ids.size()));
+
+            var pending = chunk.stream()
+                    .map(id -> WriteRequest.builder()
+                            .deleteRequest(DeleteRequest.builder().key(idKey(id)).build())
+                            .build())
+                    .toList();
+
+            for (var attempt = 1; !pending.isEmpty(); attempt++) {
+                if (attempt > MAX_BATCH_WRITE_ATTEMPTS)
+                    throw new IllegalStateException("Não foi possível excluir %d pedidos após %d tentativas"
+                            .formatted(pending.size(), MAX_BATCH_WRITE_ATTEMPTS));
+                if (attempt > 1)
+                    backoff(attempt);
+
+                // Estimativa de 1 WCU por item; a diferença para o consumo real é acertada em seguida
+                final var reserved = pending.size();
+                writeCapacityBudget.acquire(reserved);
+                writeLimiter.acquire(Priority.BULK);
+                final var response = dynamoDbClient.batchWriteItem(BatchWriteItemRequest.builder()
+                        .requestItems(Map.of(TABLE_NAME, pending))
+                        .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                        .build());
+                writeCapacityBudget.settle(reserved, response.consumedCapacity().stream()
+                        .mapToDouble(capacity -> capacity.capacityUnits() == null ? 0 : capacity.capacityUnits())
+                        .sum());
+
+                pending = response.unprocessedItems().getOrDefault(TABLE_NAME, List.of());
+                if (!pending.isEmpty())
+                    log.warn("{} exclusões não processadas pelo BatchWriteItem, tentativa {}", pending.size(), attempt);
+            }
+
+            final var deltas = new HashMap<String, Long>();
+            chunk.forEach(id -> deltas.merge(statusesById.get(id), -1L, Long::sum));
+            writeCapacityBudget.acquire(2);
+            dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                    .transactItems(countsUpdate(deltas))
+                    .build());
+        }
+        return ids.size();
+    }
+
+    private static void backoff(int attempt) {
+        try {
+            Thread.sleep(50L << attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando nova tentativa", e);
+        }
     }
 
-    public void updateStatus(String id, String newStatus) {
+    // Resultado de uma atualização de status: o status que o pedido tinha antes da chamada e a versão do
+    // pedido depois dela. Quando applied é falso, nada foi gravado e currentVersion traz a versão atual;
+    // previousStatus nulo indica que o pedido não existe.
+    public record StatusUpdate(String previousStatus, long currentVersion, boolean applied) {
+    }
+
+    // Status e versão gravados de um pedido; itens gravados antes do versionamento têm versão 0
+    public record StoredStatus(String status, long version) {
+    }
+
+    // Grava o novo status com um UpdateItem condicionado a "status IN (predecessores permitidos)" e, com
+    // expectedVersion, a "#version = :version": a versão é conferida pelo DynamoDB na própria escrita. Não há leitura antes da escrita: em caso de sucesso, os valores
+    // anteriores (UPDATED_OLD) trazem o status exato, usado nos contadores, e a versão, e a nova é ela mais um;
+    // em caso de falha, o item rejeitado (ALL_OLD) informa o status e a versão atuais, ou que o pedido não existe.
+    // Como o TransactWriteItems não retorna valores, os contadores e o histórico (uma entrada por mudança, já
+    // codificadas) são gravados logo depois, em outra transação.
+    public StatusUpdate updateStatus(String id, String newStatus, List<String> allowedPrevious, Long expectedVersion,
+                                     String updatedAt, List<String> history) {
         log.info("Iniciando atualização de status da WorkOrder ID: {} para {}", id, newStatus);
+        writeLimiter.acquire(Priority.INTERACTIVE);
 
-        // 1. Define a chave para busca
-        Key key = Key.builder().partitionValue(id).build();
+        final var update = statusUpdate(id, allowedPrevious, expectedVersion, newStatus, updatedAt);
+        final Map<String, AttributeValue> old;
+        try {
+            old = dynamoDbClient.updateItem(UpdateItemRequest.builder()
+                    .tableName(update.tableName())
+                    .key(update.key())
+                    .updateExpression(update.updateExpression())
+                    .conditionExpression(update.conditionExpression())
+                    .expressionAttributeNames(update.expressionAttributeNames())
+                    .expressionAttributeValues(update.expressionAttributeValues())
+                    .returnValues(ReturnValue.UPDATED_OLD)
+                    .returnValuesOnConditionCheckFailure(ReturnValuesOnConditionCheckFailure.ALL_OLD)
+                    .build()).attributes();
+        } catch (ConditionalCheckFailedException e) {
+            if (!e.hasItem() || e.item().isEmpty())
+                return new StatusUpdate(null, 0L, false);
+            return new StatusUpdate(e.item().get("status").s(), version(e.item()), false);
+        }
+
+        final var previous = old.get("status").s();
+        try {
+            dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                    .transactItems(countsUpdate(Map.of(previous, -1L, newStatus, 1L)), historyAppend(id, history))
+                    .build());
+        } catch (RuntimeException e) {
+            log.error("WorkOrder {} foi de {} para {}, mas os contadores e o histórico não foram gravados", id, previous, newStatus, e);
+            throw e;
+        }
+        log.info("WorkOrder {} atualizada com sucesso de {} para {}", id, previous, newStatus);
+        return new StatusUpdate(previous, version(old) + 1, true);
+    }
+
+    // Itens gravados antes do versionamento não têm "version", que conta como 0
+    private static long version(Map<String, AttributeValue> item) {
+        final var version = item.get("version");
+        return version != null ? Long.parseLong(version.n()) : 0L;
+    }
+
+    // Status e versão atuais de cada pedido encontrado (leitura consistente); IDs inexistentes ficam fora do mapa
+    public Map<String, StoredStatus> findStatuses(Collection<String> ids) {
+        final var readBatch = ReadBatch.builder(WorkOrderDynamoDB.class).mappedTableResource(table);
+        ids.forEach(id -> readBatch.addGetItem(request -> request.key(Key.builder().partitionValue(id).build()).consistentRead(true)));
+
+        final var statuses = new HashMap<String, StoredStatus>();
+        enhancedClient.batchGetItem(BatchGetItemEnhancedRequest.builder().readBatches(readBatch.build()).build())
+                .resultsForTable(table)
+                .forEach(item -> statuses.put(
+                        item.getId(),
+                        new StoredStatus(item.getStatus(), item.getVersion() != null ? item.getVersion() : 0L)
+                ));
+        return statuses;
+    }
+
+    // Todas as transições são aplicadas ou nenhuma; cada uma é condicionada ao status e à versão lidos antes.
+    // As atualizações vêm primeiro, na ordem dos IDs, para que os motivos de cancelamento da transação
+    // correspondam aos pedidos; o histórico e os contadores vêm depois.
+    public void updateStatusesInTransaction(Map<String, StoredStatus> previousById, Map<String, String> statusesById, String updatedAt) {
+        log.info("Atualizando status de {} WorkOrders em transação", statusesById.size());
+        writeLimiter.acquire(Priority.INTERACTIVE);
+
+        final var transactItems = new ArrayList<TransactWriteItem>(statusesById.size() * 2 + 1);
+        final var historyItems = new ArrayList<TransactWriteItem>(statusesById.size());
+        final var deltas = new HashMap<String, Long>();
+        statusesById.forEach((id, status) -> {
+            final var previous = previousById.get(id).status();
+            transactItems.add(TransactWriteItem.builder()
+                    .update(statusUpdate(id, List.of(previous), previousById.get(id).version(), status, updatedAt))
+                    .build());
+            deltas.merge(previous, -1L, Long::sum);
+            deltas.merge(status, 1L, Long::sum);
+            historyItems.add(historyAppend(id, status, updatedAt));
+        });
+        transactItems.addAll(historyItems);
+        deltas.values().removeIf(delta -> delta == 0);
+        if (!deltas.isEmpty())
+            transactItems.add(countsUpdate(deltas));
+
+        dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                .transactItems(transactItems)
+                .build());
+    }
+
+    // Entradas do histórico na ordem em que foram gravadas; vazio quando o pedido não tem histórico
+    public List<String> findHistory(String id) {
+        log.debug("Buscando histórico de status do pedido ID: {}", id);
+
+        final var item = dynamoDbClient.getItem(GetItemRequest.builder()
+                .tableName(HISTORY_TABLE_NAME)
+                .key(idKey(id))
+                .build()).item();
+
+        final var events = item.get("events");
+        return events == null ? List.of() : events.l().stream().map(AttributeValue::s).toList();
+    }
+
+    public Map<String, Long> findCounts() {
+        final var keys = new ArrayList<Map<String, AttributeValue>>(COUNTS_SHARDS);
+        for (var shard = 0; shard < COUNTS_SHARDS; shard++)
+            keys.add(idKey(countsId(shard)));
+
+        final var counts = new HashMap<String, Long>();
+        var request = Map.of(TABLE_NAME, KeysAndAttributes.builder().keys(keys).build());
+        for (var attempt = 1; !request.isEmpty(); attempt++) {
+            if (attempt > MAX_ATTEMPTS)
+                throw new IllegalStateException("Não foi possível ler os contadores após %d tentativas".formatted(MAX_ATTEMPTS));
+            if (attempt > 1)
+                backoff(attempt);
+
+            final var response = dynamoDbClient.batchGetItem(BatchGetItemRequest.builder()
+                    .requestItems(request)
+                    .build());
+            response.responses().getOrDefault(TABLE_NAME, List.of()).forEach(item -> item.forEach((name, value) -> {
+                if (value.n() != null)
+                    counts.merge(name, Long.parseLong(value.n()), Long::sum);
+            }));
+            request = response.unprocessedKeys();
+        }
+        return counts;
+    }
+
+    // O marcador "initialized" só é gravado pela inicialização: as escritas criam os itens de contadores
+    // com ADD quando eles ainda não existem, então a existência de "#counts" não indica que houve a carga.
+    public boolean isCountsInitialized() {
+        return dynamoDbClient.getItem(GetItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(idKey(COUNTS_ID))
+                .projectionExpression("#initialized")
+                .expressionAttributeNames(Map.of("#initialized", COUNTS_INITIALIZED))
+                .consistentRead(true)
+                .build()).item().containsKey(COUNTS_INITIALIZED);
+    }
+
+    // Grava em "#counts" as contagens do GSI de status, com o marcador, e exclui os demais itens na mesma
+    // transação, apenas se o marcador ainda não existir. As contagens já incluem os ajustes que escritas
+    // anteriores deixaram em qualquer item, então eles são descartados em vez de somados.
+    public void initializeCounts(List<String> statuses) {
+        final var item = new HashMap<String, AttributeValue>(idKey(COUNTS_ID));
+        item.put(COUNTS_INITIALIZED, AttributeValue.fromBool(true));
+        statuses.forEach(status -> item.put(status, AttributeValue.fromN(String.valueOf(countByStatus(status)))));
+
+        final var transactItems = new ArrayList<TransactWriteItem>(COUNTS_SHARDS);
+        transactItems.add(TransactWriteItem.builder()
+                .put(Put.builder()
+                        .tableName(TABLE_NAME)
+                        .item(item)
+                        .conditionExpression("attribute_not_exists(#initialized)")
+                        .expressionAttributeNames(Map.of("#initialized", COUNTS_INITIALIZED))
+                        .build())
+                .build());
+        for (var shard = 1; shard < COUNTS_SHARDS; shard++)
+            transactItems.add(TransactWriteItem.builder()
+                    .delete(Delete.builder().tableName(TABLE_NAME).key(idKey(countsId(shard))).build())
+                    .build());
 
-        // 2. Recupera o item atual do DynamoDB
-        WorkOrderDynamoDB entity = table.getItem(key);
+        try {
+            dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                    .transactItems(transactItems)
+                    .build());
+            log.info("Itens de contadores inicializados: {}", item);
+        } catch (TransactionCanceledException e) {
+            if (!isConditionalCheckFailed(e, 0))
+                throw e;
+            log.info("Itens de contadores já inicializados, inicialização ignorada");
+        }
+    }
 
-        if (entity != null) {
-            // 3. Modifica apenas os campos necessários
-            entity.setStatus(newStatus);
+    private long countByStatus(String status) {
+        return dynamoDbClient.queryPaginator(QueryRequest.builder()
+                        .tableName(TABLE_NAME)
+                        .indexName("StatusCreatedAtIndex")
+                        .keyConditionExpression("#status = :status")
+                        .expressionAttributeNames(Map.of("#status", "status"))
+                        .expressionAttributeValues(Map.of(":status", string(status)))
+                        .select(Select.COUNT)
+                        .build())
+                .stream()
+                .mapToLong(QueryResponse::count)
+                .sum();
+    }
 
-            // Garante que o campo de atualização seja registrado (ISO-8601)
-            // Caso sua entidade use String para datas conforme definimos anteriormente
-            entity.setUpdatedAt(java.time.Instant.now().toString());
+    // A condição "status IN (...)" também falha quando o pedido não existe. Itens gravados antes do
+    // versionamento não têm "version", que conta como 0 tanto na condição quanto no incremento.
+    private Update statusUpdate(String id, List<String> allowedPrevious, Long expectedVersion, String newStatus, String updatedAt) {
+        final var values = new HashMap<String, AttributeValue>();
+        values.put(":status", string(newStatus));
+        values.put(":updatedAt", string(updatedAt));
+        values.put(":one", AttributeValue.fromN("1"));
+        final var previousPlaceholders = new ArrayList<String>(allowedPrevious.size());
+        for (var i = 0; i < allowedPrevious.size(); i++) {
+            previousPlaceholders.add(":previous" + i);
+            values.put(":previous" + i, string(allowedPrevious.get(i)));
+        }
 
-            // 4. Salva de volta no DynamoDB (o updateItem faz o merge/sobrescrita)
-            table.updateItem(entity);
+        var conditionExpression = "#status IN (%s)".formatted(String.join(", ", previousPlaceholders));
+        if (expectedVersion != null && expectedVersion == 0) {
+            conditionExpression += " AND attribute_not_exists(#version)";
+        } else if (expectedVersion != null) {
+            conditionExpression += " AND #version = :version";
+            values.put(":version", AttributeValue.fromN(expectedVersion.toString()));
+        }
 
-            log.info("WorkOrder {} atualizada com sucesso para o status {}", id, newStatus);
-        } else {
-            log.error("Falha ao atualizar: WorkOrder com ID {} não encontrada.", id);
-            // Opcional: throw new RuntimeException("WorkOrder not found");
+        // ADD cria a versão a partir de 0 quando o item ainda não tem o atributo.
+        // O TTL só vale para COMPLETED; qualquer outro status remove o atributo
+        final var set = "SET #status = :status, updatedAt = :updatedAt";
+        var updateExpression = set + " REMOVE expiresAt ADD #version :one";
+        if ("COMPLETED".equals(newStatus) && completedTtl.isPositive()) {
+            updateExpression = set + ", expiresAt = :expiresAt ADD #version :one";
+            values.put(":expiresAt", AttributeValue.fromN(Long.toString(
+                    Instant.parse(updatedAt).plus(completedTtl).getEpochSecond()
+            )));
         }
+
+        return Update.builder()
+                .tableName(TABLE_NAME)
+                .key(idKey(id))
+                .updateExpression(updateExpression)
+                .conditionExpression(conditionExpression)
+                .expressionAttributeNames(Map.of("#status", "status", "#version", "version"))
+                .expressionAttributeValues(values)
+                .build();
+    }
+
+    // Acrescenta "<STATUS>@<epoch em micros>" à lista do pedido; a lista só cresce
+    private TransactWriteItem historyAppend(String id, String status, String at) {
+        return historyAppend(id, List.of(StatusHistoryEntries.encode(status, Instant.parse(at))));
+    }
+
+    private TransactWriteItem historyAppend(String id, List<String> entries) {
+        return TransactWriteItem.builder()
+                .update(Update.builder()
+                        .tableName(HISTORY_TABLE_NAME)
+                        .key(idKey(id))
+                        .updateExpression("SET events = list_append(if_not_exists(events, :empty), :event)")
+                        .expressionAttributeValues(Map.of(
+                                ":empty", AttributeValue.fromL(List.of()),
+                                ":event", AttributeValue.fromL(entries.stream().map(WorkOrderDynamoDBService::string).toList())
+                        ))
+                        .build())
+                .build();
+    }
+
+    private TransactWriteItem conditionalDelete(String id, String status) {
+        return TransactWriteItem.builder()
+                .delete(Delete.builder()
+                        .tableName(TABLE_NAME)
+                        .key(idKey(id))
+                        .conditionExpression("#status = :previous")
+                        .expressionAttributeNames(Map.of("#status", "status"))
+                        .expressionAttributeValues(Map.of(":previous", string(status)))
+                        .build())
+                .build();
+    }
+
+    private TransactWriteItem countsUpdate(Map<String, Long> deltas) {
+        final var names = new HashMap<String, String>();
+        final var values = new HashMap<String, AttributeValue>();
+        final var expression = new StringBuilder("ADD ");
+
+        var index = 0;
+        for (final var delta : deltas.entrySet()) {
+            if (index > 0)
+                expression.append(", ");
+            expression.append("#s").append(index).append(" :d").append(index);
+            names.put("#s" + index, delta.getKey());
+            values.put(":d" + index, AttributeValue.fromN(String.valueOf(delta.getValue())));
+            index++;
+        }
+
+        return TransactWriteItem.builder()
+                .update(Update.builder()
+                        .tableName(TABLE_NAME)
+                        .key(idKey(countsId(ThreadLocalRandom.current().nextInt(COUNTS_SHARDS))))
+                        .updateExpression(expression.toString())
+                        .expressionAttributeNames(names)
+                        .expressionAttributeValues(values)
+                        .build())
+                .build();
+    }
+
+    private static String countsId(int shard) {
+        return shard == 0 ? COUNTS_ID : COUNTS_ID + "#" + shard;
+    }
+
+    private static boolean isConditionalCheckFailed(TransactionCanceledException e, int index) {
+        return e.hasCancellationReasons()
+                && e.cancellationReasons().size() > index
+                && "ConditionalCheckFailed".equals(e.cancellationReasons().get(index).code());
+    }
+
+    private static Map<String, AttributeValue> idKey(String id) {
+        return Map.of("id", string(id));
+    }
+
+    private static AttributeValue string(String value) {
+        return AttributeValue.fromS(value);
     }
 
-}
\ No newline at end of file
+}
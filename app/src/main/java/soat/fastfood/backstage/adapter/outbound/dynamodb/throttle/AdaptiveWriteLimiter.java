@@ -0,0 +1,199 @@
+package soat.fastfood.backstage.adapter.outbound.dynamodb.throttle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import soat.fastfood.backstage.adapter.common.NanoClock;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Token bucket in front of table writes whose rate follows AIMD: each throttling response halves it
+// (at most once per cooldown, since one overload shows up in many responses) and every second without
+// throttling adds a fixed step back. Interactive writes take precedence: bulk writes wait while any
+// interactive write is waiting and never dip into the last share of the bucket.
+@Component
+public class AdaptiveWriteLimiter {
+
+    public enum Priority {
+        INTERACTIVE,
+        BULK
+    }
+
+    private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double minRate;
+    private final double maxRate;
+    private final double additiveIncrease;
+    private final double multiplicativeDecrease;
+    private final double bulkReserve;
+    private final long cooldownNanos;
+    private final long bulkMaxWaitNanos;
+    private final NanoClock clock;
+    private final Counter throttled;
+    private final Counter bulkRejected;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = this.lock.newCondition();
+    private volatile double rate;
+    private double tokens;
+    private long refilledAt;
+    private long increasedAt;
+    private long decreasedAt;
+    private volatile long throttledAt;
+    private int interactiveWaiting;
+
+    public AdaptiveWriteLimiter(
+            @Value("${work-order.write-limiter.min-rate}") final double minRate,
+            @Value("${work-order.write-limiter.max-rate}") final double maxRate,
+            @Value("${work-order.write-limiter.additive-increase}") final double additiveIncrease,
+            @Value("${work-order.write-limiter.multiplicative-decrease}") final double multiplicativeDecrease,
+            @Value("${work-order.write-limiter.bulk-reserve}") final double bulkReserve,
+            @Value("${work-order.write-limiter.cooldown}") final Duration cooldown,
+            @Value("${work-order.write-limiter.bulk-max-wait}") final Duration bulkMaxWait,
+            final NanoClock clock,
+            final MeterRegistry meterRegistry
+    ) {
+        if (minRate <= 0 || maxRate < minRate)
+            throw new IllegalArgumentException("'work-order.write-limiter' rates should satisfy 0 < min-rate <= max-rate");
+
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.additiveIncrease = additiveIncrease;
+        this.multiplicativeDecrease = multiplicativeDecrease;
+        this.bulkReserve = bulkReserve;
+        this.cooldownNanos = cooldown.toNanos();
+        this.bulkMaxWaitNanos = bulkMaxWait.toNanos();
+        this.clock = clock;
+
+        final var now = this.clock.nanoTime();
+        this.rate = maxRate;
+        this.tokens = maxRate;
+        this.refilledAt = now;
+        this.increasedAt = now;
+        this.decreasedAt = now - this.cooldownNanos;
+        this.throttledAt = now - this.cooldownNanos;
+
+        Gauge.builder("backstage.dynamodb.write.rate", this, AdaptiveWriteLimiter::rate)
+                .register(meterRegistry);
+        this.throttled = Counter.builder("backstage.dynamodb.write.throttled").register(meterRegistry);
+        this.bulkRejected = Counter.builder("backstage.dynamodb.write.bulk.rejected").register(meterRegistry);
+    }
+
+    public void acquire(final Priority priority) {
+        final var interactive = priority == Priority.INTERACTIVE;
+        final var deadline = this.clock.nanoTime() + this.bulkMaxWaitNanos;
+
+        this.lock.lock();
+        try {
+            if (interactive)
+                this.interactiveWaiting++;
+
+            while (true) {
+                final var now = this.clock.nanoTime();
+                this.refill(now);
+
+                final var capacity = capacity();
+                final var needed = interactive ? 1 : Math.min(capacity, 1 + capacity * this.bulkReserve);
+                if (this.tokens >= needed && (interactive || this.interactiveWaiting == 0)) {
+                    this.tokens -= 1;
+                    return;
+                }
+
+                // Bulk writes held back only by waiting interactive ones are woken up when those finish
+                var waitNanos = this.tokens < needed
+                        ? (long) ((needed - this.tokens) / this.rate * SECOND_NANOS)
+                        : Long.MAX_VALUE;
+                if (!interactive) {
+                    if (now >= deadline) {
+                        this.bulkRejected.increment();
+                        throw new IllegalStateException("DynamoDB write capacity unavailable for bulk writes");
+                    }
+                    waitNanos = Math.min(waitNanos, deadline - now);
+                }
+                this.released.awaitNanos(Math.max(waitNanos, 1));
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for DynamoDB write capacity", e);
+        } finally {
+            if (interactive && --this.interactiveWaiting == 0)
+                this.released.signalAll();
+            this.lock.unlock();
+        }
+    }
+
+    public void onThrottled() {
+        this.throttled.increment();
+        this.lock.lock();
+        try {
+            final var now = this.clock.nanoTime();
+            this.throttledAt = now;
+            if (now - this.decreasedAt < this.cooldownNanos)
+                return;
+
+            this.refill(now);
+            this.rate = Math.max(this.minRate, this.rate * this.multiplicativeDecrease);
+            this.tokens = Math.min(this.tokens, capacity());
+            this.decreasedAt = now;
+            this.increasedAt = now;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        final var now = this.clock.nanoTime();
+        if (this.rate >= this.maxRate || now - this.throttledAt < this.cooldownNanos)
+            return;
+
+        this.lock.lock();
+        try {
+            if (now - this.increasedAt < SECOND_NANOS)
+                return;
+
+            this.refill(now);
+            this.rate = Math.min(this.maxRate, this.rate + this.additiveIncrease);
+            this.increasedAt = now;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public boolean isThrottled() {
+        return this.clock.nanoTime() - this.throttledAt < this.cooldownNanos;
+    }
+
+    // Blocks while writes are being throttled, up to the given time
+    public void awaitUnthrottled(final Duration maxWait) {
+        final var deadline = this.clock.nanoTime() + maxWait.toNanos();
+        try {
+            while (this.isThrottled() && this.clock.nanoTime() < deadline) {
+                final var remaining = this.throttledAt + this.cooldownNanos - this.clock.nanoTime();
+                TimeUnit.NANOSECONDS.sleep(Math.max(1, Math.min(remaining, deadline - this.clock.nanoTime())));
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double rate() {
+        return this.rate;
+    }
+
+    // The bucket holds one second of writes, and never less than a single write
+    private double capacity() {
+        return Math.max(1, this.rate);
+    }
+
+    // Caller holds the lock
+    private void refill(final long now) {
+        this.tokens = Math.min(capacity(), this.tokens + (now - this.refilledAt) * this.rate / SECOND_NANOS);
+        this.refilledAt = now;
+    }
+
+}
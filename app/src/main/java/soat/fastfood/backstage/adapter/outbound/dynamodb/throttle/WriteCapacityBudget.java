@@ -0,0 +1,64 @@
+package soat.fastfood.backstage.adapter.outbound.dynamodb.throttle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// Token bucket for background writes, in write capacity units per second. Callers reserve an
+// estimate before writing and settle the difference once DynamoDB reports the consumed capacity,
+// so large items slow the next writes instead of exceeding the budget. Up to one second of
+// unused budget can be spent at once.
+@Component
+public class WriteCapacityBudget {
+
+    private static final long BURST_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double nanosPerUnit;
+    private final Counter consumed;
+    // Instant up to which the budget has been handed out
+    private long spentUntil;
+
+    public WriteCapacityBudget(
+            @Value("${work-order.purge.write-capacity-units}") final double unitsPerSecond,
+            final MeterRegistry meterRegistry
+    ) {
+        if (unitsPerSecond <= 0)
+            throw new IllegalArgumentException("'work-order.purge.write-capacity-units' should be positive");
+
+        this.nanosPerUnit = TimeUnit.SECONDS.toNanos(1) / unitsPerSecond;
+        this.consumed = Counter.builder("backstage.dynamodb.background.write.units")
+                .register(meterRegistry);
+        this.spentUntil = System.nanoTime() - BURST_NANOS;
+    }
+
+    public void acquire(final double units) {
+        final var waitNanos = this.reserve(units);
+        if (waitNanos <= 0)
+            return;
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for write capacity", e);
+        }
+    }
+
+    public void settle(final double reserved, final double consumed) {
+        this.consumed.increment(consumed);
+        synchronized (this) {
+            this.spentUntil += (long) ((consumed - reserved) * this.nanosPerUnit);
+        }
+    }
+
+    private synchronized long reserve(final double units) {
+        final var now = System.nanoTime();
+        this.spentUntil = Math.max(this.spentUntil, now - BURST_NANOS);
+        this.spentUntil += (long) (units * this.nanosPerUnit);
+        return this.spentUntil - now;
+    }
+
+}
@@ -0,0 +1,58 @@
+package soat.fastfood.backstage.adapter.outbound.dynamodb.throttle;
+
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+import java.util.Set;
+
+// Feeds DynamoDB write outcomes into the limiter. Each attempt is inspected, so throttles hidden
+// by the SDK's own retries still lower the rate.
+public class WriteThrottlingInterceptor implements ExecutionInterceptor {
+
+    private static final Set<String> WRITE_OPERATIONS = Set.of(
+            "PutItem", "UpdateItem", "DeleteItem", "BatchWriteItem", "TransactWriteItems"
+    );
+    private static final Set<String> THROTTLING_ERRORS = Set.of(
+            "ProvisionedThroughputExceededException", "ThrottlingException", "RequestLimitExceeded"
+    );
+
+    private final AdaptiveWriteLimiter limiter;
+
+    public WriteThrottlingInterceptor(final AdaptiveWriteLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public void afterTransmission(final Context.AfterTransmission context, final ExecutionAttributes executionAttributes) {
+        if (!isWrite(executionAttributes))
+            return;
+
+        // x-amzn-ErrorType: <code>:<namespace>
+        context.httpResponse().firstMatchingHeader("x-amzn-ErrorType")
+                .map(type -> type.split(":", 2)[0])
+                .filter(THROTTLING_ERRORS::contains)
+                .ifPresent(type -> this.limiter.onThrottled());
+    }
+
+    @Override
+    public void afterExecution(final Context.AfterExecution context, final ExecutionAttributes executionAttributes) {
+        if (isWrite(executionAttributes))
+            this.limiter.onSuccess();
+    }
+
+    @Override
+    public void onExecutionFailure(final Context.FailedExecution context, final ExecutionAttributes executionAttributes) {
+        if (isWrite(executionAttributes)
+                && context.exception() instanceof TransactionCanceledException cancelled
+                && cancelled.cancellationReasons().stream().anyMatch(reason -> "ThrottlingError".equals(reason.code())))
+            this.limiter.onThrottled();
+    }
+
+    private static boolean isWrite(final ExecutionAttributes executionAttributes) {
+        return WRITE_OPERATIONS.contains(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME));
+    }
+
+}
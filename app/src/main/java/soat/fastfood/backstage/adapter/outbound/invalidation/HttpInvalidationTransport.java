@@ -0,0 +1,126 @@
+package soat.fastfood.backstage.adapter.outbound.invalidation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+// Fans each message out to every address behind the headless peers service, on the internal port the
+// public route does not reach. Delivery is best effort: a pod that misses a message still converges
+// through the cache TTLs.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "work-order.invalidation.transport", havingValue = "http")
+public class HttpInvalidationTransport implements InvalidationTransport {
+
+    public static final String TOKEN_HEADER = "X-Invalidation-Token";
+
+    private final List<Consumer<InvalidationMessage>> subscribers = new CopyOnWriteArrayList<>();
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final String peersHost;
+    private final int port;
+    private final String path;
+    private final String token;
+    private final Duration timeout;
+
+    public HttpInvalidationTransport(
+            final ObjectMapper objectMapper,
+            @Value("${work-order.invalidation.http.peers-host}") final String peersHost,
+            @Value("${work-order.internal.port}") final int port,
+            @Value("${server.servlet.context-path:}") final String contextPath,
+            @Value("${work-order.invalidation.http.token}") final String token,
+            @Value("${work-order.invalidation.http.timeout}") final Duration timeout
+    ) {
+        if (token == null || token.isBlank())
+            throw new IllegalStateException("work-order.invalidation.http.token must be set when the invalidation transport is http");
+
+        this.objectMapper = objectMapper;
+        this.peersHost = peersHost;
+        this.port = port;
+        this.path = contextPath + "/internal/invalidations";
+        this.token = token;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    @Override
+    public void publish(final InvalidationMessage message) {
+        final byte[] body;
+        try {
+            body = this.objectMapper.writeValueAsBytes(message);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize invalidation for work order {}", message.id(), e);
+            return;
+        }
+
+        for (final var peer : this.peers()) {
+            final var request = HttpRequest.newBuilder(URI.create("http://" + peer + ":" + this.port + this.path))
+                    .timeout(this.timeout)
+                    .header("Content-Type", "application/json")
+                    .header(TOKEN_HEADER, this.token)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                    .build();
+            this.httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (error != null)
+                            log.warn("Failed to send invalidation to {}: {}", peer, error.getMessage());
+                        else if (response.statusCode() >= 300)
+                            log.warn("Peer {} rejected invalidation with status {}", peer, response.statusCode());
+                    });
+        }
+    }
+
+    @Override
+    public void subscribe(final Consumer<InvalidationMessage> subscriber) {
+        this.subscribers.add(subscriber);
+    }
+
+    // Constant-time comparison, so response timing does not reveal how much of a guess matched
+    public boolean accepts(final String token) {
+        return token != null && MessageDigest.isEqual(
+                this.token.getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    public void deliver(final InvalidationMessage message) {
+        this.subscribers.forEach(subscriber -> subscriber.accept(message));
+    }
+
+    // Resolved on every publish so pods added by the autoscaler are picked up; the JVM DNS cache
+    // bounds the lookup rate
+    private List<String> peers() {
+        try {
+            final var self = InetAddress.getLocalHost().getHostAddress();
+            return Arrays.stream(InetAddress.getAllByName(this.peersHost))
+                    .map(InetAddress::getHostAddress)
+                    .filter(address -> !address.equals(self))
+                    .toList();
+        } catch (UnknownHostException e) {
+            log.warn("Failed to resolve invalidation peers from {}: {}", this.peersHost, e.getMessage());
+            return List.of();
+        }
+    }
+
+}
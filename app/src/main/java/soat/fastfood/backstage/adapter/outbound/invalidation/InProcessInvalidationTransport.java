@@ -0,0 +1,28 @@
+package soat.fastfood.backstage.adapter.outbound.invalidation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Delivers every message to the buses of the same JVM. Stands in for the HTTP fan-out when running a
+// single instance locally, and lets tests wire several buses together as if they were separate pods.
+@Component
+@ConditionalOnProperty(name = "work-order.invalidation.transport", havingValue = "in-process", matchIfMissing = true)
+public class InProcessInvalidationTransport implements InvalidationTransport {
+
+    private final List<Consumer<InvalidationMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(final InvalidationMessage message) {
+        this.subscribers.forEach(subscriber -> subscriber.accept(message));
+    }
+
+    @Override
+    public void subscribe(final Consumer<InvalidationMessage> subscriber) {
+        this.subscribers.add(subscriber);
+    }
+
+}
@@ -0,0 +1,154 @@
+package soat.fastfood.backstage.adapter.outbound.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import soat.fastfood.backstage.adapter.common.EventReplay;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderEvent;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+// Shares this pod's writes with the other replicas and replays theirs as local WorkOrderEvents, so
+// every cache and view listening to those events also sees writes handled elsewhere.
+@Slf4j
+@Component
+public class InvalidationBus {
+
+    private static final int MAX_TRACKED_IDS = 10_000;
+    // A deleted work order never comes back, so its deletion outranks every message still in flight
+    private static final long DELETED_VERSION = Long.MAX_VALUE;
+
+    private final String origin = UUID.randomUUID().toString();
+    private final Map<String, Long> versions = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Long> eldest) {
+            return this.size() > MAX_TRACKED_IDS;
+        }
+    };
+    private final InvalidationTransport transport;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter published;
+    private final Counter applied;
+    private final Counter stale;
+
+    public InvalidationBus(
+            final InvalidationTransport transport,
+            final ApplicationEventPublisher eventPublisher,
+            final MeterRegistry meterRegistry
+    ) {
+        this.transport = transport;
+        this.eventPublisher = eventPublisher;
+        this.published = counter(meterRegistry, "published");
+        this.applied = counter(meterRegistry, "applied");
+        this.stale = counter(meterRegistry, "stale");
+        transport.subscribe(this::apply);
+    }
+
+    @EventListener
+    public void on(final WorkOrderEvent event) {
+        if (EventReplay.active())
+            return;
+
+        final var message = switch (event) {
+            case WorkOrderEvent.Created created -> new InvalidationMessage(
+                    created.workOrderID().getValue(),
+                    created.workOrder().getStatus().name(),
+                    created.workOrder().getVersion(),
+                    created.workOrder().getUpdatedAt().toString(),
+                    this.origin,
+                    created.workOrder().getOrderNumber(),
+                    created.workOrder().getCreatedAt().toString(),
+                    created.workOrder().getItems().stream()
+                            .map(item -> new InvalidationMessage.Item(item.getName(), item.getQuantity()))
+                            .toList()
+            );
+            case WorkOrderEvent.StatusChanged changed -> new InvalidationMessage(
+                    changed.workOrderID().getValue(),
+                    changed.status().name(),
+                    changed.version(),
+                    changed.updatedAt().toString(),
+                    this.origin,
+                    null,
+                    null,
+                    null
+            );
+            case WorkOrderEvent.Deleted deleted -> new InvalidationMessage(
+                    deleted.workOrderID().getValue(),
+                    null,
+                    DELETED_VERSION,
+                    null,
+                    this.origin,
+                    null,
+                    null,
+                    null
+            );
+        };
+
+        this.advance(message.id(), message.version());
+        this.transport.publish(message);
+        this.published.increment();
+    }
+
+    // Remote creations carry the whole work order, so views that keep per-item state (prep totals, the
+    // order number index) pick them up as if they had been written here
+    void apply(final InvalidationMessage message) {
+        if (this.origin.equals(message.origin()))
+            return;
+
+        if (!this.advance(message.id(), message.version())) {
+            log.debug("Dropping stale invalidation for work order {} at version {}", message.id(), message.version());
+            this.stale.increment();
+            return;
+        }
+
+        final var workOrderID = WorkOrderID.from(message.id());
+        final WorkOrderEvent event;
+        if (message.status() == null)
+            event = new WorkOrderEvent.Deleted(workOrderID);
+        else if (message.items() != null)
+            event = new WorkOrderEvent.Created(WorkOrder.with(
+                    workOrderID,
+                    message.orderNumber(),
+                    WorkOrderStatus.from(message.status()),
+                    Instant.parse(message.createdAt()),
+                    Instant.parse(message.updatedAt()),
+                    message.items().stream()
+                            .map(item -> WorkOrderItem.create(item.name(), item.quantity()))
+                            .toList(),
+                    message.version()
+            ));
+        else
+            event = new WorkOrderEvent.StatusChanged(
+                    workOrderID, WorkOrderStatus.from(message.status()), Instant.parse(message.updatedAt()), message.version()
+            );
+
+        EventReplay.run(() -> this.eventPublisher.publishEvent(event));
+        this.applied.increment();
+    }
+
+    private synchronized boolean advance(final String id, final long version) {
+        final var current = this.versions.get(id);
+        if (current != null && current >= version)
+            return false;
+
+        this.versions.put(id, version);
+        return true;
+    }
+
+    private static Counter counter(final MeterRegistry meterRegistry, final String outcome) {
+        return Counter.builder("backstage.invalidation.messages")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,23 @@
+package soat.fastfood.backstage.adapter.outbound.invalidation;
+
+import java.util.List;
+
+// A null status means the work order was deleted. The version is the work order's own version after the
+// write, so messages about the same work order are ordered no matter which pod's clock stamped them.
+// Creations also carry orderNumber, createdAt and items, so other pods can replay the whole work order;
+// they are null on every other message.
+public record InvalidationMessage(
+        String id,
+        String status,
+        long version,
+        String updatedAt,
+        String origin,
+        String orderNumber,
+        String createdAt,
+        List<Item> items
+) {
+
+    public record Item(String name, int quantity) {
+    }
+
+}
@@ -0,0 +1,11 @@
+package soat.fastfood.backstage.adapter.outbound.invalidation;
+
+import java.util.function.Consumer;
+
+public interface InvalidationTransport {
+
+    void publish(InvalidationMessage message);
+
+    void subscribe(Consumer<InvalidationMessage> subscriber);
+
+}
@@ -0,0 +1,94 @@
+package soat.fastfood.backstage.adapter.outbound.memory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import soat.fastfood.backstage.application.domain.workorder.PrepTotals;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderEvent;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.port.PrepTotalsPort;
+import soat.fastfood.backstage.application.port.WorkOrderPort;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrepTotalsInMemoryAdapter implements PrepTotalsPort, ApplicationRunner {
+
+    private final WorkOrderPort workOrderPort;
+
+    private PrepTotals prepTotals = new PrepTotals();
+    private Set<String> changedDuringReconcile;
+
+    @Override
+    public synchronized Map<WorkOrderStatus, Map<String, Long>> findAll() {
+        return this.prepTotals.snapshot();
+    }
+
+    @EventListener
+    public synchronized void on(final WorkOrderEvent event) {
+        switch (event) {
+            case WorkOrderEvent.Created created -> this.prepTotals.add(created.workOrder());
+            case WorkOrderEvent.StatusChanged changed -> this.prepTotals.updateStatus(changed.workOrderID(), changed.status());
+            case WorkOrderEvent.Deleted deleted -> this.prepTotals.remove(deleted.workOrderID());
+        }
+
+        if (this.changedDuringReconcile != null)
+            this.changedDuringReconcile.add(event.workOrderID().getValue());
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        this.reconcile();
+    }
+
+    // Writes from other pods arrive through the invalidation bus or the change feed, but bus messages are
+    // best effort and the in-process transport never leaves this JVM, so the totals are still rebuilt often.
+    @Scheduled(
+            initialDelayString = "${work-order.prep-totals.reconcile-interval}",
+            fixedDelayString = "${work-order.prep-totals.reconcile-interval}"
+    )
+    public void reconcile() {
+        synchronized (this) {
+            this.changedDuringReconcile = new HashSet<>();
+        }
+
+        final List<WorkOrder> workOrders;
+        try {
+            workOrders = PrepTotals.OPEN_STATUSES.stream()
+                    .flatMap(status -> this.workOrderPort.findAllByStatus(status).stream())
+                    .toList();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                this.changedDuringReconcile = null;
+            }
+            log.warn("Failed to reconcile prep totals, keeping current totals", e);
+            return;
+        }
+
+        synchronized (this) {
+            final var rebuilt = new PrepTotals();
+            workOrders.stream()
+                    .filter(workOrder -> !this.changedDuringReconcile.contains(workOrder.getId().getValue()))
+                    .forEach(rebuilt::add);
+
+            // Orders written locally while the queries were running keep their live contribution
+            this.changedDuringReconcile.forEach(id -> this.prepTotals.copyTo(id, rebuilt));
+
+            this.prepTotals = rebuilt;
+            this.changedDuringReconcile = null;
+        }
+
+        log.info("Prep totals reconciled from {} open work orders", workOrders.size());
+    }
+
+}
@@ -13,15 +13,26 @@ import soat.fastfood.backstage.application.domain.exceptions.InternalErrorExcept
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
 import soat.fastfood.backstage.application.port.NotificationPort;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.sqs.SqsClient;
 import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationSqsAdapter implements NotificationPort {
 
+    private static final int MAX_BATCH_SIZE = 10;
+
     @Value("${message.order-status}")
     private String queue;
 
@@ -57,6 +68,65 @@ public class NotificationSqsAdapter implements NotificationPort {
         }
     }
 
+    @Override
+    public Set<WorkOrderID> sendWorkOrderStatusUpdateNotifications(Map<WorkOrderID, WorkOrderStatus> statuses) {
+        final var queueUrl = resolveQueueUrl(this.queue);
+        final var entries = new ArrayList<>(statuses.entrySet());
+        final var failed = new HashSet<WorkOrderID>();
+
+        for (var start = 0; start < entries.size(); start += MAX_BATCH_SIZE) {
+            final var chunk = entries.subList(start, Math.min(start + MAX_BATCH_SIZE, entries.size()));
+            failed.addAll(sendBatch(queueUrl, chunk));
+        }
+
+        log.info("Sent {} work order status update notifications in batches, {} failed",
+                statuses.size() - failed.size(),
+                failed.size()
+        );
+        return failed;
+    }
+
+    private Set<WorkOrderID> sendBatch(String queueUrl, List<Map.Entry<WorkOrderID, WorkOrderStatus>> chunk) {
+        try {
+            final var requestEntries = new ArrayList<SendMessageBatchRequestEntry>(chunk.size());
+            for (var i = 0; i < chunk.size(); i++) {
+                final var entry = chunk.get(i);
+                final var workOrderStatusNotification = new WorkOrderStatusNotification(
+                        entry.getKey().getValue(),
+                        entry.getValue().name()
+                );
+
+                requestEntries.add(SendMessageBatchRequestEntry.builder()
+                        .id(String.valueOf(i))
+                        .messageBody(this.objectMapper.writeValueAsString(new Data<>(workOrderStatusNotification)))
+                        .build());
+            }
+
+            final var response = sqsClient.sendMessageBatch(SendMessageBatchRequest.builder()
+                    .queueUrl(queueUrl)
+                    .entries(requestEntries)
+                    .build());
+
+            final var failed = new HashSet<WorkOrderID>();
+            response.failed().forEach(error -> {
+                final var workOrderId = chunk.get(Integer.parseInt(error.id())).getKey();
+                log.warn("Failed to send status notification for WorkOrderID: {}. Code: {}",
+                        workOrderId.getValue(),
+                        error.code()
+                );
+                failed.add(workOrderId);
+            });
+            return failed;
+        } catch (JsonProcessingException e) {
+            throw InternalErrorException.with("Erro na conversão da mensagem json", e);
+        } catch (SdkException e) {
+            log.warn("Failed to send status notification batch of {} messages", chunk.size(), e);
+            final var failed = new HashSet<WorkOrderID>();
+            chunk.forEach(entry -> failed.add(entry.getKey()));
+            return failed;
+        }
+    }
+
     private String resolveQueueUrl(String queueNameOrUrl) {
         if (queueNameOrUrl.startsWith("http") || queueNameOrUrl.startsWith("arn:")) {
             return queueNameOrUrl;
@@ -0,0 +1,37 @@
+package soat.fastfood.backstage.application.domain.exceptions;
+
+import soat.fastfood.backstage.application.domain.AggregateRoot;
+import soat.fastfood.backstage.application.domain.Identifier;
+import soat.fastfood.backstage.application.domain.validation.Error;
+
+import java.util.List;
+
+public class InvalidStatusTransitionException extends DomainException {
+
+    private final String currentStatus;
+
+    protected InvalidStatusTransitionException(final String aMessage, final List<Error> someErrors, final String currentStatus) {
+        super(aMessage, someErrors);
+        this.currentStatus = currentStatus;
+    }
+
+    public static InvalidStatusTransitionException with(
+            final Class<? extends AggregateRoot<?>> anAggregate,
+            final Identifier id,
+            final String currentStatus,
+            final String newStatus
+    ) {
+        final var anError = new Error("%s with id %s cannot change status from %s to %s".formatted(
+                anAggregate.getSimpleName().toLowerCase(),
+                id.getValue(),
+                currentStatus,
+                newStatus
+        ));
+        return new InvalidStatusTransitionException(anError.message(), List.of(anError), currentStatus);
+    }
+
+    public String getCurrentStatus() {
+        return currentStatus;
+    }
+
+}
@@ -0,0 +1,30 @@
+package soat.fastfood.backstage.application.domain.exceptions;
+
+import soat.fastfood.backstage.application.domain.AggregateRoot;
+import soat.fastfood.backstage.application.domain.Identifier;
+import soat.fastfood.backstage.application.domain.validation.Error;
+
+import java.util.List;
+
+public class PreconditionFailedException extends DomainException {
+
+    protected PreconditionFailedException(final String aMessage, final List<Error> someErrors) {
+        super(aMessage, someErrors);
+    }
+
+    public static PreconditionFailedException with(
+            final Class<? extends AggregateRoot<?>> anAggregate,
+            final Identifier id,
+            final long expectedVersion,
+            final long currentVersion
+    ) {
+        final var anError = new Error("%s with id %s is at version %d, not %d".formatted(
+                anAggregate.getSimpleName().toLowerCase(),
+                id.getValue(),
+                currentVersion,
+                expectedVersion
+        ));
+        return new PreconditionFailedException(anError.message(), List.of(anError));
+    }
+
+}
@@ -0,0 +1,84 @@
+package soat.fastfood.backstage.application.domain.workorder;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class PrepTotals {
+
+    public static final List<WorkOrderStatus> OPEN_STATUSES = List.of(
+            WorkOrderStatus.RECEIVED,
+            WorkOrderStatus.PREPARING,
+            WorkOrderStatus.READY
+    );
+
+    private final Map<String, Contribution> contributionsById = new HashMap<>();
+    private final Map<WorkOrderStatus, Map<String, Long>> totals = new EnumMap<>(WorkOrderStatus.class);
+
+    public void add(final WorkOrder workOrder) {
+        this.remove(workOrder.getId());
+        if (!OPEN_STATUSES.contains(workOrder.getStatus()))
+            return;
+
+        final var contribution = new Contribution(workOrder.getStatus(), workOrder.getItems());
+        this.contributionsById.put(workOrder.getId().getValue(), contribution);
+        this.apply(contribution, 1);
+    }
+
+    public void updateStatus(final WorkOrderID workOrderID, final WorkOrderStatus status) {
+        final var current = this.contributionsById.remove(workOrderID.getValue());
+        if (current == null)
+            return;
+
+        this.apply(current, -1);
+        if (!OPEN_STATUSES.contains(status))
+            return;
+
+        final var contribution = new Contribution(status, current.items());
+        this.contributionsById.put(workOrderID.getValue(), contribution);
+        this.apply(contribution, 1);
+    }
+
+    public void remove(final WorkOrderID workOrderID) {
+        final var current = this.contributionsById.remove(workOrderID.getValue());
+        if (current != null)
+            this.apply(current, -1);
+    }
+
+    public void copyTo(final String id, final PrepTotals target) {
+        target.remove(WorkOrderID.from(id));
+        final var current = this.contributionsById.get(id);
+        if (current == null)
+            return;
+
+        target.contributionsById.put(id, current);
+        target.apply(current, 1);
+    }
+
+    public Map<WorkOrderStatus, Map<String, Long>> snapshot() {
+        final var snapshot = new EnumMap<WorkOrderStatus, Map<String, Long>>(WorkOrderStatus.class);
+        OPEN_STATUSES.forEach(status -> snapshot.put(
+                status,
+                Collections.unmodifiableMap(new TreeMap<>(this.totals.getOrDefault(status, Map.of())))
+        ));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    private void apply(final Contribution contribution, final int sign) {
+        final var byName = this.totals.computeIfAbsent(contribution.status(), status -> new HashMap<>());
+        for (final var item : contribution.items()) {
+            final var quantity = item.getQuantity() == null ? 0L : item.getQuantity().longValue();
+            byName.merge(item.getName(), sign * quantity, (previous, delta) -> {
+                final var total = previous + delta;
+                return total == 0 ? null : total;
+            });
+        }
+    }
+
+    private record Contribution(WorkOrderStatus status, List<WorkOrderItem> items) {
+    }
+
+}
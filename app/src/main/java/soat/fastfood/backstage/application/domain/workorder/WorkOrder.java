@@ -1,6 +1,7 @@
 package soat.fastfood.backstage.application.domain.workorder;
 
 import soat.fastfood.backstage.application.domain.AggregateRoot;
+import soat.fastfood.backstage.application.domain.exceptions.InvalidStatusTransitionException;
 import soat.fastfood.backstage.application.domain.exceptions.NotificationException;
 import soat.fastfood.backstage.application.domain.utils.InstantUtils;
 import soat.fastfood.backstage.application.domain.validation.ValidationHandler;
@@ -18,6 +19,8 @@ public class WorkOrder extends AggregateRoot<WorkOrderID> {
 
     private WorkOrderStatus status;
     private Instant updatedAt;
+    // Incremented on every status change; orders stored before versioning start at 0
+    private long version;
 
     private WorkOrder(
             final WorkOrderID workOrderID,
@@ -25,7 +28,8 @@ public class WorkOrder extends AggregateRoot<WorkOrderID> {
             final WorkOrderStatus status,
             final Instant createdAt,
             final Instant updatedAt,
-            final List<WorkOrderItem> items
+            final List<WorkOrderItem> items,
+            final long version
     ) {
         super(workOrderID);
         this.orderNumber = orderNumber;
@@ -33,6 +37,7 @@ public class WorkOrder extends AggregateRoot<WorkOrderID> {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.items = items;
+        this.version = version;
         this.selfValidate();
     }
 
@@ -49,7 +54,8 @@ public class WorkOrder extends AggregateRoot<WorkOrderID> {
                 WorkOrderStatus.RECEIVED,
                 now,
                 now,
-                items
+                items,
+                1L
         );
     }
 
@@ -59,7 +65,8 @@ public class WorkOrder extends AggregateRoot<WorkOrderID> {
             final WorkOrderStatus status,
             final Instant createdAt,
             final Instant updatedAt,
-            final List<WorkOrderItem> items
+            final List<WorkOrderItem> items,
+            final long version
     ) {
         return new WorkOrder(
                 workOrderID,
@@ -67,7 +74,8 @@ public class WorkOrder extends AggregateRoot<WorkOrderID> {
                 status,
                 createdAt,
                 updatedAt,
-                items
+                items,
+                version
         );
     }
 
@@ -76,8 +84,15 @@ public class WorkOrder extends AggregateRoot<WorkOrderID> {
         new WorkOrderValidator(this, handler).validate();
     }
 
+    // Repeating the current status is accepted, so redelivered updates stay harmless
     public WorkOrder updateStatus(final WorkOrderStatus newStatus) {
+        if (newStatus != this.status && !this.status.canTransitionTo(newStatus))
+            throw InvalidStatusTransitionException.with(WorkOrder.class, getId(), this.status.name(), newStatus.name());
+        if (newStatus == this.status)
+            return this;
+
         this.status = newStatus;
+        this.version++;
         this.updatedAt = InstantUtils.now();
         return this;
     }
@@ -98,6 +113,10 @@ public class WorkOrder extends AggregateRoot<WorkOrderID> {
         return updatedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public List<WorkOrderItem> getItems() {
         return Collections.unmodifiableList(items);
     }
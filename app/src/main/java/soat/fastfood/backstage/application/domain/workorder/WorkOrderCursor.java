@@ -0,0 +1,45 @@
+package soat.fastfood.backstage.application.domain.workorder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Position in a status listing, which is ordered by createdAt and then id.
+// Encoded as an opaque token so callers can hand it back to resume.
+public record WorkOrderCursor(Instant createdAt, WorkOrderID workOrderID) {
+
+    private static final char SEPARATOR = '|';
+
+    public static WorkOrderCursor from(final WorkOrder workOrder) {
+        return new WorkOrderCursor(workOrder.getCreatedAt(), workOrder.getId());
+    }
+
+    public static WorkOrderCursor decode(final String token) {
+        final String value;
+        try {
+            value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid work order cursor: " + token, e);
+        }
+
+        final var separator = value.indexOf(SEPARATOR);
+        if (separator < 1 || separator == value.length() - 1)
+            throw new IllegalArgumentException("Invalid work order cursor: " + token);
+
+        try {
+            return new WorkOrderCursor(
+                    Instant.parse(value.substring(0, separator)),
+                    WorkOrderID.from(value.substring(separator + 1))
+            );
+        } catch (final DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid work order cursor: " + token, e);
+        }
+    }
+
+    public String encode() {
+        final var value = this.createdAt.toString() + SEPARATOR + this.workOrderID.getValue();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,23 @@
+package soat.fastfood.backstage.application.domain.workorder;
+
+import java.time.Instant;
+
+public sealed interface WorkOrderEvent {
+
+    WorkOrderID workOrderID();
+
+    record Created(WorkOrder workOrder) implements WorkOrderEvent {
+        @Override
+        public WorkOrderID workOrderID() {
+            return workOrder.getId();
+        }
+    }
+
+    // The version is the one the work order has after the change
+    record StatusChanged(WorkOrderID workOrderID, WorkOrderStatus status, Instant updatedAt, long version) implements WorkOrderEvent {
+    }
+
+    record Deleted(WorkOrderID workOrderID) implements WorkOrderEvent {
+    }
+
+}
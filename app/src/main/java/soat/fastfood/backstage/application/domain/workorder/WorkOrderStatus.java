@@ -1,6 +1,7 @@
 package soat.fastfood.backstage.application.domain.workorder;
 
 import java.util.Arrays;
+import java.util.Set;
 
 public enum WorkOrderStatus {
     RECEIVED,
@@ -8,6 +9,20 @@ public enum WorkOrderStatus {
     READY,
     COMPLETED;
 
+    // Orders move forward one stage at a time; RECEIVED is only set when the order is created
+    public Set<WorkOrderStatus> predecessors() {
+        return switch (this) {
+            case RECEIVED -> Set.of();
+            case PREPARING -> Set.of(RECEIVED);
+            case READY -> Set.of(PREPARING);
+            case COMPLETED -> Set.of(READY);
+        };
+    }
+
+    public boolean canTransitionTo(final WorkOrderStatus next) {
+        return next.predecessors().contains(this);
+    }
+
     public static WorkOrderStatus from(final String status) {
         return Arrays.stream(values())
                 .filter(item -> item.name().equals(status))
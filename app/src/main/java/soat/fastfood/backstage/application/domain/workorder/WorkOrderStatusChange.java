@@ -0,0 +1,6 @@
+package soat.fastfood.backstage.application.domain.workorder;
+
+import java.time.Instant;
+
+public record WorkOrderStatusChange(WorkOrderStatus status, Instant at) {
+}
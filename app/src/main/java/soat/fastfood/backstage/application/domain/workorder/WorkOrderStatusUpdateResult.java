@@ -0,0 +1,9 @@
+package soat.fastfood.backstage.application.domain.workorder;
+
+public enum WorkOrderStatusUpdateResult {
+    UPDATED,
+    NOT_FOUND,
+    CONFLICT,
+    FAILED,
+    ABORTED
+}
@@ -3,6 +3,11 @@ package soat.fastfood.backstage.application.port;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
 
+import java.util.Map;
+import java.util.Set;
+
 public interface NotificationPort {
     void sendWorkOrderStatusUpdateNotification(WorkOrderID workOrderId, WorkOrderStatus status);
+
+    Set<WorkOrderID> sendWorkOrderStatusUpdateNotifications(Map<WorkOrderID, WorkOrderStatus> statuses);
 }
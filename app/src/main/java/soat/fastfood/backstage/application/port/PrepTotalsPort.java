@@ -0,0 +1,11 @@
+package soat.fastfood.backstage.application.port;
+
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+
+import java.util.Map;
+
+public interface PrepTotalsPort {
+
+    Map<WorkOrderStatus, Map<String, Long>> findAll();
+
+}
@@ -0,0 +1,15 @@
+package soat.fastfood.backstage.application.port;
+
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WorkOrderArchivePort {
+
+    Optional<WorkOrder> findById(WorkOrderID workOrderID);
+
+    void saveAll(List<WorkOrder> workOrders);
+
+}
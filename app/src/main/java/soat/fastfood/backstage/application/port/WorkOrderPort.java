@@ -1,11 +1,17 @@
 package soat.fastfood.backstage.application.port;
 
 import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderCursor;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatusChange;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatusUpdateResult;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface WorkOrderPort {
 
@@ -15,8 +21,34 @@ public interface WorkOrderPort {
 
     List<WorkOrder> findAllByStatus(WorkOrderStatus status);
 
+    List<WorkOrder> findAllByStatuses(List<WorkOrderStatus> statuses);
+
+    Stream<List<WorkOrder>> streamAllByStatuses(List<WorkOrderStatus> statuses);
+
+    // A null cursor starts from the oldest work order
+    List<WorkOrder> findAllByStatusCreatedBefore(WorkOrderStatus status, Instant createdBefore, int limit, WorkOrderCursor after);
+
+    List<WorkOrder> findByOrderNumber(String orderNumber);
+
+    Map<WorkOrderStatus, Long> countAllByStatus();
+
+    // Oldest first; one entry per status the work order has been in, starting with RECEIVED
+    List<WorkOrderStatusChange> findHistory(WorkOrderID workOrderID);
+
     void updateStatus(WorkOrderID workOrderID, WorkOrderStatus status);
 
+    // Only applies the change while the work order is still at the expected version
+    void updateStatus(WorkOrderID workOrderID, WorkOrderStatus status, long expectedVersion);
+
+    // Writes consecutive changes at once, leaving the last status; each one must follow the previous
+    void applyStatusChanges(WorkOrderID workOrderID, List<WorkOrderStatusChange> changes);
+
+    Map<WorkOrderID, WorkOrderStatusUpdateResult> updateStatuses(Map<WorkOrderID, WorkOrderStatus> statuses, boolean atomic);
+
     void deleteById(WorkOrderID workOrderID);
 
+    List<WorkOrderID> deleteAllByStatus(List<WorkOrderID> workOrderIDs, WorkOrderStatus status);
+
+    int deleteAll(List<WorkOrder> workOrders);
+
 }
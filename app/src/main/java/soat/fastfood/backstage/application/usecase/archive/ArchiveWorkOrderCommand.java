@@ -0,0 +1,6 @@
+package soat.fastfood.backstage.application.usecase.archive;
+
+import java.time.Instant;
+
+public record ArchiveWorkOrderCommand(Instant createdBefore, int batchSize) {
+}
@@ -0,0 +1,4 @@
+package soat.fastfood.backstage.application.usecase.archive;
+
+public record ArchiveWorkOrderOutput(int archived, int batches) {
+}
@@ -0,0 +1,6 @@
+package soat.fastfood.backstage.application.usecase.archive;
+
+import soat.fastfood.backstage.application.usecase.UseCase;
+
+public abstract class ArchiveWorkOrderUseCase extends UseCase<ArchiveWorkOrderCommand, ArchiveWorkOrderOutput> {
+}
@@ -0,0 +1,66 @@
+package soat.fastfood.backstage.application.usecase.archive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import soat.fastfood.backstage.application.domain.exceptions.DomainException;
+import soat.fastfood.backstage.application.domain.validation.Error;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.port.WorkOrderArchivePort;
+import soat.fastfood.backstage.application.port.WorkOrderPort;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DefaultArchiveWorkOrderUseCase extends ArchiveWorkOrderUseCase {
+
+    // Each batch is deleted in one DynamoDB transaction, which also updates the status counters
+    private static final int MAX_BATCH_SIZE = 99;
+
+    private final WorkOrderPort workOrderPort;
+    private final WorkOrderArchivePort workOrderArchivePort;
+
+    @Override
+    public ArchiveWorkOrderOutput execute(final ArchiveWorkOrderCommand command) {
+        this.validate(command);
+
+        log.info("Archiving completed work orders created before {}", command.createdBefore());
+
+        var archived = 0;
+        var batches = 0;
+        while (true) {
+            final var workOrders = this.workOrderPort.findAllByStatusCreatedBefore(
+                    WorkOrderStatus.COMPLETED, command.createdBefore(), command.batchSize(), null
+            );
+            if (workOrders.isEmpty())
+                break;
+
+            // Copied before deleting, so a failure in between leaves the order in both tables, never in none
+            this.workOrderArchivePort.saveAll(workOrders);
+            final var deleted = this.workOrderPort.deleteAllByStatus(
+                    workOrders.stream().map(WorkOrder::getId).toList(), WorkOrderStatus.COMPLETED
+            );
+
+            archived += deleted.size();
+            batches++;
+
+            // Orders that left COMPLETED in the meantime stay in place and would be selected again
+            if (deleted.isEmpty() || workOrders.size() < command.batchSize())
+                break;
+        }
+
+        log.info("Archived {} work orders in {} batches", archived, batches);
+
+        return new ArchiveWorkOrderOutput(archived, batches);
+    }
+
+    private void validate(final ArchiveWorkOrderCommand command) {
+        if (command.createdBefore() == null)
+            throw DomainException.with(new Error("'createdBefore' should not be null"));
+
+        if (command.batchSize() < 1 || command.batchSize() > MAX_BATCH_SIZE)
+            throw DomainException.with(new Error("'batchSize' should be between 1 and %d".formatted(MAX_BATCH_SIZE)));
+    }
+
+}
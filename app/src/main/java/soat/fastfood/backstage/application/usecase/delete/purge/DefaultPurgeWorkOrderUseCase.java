@@ -0,0 +1,91 @@
+package soat.fastfood.backstage.application.usecase.delete.purge;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import soat.fastfood.backstage.application.domain.exceptions.DomainException;
+import soat.fastfood.backstage.application.domain.validation.Error;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderCursor;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.port.WorkOrderPort;
+
+import java.util.Arrays;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DefaultPurgeWorkOrderUseCase extends PurgeWorkOrderUseCase {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int MAX_LIMIT = 10_000;
+
+    private final WorkOrderPort workOrderPort;
+
+    @Override
+    public PurgeWorkOrderOutput execute(final PurgeWorkOrderCommand command) {
+        final var status = this.validate(command);
+        var cursor = this.cursor(command);
+
+        log.info("Purging up to {} {} work orders created before {}", command.limit(), status, command.createdBefore());
+
+        var purged = 0;
+        while (purged < command.limit()) {
+            final var requested = Math.min(PAGE_SIZE, command.limit() - purged);
+            final var workOrders = this.workOrderPort.findAllByStatusCreatedBefore(
+                    status, command.createdBefore(), requested, cursor
+            );
+            if (workOrders.isEmpty()) {
+                cursor = null;
+                break;
+            }
+
+            purged += this.workOrderPort.deleteAll(workOrders);
+            cursor = WorkOrderCursor.from(workOrders.getLast());
+
+            if (workOrders.size() < requested) {
+                cursor = null;
+                break;
+            }
+        }
+
+        log.info("Purged {} {} work orders (finished: {})", purged, status, cursor == null);
+
+        return new PurgeWorkOrderOutput(status.name(), purged, cursor == null ? null : cursor.encode());
+    }
+
+    private WorkOrderStatus validate(final PurgeWorkOrderCommand command) {
+        if (command.status() == null || command.status().isBlank())
+            throw DomainException.with(new Error("'status' should not be null or empty"));
+
+        if (command.createdBefore() == null)
+            throw DomainException.with(new Error("'createdBefore' should not be null"));
+
+        if (command.limit() < 1 || command.limit() > MAX_LIMIT)
+            throw DomainException.with(new Error("'limit' should be between 1 and %d".formatted(MAX_LIMIT)));
+
+        final WorkOrderStatus status;
+        try {
+            status = WorkOrderStatus.from(command.status());
+        } catch (final IllegalArgumentException e) {
+            throw DomainException.with(new Error("'status' %s is invalid".formatted(command.status())));
+        }
+
+        // Only final statuses: an order that can still move forward may be in progress in the kitchen
+        if (Arrays.stream(WorkOrderStatus.values()).anyMatch(status::canTransitionTo))
+            throw DomainException.with(new Error("'status' %s is not final and cannot be purged".formatted(status)));
+
+        return status;
+    }
+
+    private WorkOrderCursor cursor(final PurgeWorkOrderCommand command) {
+        if (command.checkpoint() == null || command.checkpoint().isBlank())
+            return null;
+
+        try {
+            return WorkOrderCursor.decode(command.checkpoint());
+        } catch (final IllegalArgumentException e) {
+            throw DomainException.with(new Error("'checkpoint' is invalid"));
+        }
+    }
+
+}
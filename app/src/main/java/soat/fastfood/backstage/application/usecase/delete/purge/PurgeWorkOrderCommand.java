@@ -0,0 +1,6 @@
+package soat.fastfood.backstage.application.usecase.delete.purge;
+
+import java.time.Instant;
+
+public record PurgeWorkOrderCommand(String status, Instant createdBefore, int limit, String checkpoint) {
+}
@@ -0,0 +1,5 @@
+package soat.fastfood.backstage.application.usecase.delete.purge;
+
+// A null checkpoint means no work order of the status is left before the cutoff
+public record PurgeWorkOrderOutput(String status, int purged, String checkpoint) {
+}
@@ -0,0 +1,6 @@
+package soat.fastfood.backstage.application.usecase.delete.purge;
+
+import soat.fastfood.backstage.application.usecase.UseCase;
+
+public abstract class PurgeWorkOrderUseCase extends UseCase<PurgeWorkOrderCommand, PurgeWorkOrderOutput> {
+}
@@ -0,0 +1,13 @@
+package soat.fastfood.backstage.application.usecase.retrieve.count;
+
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+
+public record CountWorkOrderOutput(
+        String status,
+        Long count
+) {
+
+    public static CountWorkOrderOutput from(final WorkOrderStatus status, final Long count) {
+        return new CountWorkOrderOutput(status.name(), count);
+    }
+}
@@ -0,0 +1,8 @@
+package soat.fastfood.backstage.application.usecase.retrieve.count;
+
+import soat.fastfood.backstage.application.usecase.NullaryUseCase;
+
+import java.util.List;
+
+public abstract class CountWorkOrderUseCase extends NullaryUseCase<List<CountWorkOrderOutput>> {
+}
@@ -0,0 +1,30 @@
+package soat.fastfood.backstage.application.usecase.retrieve.count;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.port.WorkOrderPort;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DefaultCountWorkOrderUseCase extends CountWorkOrderUseCase {
+
+    private final WorkOrderPort workOrderPort;
+
+    @Override
+    public List<CountWorkOrderOutput> execute() {
+        final var counts = this.workOrderPort.countAllByStatus();
+
+        log.debug("Retrieved work order counts: {}", counts);
+
+        return Arrays.stream(WorkOrderStatus.values())
+                .map(status -> CountWorkOrderOutput.from(status, counts.getOrDefault(status, 0L)))
+                .toList();
+    }
+
+}
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 import soat.fastfood.backstage.application.domain.exceptions.NotFoundException;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.port.WorkOrderArchivePort;
 import soat.fastfood.backstage.application.port.WorkOrderPort;
 
 @Slf4j
@@ -14,13 +15,16 @@ import soat.fastfood.backstage.application.port.WorkOrderPort;
 public class DefaultGetWorkOrderUseCase extends GetWorkOrderUseCase {
 
     private final WorkOrderPort workOrderPort;
+    private final WorkOrderArchivePort workOrderArchivePort;
 
     @Override
     public GetWorkOrderOutput execute(final GetWorkOrderCommand command) {
         final var workOrderID = WorkOrderID.from(command.id());
         log.info("Retrieving work order by id: {}", workOrderID);
 
+        // Completed orders are moved to the archive after a while
         final var retrievedWorkOrder = this.workOrderPort.findById(workOrderID)
+                .or(() -> this.workOrderArchivePort.findById(workOrderID))
                 .orElseThrow(() -> NotFoundException.with(WorkOrder.class, workOrderID));
 
         return GetWorkOrderOutput.from(retrievedWorkOrder);
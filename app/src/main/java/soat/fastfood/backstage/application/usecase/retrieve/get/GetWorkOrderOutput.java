@@ -11,7 +11,8 @@ public record GetWorkOrderOutput(
         List<GetWorkOrderItemOutput> items,
         String status,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        long version
 ) {
 
     public static GetWorkOrderOutput from(final WorkOrder workOrder) {
@@ -23,7 +24,8 @@ public record GetWorkOrderOutput(
                 GetWorkOrderItemOutput.from(workOrder.getItems()),
                 workOrder.getStatus().name(),
                 workOrder.getCreatedAt(),
-                workOrder.getUpdatedAt()
+                workOrder.getUpdatedAt(),
+                workOrder.getVersion()
         );
     }
 }
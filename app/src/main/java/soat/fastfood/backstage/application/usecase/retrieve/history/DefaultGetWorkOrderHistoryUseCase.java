@@ -0,0 +1,36 @@
+package soat.fastfood.backstage.application.usecase.retrieve.history;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import soat.fastfood.backstage.application.domain.exceptions.NotFoundException;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.port.WorkOrderArchivePort;
+import soat.fastfood.backstage.application.port.WorkOrderPort;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DefaultGetWorkOrderHistoryUseCase extends GetWorkOrderHistoryUseCase {
+
+    private final WorkOrderPort workOrderPort;
+    private final WorkOrderArchivePort workOrderArchivePort;
+
+    @Override
+    public GetWorkOrderHistoryOutput execute(final GetWorkOrderHistoryCommand command) {
+        final var workOrderID = WorkOrderID.from(command.id());
+        log.info("Retrieving status history of work order: {}", workOrderID);
+
+        final var history = this.workOrderPort.findHistory(workOrderID);
+
+        // Orders created before the history was recorded have none, which is not the same as not existing
+        if (history.isEmpty() && this.workOrderPort.findById(workOrderID)
+                .or(() -> this.workOrderArchivePort.findById(workOrderID))
+                .isEmpty())
+            throw NotFoundException.with(WorkOrder.class, workOrderID);
+
+        return GetWorkOrderHistoryOutput.from(workOrderID, history);
+    }
+
+}
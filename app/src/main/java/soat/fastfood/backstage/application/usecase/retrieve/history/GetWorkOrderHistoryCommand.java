@@ -0,0 +1,4 @@
+package soat.fastfood.backstage.application.usecase.retrieve.history;
+
+public record GetWorkOrderHistoryCommand(String id) {
+}
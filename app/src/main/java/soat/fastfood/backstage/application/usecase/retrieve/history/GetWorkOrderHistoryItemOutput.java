@@ -0,0 +1,30 @@
+package soat.fastfood.backstage.application.usecase.retrieve.history;
+
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatusChange;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public record GetWorkOrderHistoryItemOutput(
+        String status,
+        Instant at,
+        Long durationMillis
+) {
+
+    // The duration is the time spent in the status until the next change; null for the current one
+    public static List<GetWorkOrderHistoryItemOutput> from(final List<WorkOrderStatusChange> changes) {
+        final var outputs = new ArrayList<GetWorkOrderHistoryItemOutput>(changes.size());
+        for (var i = 0; i < changes.size(); i++) {
+            final var change = changes.get(i);
+            final var next = i + 1 < changes.size() ? changes.get(i + 1) : null;
+            outputs.add(new GetWorkOrderHistoryItemOutput(
+                    change.status().name(),
+                    change.at(),
+                    next == null ? null : Duration.between(change.at(), next.at()).toMillis()
+            ));
+        }
+        return outputs;
+    }
+}
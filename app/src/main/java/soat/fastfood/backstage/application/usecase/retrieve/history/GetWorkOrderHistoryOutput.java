@@ -0,0 +1,16 @@
+package soat.fastfood.backstage.application.usecase.retrieve.history;
+
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatusChange;
+
+import java.util.List;
+
+public record GetWorkOrderHistoryOutput(
+        String id,
+        List<GetWorkOrderHistoryItemOutput> history
+) {
+
+    public static GetWorkOrderHistoryOutput from(final WorkOrderID workOrderID, final List<WorkOrderStatusChange> changes) {
+        return new GetWorkOrderHistoryOutput(workOrderID.getValue(), GetWorkOrderHistoryItemOutput.from(changes));
+    }
+}
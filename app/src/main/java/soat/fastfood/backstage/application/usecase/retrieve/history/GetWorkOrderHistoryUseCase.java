@@ -0,0 +1,6 @@
+package soat.fastfood.backstage.application.usecase.retrieve.history;
+
+import soat.fastfood.backstage.application.usecase.UseCase;
+
+public abstract class GetWorkOrderHistoryUseCase extends UseCase<GetWorkOrderHistoryCommand, GetWorkOrderHistoryOutput> {
+}
@@ -3,6 +3,8 @@ package soat.fastfood.backstage.application.usecase.retrieve.list;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import soat.fastfood.backstage.application.domain.exceptions.DomainException;
+import soat.fastfood.backstage.application.domain.validation.Error;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
 import soat.fastfood.backstage.application.port.WorkOrderPort;
 
@@ -17,13 +19,21 @@ public class DefaultListWorkOrderUseCase extends ListWorkOrderUseCase {
 
     @Override
     public List<ListWorkOrderOutput> execute(final ListWorkOrderCommand command) {
-        final var workOrderStatus = WorkOrderStatus.from(command.status());
+        if (command.statuses() == null || command.statuses().isEmpty())
+            throw DomainException.with(new Error("'status' should not be null or empty"));
 
-        log.info("Listing work orders by status: {}", workOrderStatus);
+        final var workOrderStatuses = command.statuses().stream()
+                .map(WorkOrderStatus::from)
+                .distinct()
+                .toList();
 
-        final var workOrders = this.workOrderPort.findAllByStatus(workOrderStatus);
+        log.info("Listing work orders by status: {}", workOrderStatuses);
 
-        log.info("Found {} work orders with status: {}", workOrders.size(), workOrderStatus);
+        final var workOrders = workOrderStatuses.size() == 1
+                ? this.workOrderPort.findAllByStatus(workOrderStatuses.getFirst())
+                : this.workOrderPort.findAllByStatuses(workOrderStatuses);
+
+        log.info("Found {} work orders with status: {}", workOrders.size(), workOrderStatuses);
 
         return workOrders.stream().map(ListWorkOrderOutput::from).toList();
     }
@@ -1,4 +1,11 @@
 package soat.fastfood.backstage.application.usecase.retrieve.list;
 
-public record ListWorkOrderCommand(String status) {
+import java.util.Collections;
+import java.util.List;
+
+public record ListWorkOrderCommand(List<String> statuses) {
+
+    public ListWorkOrderCommand(final String status) {
+        this(Collections.singletonList(status));
+    }
 }
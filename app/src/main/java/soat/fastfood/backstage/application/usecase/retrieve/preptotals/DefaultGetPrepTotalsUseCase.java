@@ -0,0 +1,28 @@
+package soat.fastfood.backstage.application.usecase.retrieve.preptotals;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import soat.fastfood.backstage.application.port.PrepTotalsPort;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DefaultGetPrepTotalsUseCase extends GetPrepTotalsUseCase {
+
+    private final PrepTotalsPort prepTotalsPort;
+
+    @Override
+    public List<GetPrepTotalsOutput> execute() {
+        final var totals = this.prepTotalsPort.findAll();
+
+        log.debug("Retrieved prep totals for {} statuses", totals.size());
+
+        return totals.entrySet().stream()
+                .map(entry -> GetPrepTotalsOutput.from(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+}
@@ -0,0 +1,15 @@
+package soat.fastfood.backstage.application.usecase.retrieve.preptotals;
+
+import java.util.List;
+import java.util.Map;
+
+public record GetPrepTotalsItemOutput(
+        String name,
+        Long quantity
+) {
+    public static List<GetPrepTotalsItemOutput> from(final Map<String, Long> totals) {
+        return totals.entrySet().stream()
+                .map(entry -> new GetPrepTotalsItemOutput(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+}
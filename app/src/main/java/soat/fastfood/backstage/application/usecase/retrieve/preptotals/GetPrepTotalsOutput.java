@@ -0,0 +1,16 @@
+package soat.fastfood.backstage.application.usecase.retrieve.preptotals;
+
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+
+import java.util.List;
+import java.util.Map;
+
+public record GetPrepTotalsOutput(
+        String status,
+        List<GetPrepTotalsItemOutput> items
+) {
+
+    public static GetPrepTotalsOutput from(final WorkOrderStatus status, final Map<String, Long> totals) {
+        return new GetPrepTotalsOutput(status.name(), GetPrepTotalsItemOutput.from(totals));
+    }
+}
@@ -0,0 +1,8 @@
+package soat.fastfood.backstage.application.usecase.retrieve.preptotals;
+
+import soat.fastfood.backstage.application.usecase.NullaryUseCase;
+
+import java.util.List;
+
+public abstract class GetPrepTotalsUseCase extends NullaryUseCase<List<GetPrepTotalsOutput>> {
+}
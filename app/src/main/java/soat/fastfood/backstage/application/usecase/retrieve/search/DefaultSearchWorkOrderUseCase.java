@@ -0,0 +1,34 @@
+package soat.fastfood.backstage.application.usecase.retrieve.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import soat.fastfood.backstage.application.domain.exceptions.DomainException;
+import soat.fastfood.backstage.application.domain.validation.Error;
+import soat.fastfood.backstage.application.port.WorkOrderPort;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DefaultSearchWorkOrderUseCase extends SearchWorkOrderUseCase {
+
+    private final WorkOrderPort workOrderPort;
+
+    @Override
+    public List<SearchWorkOrderOutput> execute(final SearchWorkOrderCommand command) {
+        final var orderNumber = command.orderNumber();
+        if (orderNumber == null || orderNumber.isBlank())
+            throw DomainException.with(new Error("'orderNumber' should not be null or empty"));
+
+        log.info("Searching active work orders by orderNumber: {}", orderNumber);
+
+        final var workOrders = this.workOrderPort.findByOrderNumber(orderNumber);
+
+        log.info("Found {} active work orders with orderNumber: {}", workOrders.size(), orderNumber);
+
+        return workOrders.stream().map(SearchWorkOrderOutput::from).toList();
+    }
+
+}
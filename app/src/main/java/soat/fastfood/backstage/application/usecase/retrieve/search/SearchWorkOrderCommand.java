@@ -0,0 +1,4 @@
+package soat.fastfood.backstage.application.usecase.retrieve.search;
+
+public record SearchWorkOrderCommand(String orderNumber) {
+}
@@ -0,0 +1,20 @@
+package soat.fastfood.backstage.application.usecase.retrieve.search;
+
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
+
+import java.util.List;
+
+public record SearchWorkOrderItemOutput(
+        String name,
+        Integer quantity
+) {
+    public static List<SearchWorkOrderItemOutput> from(final List<WorkOrderItem> workOrderItems) {
+        return workOrderItems.stream()
+                .map(SearchWorkOrderItemOutput::from)
+                .toList();
+    }
+
+    public static SearchWorkOrderItemOutput from(final WorkOrderItem workOrderItem) {
+        return new SearchWorkOrderItemOutput(workOrderItem.getName(), workOrderItem.getQuantity());
+    }
+}
@@ -0,0 +1,27 @@
+package soat.fastfood.backstage.application.usecase.retrieve.search;
+
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+
+import java.time.Instant;
+import java.util.List;
+
+public record SearchWorkOrderOutput(
+        String id,
+        String orderNumber,
+        List<SearchWorkOrderItemOutput> items,
+        String status,
+        Instant createdAt,
+        Instant updatedAt
+) {
+
+    public static SearchWorkOrderOutput from(final WorkOrder workOrder) {
+        return new SearchWorkOrderOutput(
+                workOrder.getId().getValue(),
+                workOrder.getOrderNumber(),
+                SearchWorkOrderItemOutput.from(workOrder.getItems()),
+                workOrder.getStatus().name(),
+                workOrder.getCreatedAt(),
+                workOrder.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,8 @@
+package soat.fastfood.backstage.application.usecase.retrieve.search;
+
+import soat.fastfood.backstage.application.usecase.UseCase;
+
+import java.util.List;
+
+public abstract class SearchWorkOrderUseCase extends UseCase<SearchWorkOrderCommand, List<SearchWorkOrderOutput>> {
+}
@@ -0,0 +1,38 @@
+package soat.fastfood.backstage.application.usecase.retrieve.stream;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import soat.fastfood.backstage.application.domain.exceptions.DomainException;
+import soat.fastfood.backstage.application.domain.validation.Error;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.port.WorkOrderPort;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DefaultStreamWorkOrderUseCase extends StreamWorkOrderUseCase {
+
+    private final WorkOrderPort workOrderPort;
+
+    @Override
+    public Stream<List<StreamWorkOrderOutput>> execute(final StreamWorkOrderCommand command) {
+        if (command.statuses() == null || command.statuses().isEmpty())
+            throw DomainException.with(new Error("'status' should not be null or empty"));
+
+        final var workOrderStatuses = command.statuses().stream()
+                .map(WorkOrderStatus::from)
+                .distinct()
+                .toList();
+
+        log.info("Streaming work orders by status: {}", workOrderStatuses);
+
+        // Pages are mapped as they are pulled, so only the page being written is held in memory
+        return this.workOrderPort.streamAllByStatuses(workOrderStatuses)
+                .map(page -> page.stream().map(StreamWorkOrderOutput::from).toList());
+    }
+
+}
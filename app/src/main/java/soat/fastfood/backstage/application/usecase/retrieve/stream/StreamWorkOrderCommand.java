@@ -0,0 +1,6 @@
+package soat.fastfood.backstage.application.usecase.retrieve.stream;
+
+import java.util.List;
+
+public record StreamWorkOrderCommand(List<String> statuses) {
+}
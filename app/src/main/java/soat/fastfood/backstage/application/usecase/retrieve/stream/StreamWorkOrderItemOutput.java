@@ -0,0 +1,20 @@
+package soat.fastfood.backstage.application.usecase.retrieve.stream;
+
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
+
+import java.util.List;
+
+public record StreamWorkOrderItemOutput(
+        String name,
+        Integer quantity
+) {
+    public static List<StreamWorkOrderItemOutput> from(final List<WorkOrderItem> workOrderItems) {
+        return workOrderItems.stream()
+                .map(StreamWorkOrderItemOutput::from)
+                .toList();
+    }
+
+    public static StreamWorkOrderItemOutput from(final WorkOrderItem workOrderItem) {
+        return new StreamWorkOrderItemOutput(workOrderItem.getName(), workOrderItem.getQuantity());
+    }
+}
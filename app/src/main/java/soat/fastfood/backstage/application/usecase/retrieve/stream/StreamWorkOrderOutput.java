@@ -0,0 +1,28 @@
+package soat.fastfood.backstage.application.usecase.retrieve.stream;
+
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+
+import java.time.Instant;
+import java.util.List;
+
+public record StreamWorkOrderOutput(
+        String id,
+        String orderNumber,
+        List<StreamWorkOrderItemOutput> items,
+        String status,
+        Instant createdAt,
+        Instant updatedAt
+) {
+
+    public static StreamWorkOrderOutput from(final WorkOrder workOrder) {
+
+        return new StreamWorkOrderOutput(
+                workOrder.getId().getValue(),
+                workOrder.getOrderNumber(),
+                StreamWorkOrderItemOutput.from(workOrder.getItems()),
+                workOrder.getStatus().name(),
+                workOrder.getCreatedAt(),
+                workOrder.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package soat.fastfood.backstage.application.usecase.retrieve.stream;
+
+import soat.fastfood.backstage.application.usecase.UseCase;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public abstract class StreamWorkOrderUseCase extends UseCase<StreamWorkOrderCommand, Stream<List<StreamWorkOrderOutput>>> {
+}
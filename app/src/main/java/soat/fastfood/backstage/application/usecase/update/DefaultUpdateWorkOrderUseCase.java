@@ -23,7 +23,10 @@ public class DefaultUpdateWorkOrderUseCase extends UpdateWorkOrderUseCase {
 
         log.info("Updating work order ID: {} to status: {}", workOrderId, newWorkOrderStatus);
 
-        this.workOrderPort.updateStatus(workOrderId, newWorkOrderStatus);
+        if (command.expectedVersion() == null)
+            this.workOrderPort.updateStatus(workOrderId, newWorkOrderStatus);
+        else
+            this.workOrderPort.updateStatus(workOrderId, newWorkOrderStatus, command.expectedVersion());
         this.notificationPort.sendWorkOrderStatusUpdateNotification(workOrderId, newWorkOrderStatus);
 
         log.info("Work order ID: {} updated to status: {}", workOrderId, newWorkOrderStatus);
@@ -1,4 +1,9 @@
 package soat.fastfood.backstage.application.usecase.update;
 
-public record UpdateWorkOrderCommand(String id, String status) {
+// A null expectedVersion updates whatever version is stored
+public record UpdateWorkOrderCommand(String id, String status, Long expectedVersion) {
+
+    public UpdateWorkOrderCommand(final String id, final String status) {
+        this(id, status, null);
+    }
 }
@@ -0,0 +1,6 @@
+package soat.fastfood.backstage.application.usecase.update.batch;
+
+import java.util.List;
+
+public record BatchUpdateWorkOrderCommand(List<BatchUpdateWorkOrderItemCommand> updates, boolean atomic) {
+}
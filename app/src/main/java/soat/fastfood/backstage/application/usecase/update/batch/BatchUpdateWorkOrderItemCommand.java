@@ -0,0 +1,4 @@
+package soat.fastfood.backstage.application.usecase.update.batch;
+
+public record BatchUpdateWorkOrderItemCommand(String id, String status) {
+}
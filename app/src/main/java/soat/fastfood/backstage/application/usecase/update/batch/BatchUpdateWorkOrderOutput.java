@@ -0,0 +1,9 @@
+package soat.fastfood.backstage.application.usecase.update.batch;
+
+public record BatchUpdateWorkOrderOutput(
+        String id,
+        String status,
+        String result,
+        boolean notified
+) {
+}
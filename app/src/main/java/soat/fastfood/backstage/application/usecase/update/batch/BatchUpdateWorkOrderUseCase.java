@@ -0,0 +1,8 @@
+package soat.fastfood.backstage.application.usecase.update.batch;
+
+import soat.fastfood.backstage.application.usecase.UseCase;
+
+import java.util.List;
+
+public abstract class BatchUpdateWorkOrderUseCase extends UseCase<BatchUpdateWorkOrderCommand, List<BatchUpdateWorkOrderOutput>> {
+}
@@ -0,0 +1,96 @@
+package soat.fastfood.backstage.application.usecase.update.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import soat.fastfood.backstage.application.domain.exceptions.DomainException;
+import soat.fastfood.backstage.application.domain.validation.Error;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatusUpdateResult;
+import soat.fastfood.backstage.application.port.NotificationPort;
+import soat.fastfood.backstage.application.port.WorkOrderPort;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DefaultBatchUpdateWorkOrderUseCase extends BatchUpdateWorkOrderUseCase {
+
+    // Non-atomic updates are independent single-item writes, WORK_ORDER_BATCH_PARALLELISM at a time, so
+    // this limit only bounds how long one request holds a thread: 500 updates are about 63 rounds of
+    // writes at the default parallelism of 8
+    private static final int MAX_UPDATES = 500;
+    // Atomic batches run in a single TransactWriteItems, which accepts at most 100 actions: one update and
+    // one history append per work order, plus the status counters
+    private static final int MAX_ATOMIC_UPDATES = 49;
+
+    private final WorkOrderPort workOrderPort;
+    private final NotificationPort notificationPort;
+
+    @Override
+    public List<BatchUpdateWorkOrderOutput> execute(final BatchUpdateWorkOrderCommand command) {
+        final var statuses = this.validate(command);
+
+        log.info("Updating {} work orders in batch (atomic: {})", statuses.size(), command.atomic());
+
+        final var results = this.workOrderPort.updateStatuses(statuses, command.atomic());
+
+        final var updated = new LinkedHashMap<WorkOrderID, WorkOrderStatus>();
+        statuses.forEach((workOrderID, status) -> {
+            if (results.get(workOrderID) == WorkOrderStatusUpdateResult.UPDATED)
+                updated.put(workOrderID, status);
+        });
+
+        final Set<WorkOrderID> notNotified = updated.isEmpty()
+                ? Set.of()
+                : this.notificationPort.sendWorkOrderStatusUpdateNotifications(updated);
+
+        log.info("Batch update finished: {} of {} work orders updated", updated.size(), statuses.size());
+
+        return statuses.entrySet().stream()
+                .map(entry -> {
+                    final var result = results.getOrDefault(entry.getKey(), WorkOrderStatusUpdateResult.FAILED);
+                    return new BatchUpdateWorkOrderOutput(
+                            entry.getKey().getValue(),
+                            entry.getValue().name(),
+                            result.name(),
+                            result == WorkOrderStatusUpdateResult.UPDATED && !notNotified.contains(entry.getKey())
+                    );
+                })
+                .toList();
+    }
+
+    private Map<WorkOrderID, WorkOrderStatus> validate(final BatchUpdateWorkOrderCommand command) {
+        final var updates = command.updates();
+        if (updates == null || updates.isEmpty())
+            throw DomainException.with(new Error("'updates' should not be null or empty"));
+
+        final var maxUpdates = command.atomic() ? MAX_ATOMIC_UPDATES : MAX_UPDATES;
+        if (updates.size() > maxUpdates)
+            throw DomainException.with(new Error("'updates' should not have more than %d items".formatted(maxUpdates)));
+
+        final var statuses = new LinkedHashMap<WorkOrderID, WorkOrderStatus>();
+        for (final var update : updates) {
+            if (update.id() == null || update.id().isBlank())
+                throw DomainException.with(new Error("'id' should not be null or empty"));
+
+            final WorkOrderStatus status;
+            try {
+                status = WorkOrderStatus.from(update.status());
+            } catch (final IllegalArgumentException e) {
+                throw DomainException.with(new Error("'status' %s is invalid for id %s".formatted(update.status(), update.id())));
+            }
+
+            if (statuses.put(WorkOrderID.from(update.id()), status) != null)
+                throw DomainException.with(new Error("'updates' should not contain duplicated id %s".formatted(update.id())));
+        }
+
+        return statuses;
+    }
+
+}
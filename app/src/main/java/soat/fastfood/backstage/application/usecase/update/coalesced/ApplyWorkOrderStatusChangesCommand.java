@@ -0,0 +1,8 @@
+package soat.fastfood.backstage.application.usecase.update.coalesced;
+
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatusChange;
+
+import java.util.List;
+
+public record ApplyWorkOrderStatusChangesCommand(String id, List<WorkOrderStatusChange> changes) {
+}
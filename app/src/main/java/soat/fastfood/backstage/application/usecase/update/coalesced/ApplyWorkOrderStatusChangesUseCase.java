@@ -0,0 +1,6 @@
+package soat.fastfood.backstage.application.usecase.update.coalesced;
+
+import soat.fastfood.backstage.application.usecase.UnitUseCase;
+
+public abstract class ApplyWorkOrderStatusChangesUseCase extends UnitUseCase<ApplyWorkOrderStatusChangesCommand> {
+}
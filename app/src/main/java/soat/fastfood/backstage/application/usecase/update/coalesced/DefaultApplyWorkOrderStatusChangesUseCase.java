@@ -0,0 +1,50 @@
+package soat.fastfood.backstage.application.usecase.update.coalesced;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import soat.fastfood.backstage.application.domain.exceptions.DomainException;
+import soat.fastfood.backstage.application.domain.validation.Error;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.port.NotificationPort;
+import soat.fastfood.backstage.application.port.WorkOrderPort;
+
+// Applies status changes that were coalesced for one work order: one write and one notification
+// for the last status, while the history keeps every change
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DefaultApplyWorkOrderStatusChangesUseCase extends ApplyWorkOrderStatusChangesUseCase {
+
+    private final WorkOrderPort workOrderPort;
+    private final NotificationPort notificationPort;
+
+    @Override
+    public void execute(final ApplyWorkOrderStatusChangesCommand command) {
+        this.validate(command);
+
+        final var workOrderId = WorkOrderID.from(command.id());
+        final var last = command.changes().getLast().status();
+
+        log.info("Applying {} status changes to work order ID: {}, ending in {}", command.changes().size(), workOrderId, last);
+
+        this.workOrderPort.applyStatusChanges(workOrderId, command.changes());
+        this.notificationPort.sendWorkOrderStatusUpdateNotification(workOrderId, last);
+    }
+
+    private void validate(final ApplyWorkOrderStatusChangesCommand command) {
+        final var changes = command.changes();
+        if (changes == null || changes.isEmpty())
+            throw DomainException.with(new Error("'changes' should not be null or empty"));
+
+        for (var i = 1; i < changes.size(); i++) {
+            final var previous = changes.get(i - 1);
+            final var next = changes.get(i);
+            if (!previous.status().canTransitionTo(next.status()))
+                throw DomainException.with(new Error("'changes' should not go from %s to %s".formatted(previous.status(), next.status())));
+            if (next.at().isBefore(previous.at()))
+                throw DomainException.with(new Error("'changes' should be in chronological order"));
+        }
+    }
+
+}
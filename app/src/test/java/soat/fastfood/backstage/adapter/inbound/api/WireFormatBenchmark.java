@@ -0,0 +1,68 @@
+package soat.fastfood.backstage.adapter.inbound.api;
+
+import soat.fastfood.backstage.adapter.config.ObjectMapperConfig;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
+import soat.fastfood.backstage.application.usecase.retrieve.list.ListWorkOrderOutput;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+// Payload size and serialization throughput of a kitchen listing per wire format.
+// Not part of the test suite; run the main method with the test classpath.
+public final class WireFormatBenchmark {
+
+    private static final int WARM_UP_ROUNDS = 20_000;
+    private static final int MEASURED_ROUNDS = 50_000;
+
+    private WireFormatBenchmark() {
+    }
+
+    public static void main(final String[] args) {
+        final var config = new ObjectMapperConfig();
+        final var mappers = new LinkedHashMap<String, ObjectMapper>();
+        final var jsonMapper = JsonMapper.builder().build();
+        mappers.put("json", jsonMapper);
+        mappers.put("cbor", config.cborMapper(jsonMapper));
+        mappers.put("smile", config.smileMapper(jsonMapper));
+
+        for (final var size : List.of(1, 20, 200)) {
+            final var listing = listing(size);
+            System.out.printf("%n%d work orders%n", size);
+            System.out.printf("%-6s %10s %14s%n", "format", "bytes", "lists/s");
+
+            for (final var entry : mappers.entrySet()) {
+                final var mapper = entry.getValue();
+                final var rounds = MEASURED_ROUNDS / size;
+                for (int i = 0; i < WARM_UP_ROUNDS / size; i++)
+                    mapper.writeValueAsBytes(listing);
+
+                var bytes = 0;
+                final var start = System.nanoTime();
+                for (int i = 0; i < rounds; i++)
+                    bytes = mapper.writeValueAsBytes(listing).length;
+                final var elapsed = System.nanoTime() - start;
+
+                System.out.printf("%-6s %10d %14.0f%n", entry.getKey(), bytes, rounds / (elapsed / 1e9));
+            }
+        }
+    }
+
+    private static List<ListWorkOrderOutput> listing(final int size) {
+        final var menu = List.of("X-Burger", "Fries", "Soda", "Milkshake", "Nuggets");
+        return IntStream.range(0, size)
+                .mapToObj(i -> WorkOrder.create(
+                        UUID.randomUUID().toString(),
+                        String.valueOf(1000 + i),
+                        List.of(
+                                WorkOrderItem.create(menu.get(i % menu.size()), 1 + i % 3),
+                                WorkOrderItem.create(menu.get((i + 1) % menu.size()), 1)
+                        )))
+                .map(ListWorkOrderOutput::from)
+                .toList();
+    }
+}
@@ -0,0 +1,134 @@
+package soat.fastfood.backstage.adapter.inbound.api.coalescing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import soat.fastfood.backstage.adapter.inbound.api.writebehind.WriteBehindUpdateWorkOrderUseCase;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderEvent;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatusChange;
+import soat.fastfood.backstage.application.usecase.retrieve.get.DefaultGetWorkOrderUseCase;
+import soat.fastfood.backstage.application.usecase.retrieve.get.GetWorkOrderCommand;
+import soat.fastfood.backstage.application.usecase.retrieve.get.GetWorkOrderOutput;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Coalescing Get Work Order Use Case")
+class CoalescingGetWorkOrderUseCaseTest {
+
+    @Mock
+    private DefaultGetWorkOrderUseCase delegate;
+
+    @Mock
+    private WriteBehindUpdateWorkOrderUseCase writeBehind;
+
+    @Nested
+    @DisplayName("Given a work order was already retrieved")
+    class GivenAWorkOrderWasAlreadyRetrieved {
+
+        @Test
+        @DisplayName("When retrieving it again within the ttl, Then should not call the delegate again")
+        void whenRetrievingItAgainWithinTheTtl_thenShouldNotCallTheDelegateAgain() {
+            // Given: a stored work order
+            final var output = output();
+            final var useCase = useCase(Optional.empty());
+            when(delegate.execute(any(GetWorkOrderCommand.class))).thenReturn(output);
+            useCase.execute(new GetWorkOrderCommand(output.id()));
+
+            // When: retrieving it again
+            final var result = useCase.execute(new GetWorkOrderCommand(output.id()));
+
+            // Then: should serve the shared result
+            assertSame(output, result);
+            verify(delegate, times(1)).execute(any(GetWorkOrderCommand.class));
+        }
+
+        @Test
+        @DisplayName("When the work order changes, Then should call the delegate again")
+        void whenTheWorkOrderChanges_thenShouldCallTheDelegateAgain() {
+            // Given: a cached work order
+            final var output = output();
+            final var useCase = useCase(Optional.empty());
+            when(delegate.execute(any(GetWorkOrderCommand.class))).thenReturn(output);
+            useCase.execute(new GetWorkOrderCommand(output.id()));
+
+            // When: a status change event arrives for it
+            useCase.on(new WorkOrderEvent.StatusChanged(
+                    WorkOrderID.from(output.id()),
+                    WorkOrderStatus.PREPARING,
+                    output.updatedAt().plusSeconds(1),
+                    output.version() + 1
+            ));
+            useCase.execute(new GetWorkOrderCommand(output.id()));
+
+            // Then: should load it again
+            verify(delegate, times(2)).execute(any(GetWorkOrderCommand.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Given a status change buffered by write-behind")
+    class GivenAStatusChangeBufferedByWriteBehind {
+
+        @Test
+        @DisplayName("When the change is newer than the stored work order, Then should return the pending status")
+        void whenTheChangeIsNewerThanTheStoredWorkOrder_thenShouldReturnThePendingStatus() {
+            // Given: a pending PREPARING newer than the stored RECEIVED
+            final var output = output();
+            final var at = output.updatedAt().plusSeconds(1);
+            final var useCase = useCase(Optional.of(writeBehind));
+            when(delegate.execute(any(GetWorkOrderCommand.class))).thenReturn(output);
+            when(writeBehind.pendingStatus(output.id()))
+                    .thenReturn(Optional.of(new WorkOrderStatusChange(WorkOrderStatus.PREPARING, at)));
+
+            // When: retrieving the work order
+            final var result = useCase.execute(new GetWorkOrderCommand(output.id()));
+
+            // Then: should overlay the pending status and the version it will be written with
+            assertEquals("PREPARING", result.status());
+            assertEquals(at, result.updatedAt());
+            assertEquals(output.version() + 1, result.version());
+            assertEquals(output.items(), result.items());
+        }
+
+        @Test
+        @DisplayName("When the stored work order already reflects the change, Then should return it unchanged")
+        void whenTheStoredWorkOrderAlreadyReflectsTheChange_thenShouldReturnItUnchanged() {
+            // Given: a pending change that is not newer than the stored work order
+            final var output = output();
+            final var useCase = useCase(Optional.of(writeBehind));
+            when(delegate.execute(any(GetWorkOrderCommand.class))).thenReturn(output);
+            when(writeBehind.pendingStatus(output.id()))
+                    .thenReturn(Optional.of(new WorkOrderStatusChange(WorkOrderStatus.PREPARING, output.updatedAt())));
+
+            // When: retrieving the work order
+            final var result = useCase.execute(new GetWorkOrderCommand(output.id()));
+
+            // Then: should return the stored output
+            assertSame(output, result);
+        }
+    }
+
+    private CoalescingGetWorkOrderUseCase useCase(final Optional<WriteBehindUpdateWorkOrderUseCase> writeBehind) {
+        return new CoalescingGetWorkOrderUseCase(delegate, new SimpleMeterRegistry(), Duration.ofMinutes(1), writeBehind);
+    }
+
+    private static GetWorkOrderOutput output() {
+        return GetWorkOrderOutput.from(WorkOrder.create("order-1", "1", List.of(WorkOrderItem.create("Burger", 2))));
+    }
+
+}
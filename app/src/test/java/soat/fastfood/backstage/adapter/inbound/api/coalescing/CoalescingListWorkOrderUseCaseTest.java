@@ -0,0 +1,92 @@
+package soat.fastfood.backstage.adapter.inbound.api.coalescing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderEvent;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
+import soat.fastfood.backstage.application.usecase.retrieve.list.DefaultListWorkOrderUseCase;
+import soat.fastfood.backstage.application.usecase.retrieve.list.ListWorkOrderCommand;
+import soat.fastfood.backstage.application.usecase.retrieve.list.ListWorkOrderOutput;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Coalescing List Work Order Use Case")
+class CoalescingListWorkOrderUseCaseTest {
+
+    @Mock
+    private DefaultListWorkOrderUseCase delegate;
+
+    @Nested
+    @DisplayName("Given a list was already retrieved")
+    class GivenAListWasAlreadyRetrieved {
+
+        @Test
+        @DisplayName("When listing the same statuses again, Then should not call the delegate again")
+        void whenListingTheSameStatusesAgain_thenShouldNotCallTheDelegateAgain() {
+            // Given: a cached listing
+            final var listing = listing();
+            final var useCase = useCase();
+            when(delegate.execute(any(ListWorkOrderCommand.class))).thenReturn(listing);
+            useCase.execute(new ListWorkOrderCommand(List.of("RECEIVED", "PREPARING")));
+
+            // When: listing the same statuses
+            final var result = useCase.execute(new ListWorkOrderCommand(List.of("RECEIVED", "PREPARING")));
+
+            // Then: should serve the shared result
+            assertSame(listing, result);
+            verify(delegate, times(1)).execute(any(ListWorkOrderCommand.class));
+        }
+
+        @Test
+        @DisplayName("When listing other statuses, Then should call the delegate")
+        void whenListingOtherStatuses_thenShouldCallTheDelegate() {
+            // Given: a cached listing
+            final var useCase = useCase();
+            when(delegate.execute(any(ListWorkOrderCommand.class))).thenReturn(listing());
+            useCase.execute(new ListWorkOrderCommand("RECEIVED"));
+
+            // When: listing another status
+            useCase.execute(new ListWorkOrderCommand("READY"));
+
+            // Then: should load the new listing
+            verify(delegate, times(2)).execute(any(ListWorkOrderCommand.class));
+        }
+
+        @Test
+        @DisplayName("When any work order changes, Then should call the delegate again")
+        void whenAnyWorkOrderChanges_thenShouldCallTheDelegateAgain() {
+            // Given: a cached listing
+            final var useCase = useCase();
+            when(delegate.execute(any(ListWorkOrderCommand.class))).thenReturn(listing());
+            useCase.execute(new ListWorkOrderCommand("RECEIVED"));
+
+            // When: a work order is created
+            useCase.on(new WorkOrderEvent.Created(WorkOrder.create("order-2", "2", List.of(WorkOrderItem.create("Fries", 1)))));
+            useCase.execute(new ListWorkOrderCommand("RECEIVED"));
+
+            // Then: should load the listing again
+            verify(delegate, times(2)).execute(any(ListWorkOrderCommand.class));
+        }
+    }
+
+    private CoalescingListWorkOrderUseCase useCase() {
+        return new CoalescingListWorkOrderUseCase(delegate, new SimpleMeterRegistry(), Duration.ofMinutes(1));
+    }
+
+    private static List<ListWorkOrderOutput> listing() {
+        return List.of(ListWorkOrderOutput.from(WorkOrder.create("order-1", "1", List.of(WorkOrderItem.create("Burger", 2)))));
+    }
+
+}
@@ -0,0 +1,244 @@
+package soat.fastfood.backstage.adapter.inbound.api.coalescing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Single Flight")
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loads = new AtomicInteger();
+    }
+
+    @Nested
+    @DisplayName("Given concurrent calls with the same key")
+    class GivenConcurrentCallsWithTheSameKey {
+
+        @Test
+        @DisplayName("When the first call is still running, Then should share its result")
+        void whenTheFirstCallIsStillRunning_thenShouldShareItsResult() throws Exception {
+            // Given: a leader blocked inside the loader
+            final var singleFlight = singleFlight(Duration.ZERO);
+            final var started = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+
+            try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                final var leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                    started.countDown();
+                    await(release);
+                    return "value-" + loads.incrementAndGet();
+                }));
+                assertTrue(started.await(5, TimeUnit.SECONDS));
+
+                // When: a second caller arrives before the leader finishes
+                final var follower = executor.submit(() -> singleFlight.execute("key", () -> "value-" + loads.incrementAndGet()));
+                waitForCount("shared", 1);
+                release.countDown();
+
+                // Then: both should get the leader's value from a single load
+                assertEquals("value-1", leader.get(5, TimeUnit.SECONDS));
+                assertEquals("value-1", follower.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+            assertEquals(1.0, count("executed"));
+        }
+
+        @Test
+        @DisplayName("When the keys differ, Then should not share executions")
+        void whenTheKeysDiffer_thenShouldNotShareExecutions() {
+            // Given: a single flight with a long ttl
+            final var singleFlight = singleFlight(Duration.ofMinutes(1));
+
+            // When: calling with two keys
+            final var first = singleFlight.execute("a", () -> "a-" + loads.incrementAndGet());
+            final var second = singleFlight.execute("b", () -> "b-" + loads.incrementAndGet());
+
+            // Then: each key should load once
+            assertEquals("a-1", first);
+            assertEquals("b-2", second);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given a finished call")
+    class GivenAFinishedCall {
+
+        @Test
+        @DisplayName("When calling again within the ttl, Then should return the cached result")
+        void whenCallingAgainWithinTheTtl_thenShouldReturnTheCachedResult() {
+            // Given: a single flight with a long ttl
+            final var singleFlight = singleFlight(Duration.ofMinutes(1));
+            singleFlight.execute("key", () -> "value-" + loads.incrementAndGet());
+
+            // When: calling again
+            final var result = singleFlight.execute("key", () -> "value-" + loads.incrementAndGet());
+
+            // Then: should not load again
+            assertEquals("value-1", result);
+            assertEquals(1, loads.get());
+            assertEquals(1.0, count("cached"));
+        }
+
+        @Test
+        @DisplayName("When the ttl is zero, Then should load on every sequential call")
+        void whenTheTtlIsZero_thenShouldLoadOnEverySequentialCall() {
+            // Given: a single flight that only coalesces overlapping calls
+            final var singleFlight = singleFlight(Duration.ZERO);
+            singleFlight.execute("key", () -> "value-" + loads.incrementAndGet());
+
+            // When: calling again after the first call finished
+            final var result = singleFlight.execute("key", () -> "value-" + loads.incrementAndGet());
+
+            // Then: should load again
+            assertEquals("value-2", result);
+        }
+
+        @Test
+        @DisplayName("When the key is invalidated, Then should load again")
+        void whenTheKeyIsInvalidated_thenShouldLoadAgain() {
+            // Given: a cached result
+            final var singleFlight = singleFlight(Duration.ofMinutes(1));
+            singleFlight.execute("key", () -> "value-" + loads.incrementAndGet());
+
+            // When: invalidating the key
+            singleFlight.invalidate("key");
+            final var result = singleFlight.execute("key", () -> "value-" + loads.incrementAndGet());
+
+            // Then: should load again
+            assertEquals("value-2", result);
+        }
+
+        @Test
+        @DisplayName("When all keys are invalidated, Then should load every key again")
+        void whenAllKeysAreInvalidated_thenShouldLoadEveryKeyAgain() {
+            // Given: cached results for two keys
+            final var singleFlight = singleFlight(Duration.ofMinutes(1));
+            singleFlight.execute("a", () -> "value-" + loads.incrementAndGet());
+            singleFlight.execute("b", () -> "value-" + loads.incrementAndGet());
+
+            // When: invalidating everything
+            singleFlight.invalidateAll();
+            singleFlight.execute("a", () -> "value-" + loads.incrementAndGet());
+            singleFlight.execute("b", () -> "value-" + loads.incrementAndGet());
+
+            // Then: should load both again
+            assertEquals(4, loads.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Given a failing loader")
+    class GivenAFailingLoader {
+
+        @Test
+        @DisplayName("When the loader throws, Then should rethrow and not cache the failure")
+        void whenTheLoaderThrows_thenShouldRethrowAndNotCacheTheFailure() {
+            // Given: a loader that fails once
+            final var singleFlight = singleFlight(Duration.ofMinutes(1));
+            assertThrows(IllegalStateException.class, () -> singleFlight.execute("key", () -> {
+                loads.incrementAndGet();
+                throw new IllegalStateException("boom");
+            }));
+
+            // When: calling again
+            final var result = singleFlight.execute("key", () -> "value-" + loads.incrementAndGet());
+
+            // Then: should load again
+            assertEquals("value-2", result);
+        }
+
+        @Test
+        @DisplayName("When the loader throws an Error, Then should not leave the key blocked")
+        void whenTheLoaderThrowsAnError_thenShouldNotLeaveTheKeyBlocked() throws Exception {
+            // Given: a loader that throws an Error
+            final var singleFlight = singleFlight(Duration.ofMinutes(1));
+            assertThrows(AssertionError.class, () -> singleFlight.execute("key", () -> {
+                throw new AssertionError("boom");
+            }));
+
+            // When: calling again from another thread
+            try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                final var result = executor.submit(() -> singleFlight.execute("key", () -> "value"));
+
+                // Then: should run the loader instead of waiting on the failed flight
+                assertEquals("value", result.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        @Test
+        @DisplayName("When a waiting caller shares a failed flight, Then should get the same exception")
+        void whenAWaitingCallerSharesAFailedFlight_thenShouldGetTheSameException() throws Exception {
+            // Given: a leader blocked inside a loader that will fail
+            final var singleFlight = singleFlight(Duration.ZERO);
+            final var started = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+
+            try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                executor.submit(() -> singleFlight.execute("key", () -> {
+                    started.countDown();
+                    await(release);
+                    throw new IllegalStateException("boom");
+                }));
+                assertTrue(started.await(5, TimeUnit.SECONDS));
+
+                // When: a follower joins and the leader fails
+                final var follower = executor.submit(() -> {
+                    try {
+                        singleFlight.execute("key", () -> "value");
+                        return null;
+                    } catch (IllegalStateException e) {
+                        return e.getMessage();
+                    }
+                });
+                waitForCount("shared", 1);
+                release.countDown();
+
+                // Then: the follower should see the leader's exception
+                assertEquals("boom", follower.get(5, TimeUnit.SECONDS));
+            }
+        }
+    }
+
+    private SingleFlight<String, String> singleFlight(final Duration ttl) {
+        return new SingleFlight<>("test", ttl, meterRegistry);
+    }
+
+    private double count(final String outcome) {
+        return meterRegistry.get("backstage.coalescing.calls").tag("outcome", outcome).counter().count();
+    }
+
+    private void waitForCount(final String outcome, final double expected) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(outcome) < expected) {
+            if (System.nanoTime() > deadline)
+                fail("Timed out waiting for " + outcome + " calls");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,295 @@
+package soat.fastfood.backstage.adapter.inbound.api.writebehind;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import soat.fastfood.backstage.application.domain.exceptions.InvalidStatusTransitionException;
+import soat.fastfood.backstage.application.domain.exceptions.NotFoundException;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatusChange;
+import soat.fastfood.backstage.application.usecase.retrieve.get.GetWorkOrderCommand;
+import soat.fastfood.backstage.application.usecase.retrieve.get.GetWorkOrderOutput;
+import soat.fastfood.backstage.application.usecase.retrieve.get.GetWorkOrderUseCase;
+import soat.fastfood.backstage.application.usecase.update.DefaultUpdateWorkOrderUseCase;
+import soat.fastfood.backstage.application.usecase.update.UpdateWorkOrderCommand;
+import soat.fastfood.backstage.application.usecase.update.coalesced.ApplyWorkOrderStatusChangesCommand;
+import soat.fastfood.backstage.application.usecase.update.coalesced.ApplyWorkOrderStatusChangesUseCase;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Write-Behind Update Work Order Use Case")
+class WriteBehindUpdateWorkOrderUseCaseTest {
+
+    private static final String ID = "work-order-123";
+    private static final Duration SHORT_WINDOW = Duration.ofMillis(50);
+    private static final Duration LONG_WINDOW = Duration.ofMinutes(1);
+
+    @Mock
+    private DefaultUpdateWorkOrderUseCase delegate;
+
+    @Mock
+    private ApplyWorkOrderStatusChangesUseCase applyStatusChangesUseCase;
+
+    @Mock
+    private GetWorkOrderUseCase getWorkOrderUseCase;
+
+    private WriteBehindUpdateWorkOrderUseCase useCase;
+
+    @AfterEach
+    void tearDown() {
+        if (useCase != null)
+            useCase.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Given updates within one window")
+    class GivenUpdatesWithinOneWindow {
+
+        @Test
+        @DisplayName("When PREPARING is followed by READY, Then should write both changes at once")
+        void whenPreparingIsFollowedByReady_thenShouldWriteBothChangesAtOnce() {
+            // Given: a short window
+            useCase = useCase(SHORT_WINDOW);
+            stored(WorkOrderStatus.RECEIVED);
+
+            // When: two consecutive updates arrive
+            useCase.execute(new UpdateWorkOrderCommand(ID, "PREPARING"));
+            useCase.execute(new UpdateWorkOrderCommand(ID, "READY"));
+
+            // Then: should write once, with both changes in order
+            assertEquals(List.of(List.of(WorkOrderStatus.PREPARING, WorkOrderStatus.READY)), writes(1));
+            verifyNoInteractions(delegate);
+        }
+
+        @Test
+        @DisplayName("When the transition is illegal, Then should throw and keep the buffered change")
+        void whenTheTransitionIsIllegal_thenShouldThrowAndKeepTheBufferedChange() {
+            // Given: a buffered PREPARING
+            useCase = useCase(SHORT_WINDOW);
+            stored(WorkOrderStatus.RECEIVED);
+            useCase.execute(new UpdateWorkOrderCommand(ID, "PREPARING"));
+
+            // When & Then: skipping READY should be rejected at once
+            assertThrows(InvalidStatusTransitionException.class,
+                    () -> useCase.execute(new UpdateWorkOrderCommand(ID, "COMPLETED")));
+
+            // Then: only PREPARING should be written
+            assertEquals(List.of(List.of(WorkOrderStatus.PREPARING)), writes(1));
+        }
+
+        @Test
+        @DisplayName("When reading the work order, Then should return the buffered status")
+        void whenReadingTheWorkOrder_thenShouldReturnTheBufferedStatus() {
+            // Given: a buffered READY
+            useCase = useCase(LONG_WINDOW);
+            stored(WorkOrderStatus.RECEIVED);
+            useCase.execute(new UpdateWorkOrderCommand(ID, "PREPARING"));
+            useCase.execute(new UpdateWorkOrderCommand(ID, "READY"));
+
+            // When: reading the pending status
+            final var pending = useCase.pendingStatus(ID);
+
+            // Then: should see the last change
+            assertEquals(WorkOrderStatus.READY, pending.orElseThrow().status());
+        }
+    }
+
+    @Nested
+    @DisplayName("Given the first update of a window")
+    class GivenTheFirstUpdateOfAWindow {
+
+        @Test
+        @DisplayName("When the work order does not exist, Then should throw and buffer nothing")
+        void whenTheWorkOrderDoesNotExist_thenShouldThrowAndBufferNothing() {
+            // Given: no stored work order
+            useCase = useCase(SHORT_WINDOW);
+            when(getWorkOrderUseCase.execute(new GetWorkOrderCommand(ID)))
+                    .thenThrow(NotFoundException.with(WorkOrder.class, WorkOrderID.from(ID)));
+
+            // When & Then: should be rejected at once
+            assertThrows(NotFoundException.class, () -> useCase.execute(new UpdateWorkOrderCommand(ID, "PREPARING")));
+            assertTrue(useCase.pendingStatus(ID).isEmpty());
+            verifyNoInteractions(applyStatusChangesUseCase, delegate);
+        }
+
+        @Test
+        @DisplayName("When the transition from the stored status is illegal, Then should throw and buffer nothing")
+        void whenTheTransitionFromTheStoredStatusIsIllegal_thenShouldThrowAndBufferNothing() {
+            // Given: a stored RECEIVED work order
+            useCase = useCase(SHORT_WINDOW);
+            stored(WorkOrderStatus.RECEIVED);
+
+            // When & Then: skipping PREPARING should be rejected at once
+            final var exception = assertThrows(InvalidStatusTransitionException.class,
+                    () -> useCase.execute(new UpdateWorkOrderCommand(ID, "READY")));
+            assertEquals("RECEIVED", exception.getCurrentStatus());
+            assertTrue(useCase.pendingStatus(ID).isEmpty());
+            verifyNoInteractions(applyStatusChangesUseCase, delegate);
+        }
+
+        @Test
+        @DisplayName("When later changes follow in the same window, Then should read the stored status once")
+        void whenLaterChangesFollowInTheSameWindow_thenShouldReadTheStoredStatusOnce() {
+            // Given: a stored RECEIVED work order
+            useCase = useCase(LONG_WINDOW);
+            stored(WorkOrderStatus.RECEIVED);
+
+            // When: two changes arrive in one window
+            useCase.execute(new UpdateWorkOrderCommand(ID, "PREPARING"));
+            useCase.execute(new UpdateWorkOrderCommand(ID, "READY"));
+
+            // Then: only the first should be checked against storage
+            verify(getWorkOrderUseCase, times(1)).execute(any(GetWorkOrderCommand.class));
+            assertEquals(WorkOrderStatus.READY, useCase.pendingStatus(ID).orElseThrow().status());
+        }
+    }
+
+    @Nested
+    @DisplayName("Given an update with If-Match")
+    class GivenAnUpdateWithIfMatch {
+
+        @Test
+        @DisplayName("When changes are buffered, Then should write them before the conditional update")
+        void whenChangesAreBuffered_thenShouldWriteThemBeforeTheConditionalUpdate() {
+            // Given: a buffered PREPARING in a long window
+            useCase = useCase(LONG_WINDOW);
+            stored(WorkOrderStatus.RECEIVED);
+            useCase.execute(new UpdateWorkOrderCommand(ID, "PREPARING"));
+
+            // When: a conditional update arrives
+            final var command = new UpdateWorkOrderCommand(ID, "READY", 1L);
+            useCase.execute(command);
+
+            // Then: the buffered change should be written first
+            final var inOrder = inOrder(applyStatusChangesUseCase, delegate);
+            inOrder.verify(applyStatusChangesUseCase).execute(any(ApplyWorkOrderStatusChangesCommand.class));
+            inOrder.verify(delegate).execute(command);
+            assertEquals(List.of(List.of(WorkOrderStatus.PREPARING)), writes(1));
+            assertTrue(useCase.pendingStatus(ID).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Given consecutive windows")
+    class GivenConsecutiveWindows {
+
+        @Test
+        @DisplayName("When the first write is slow, Then should write the next window only after it")
+        void whenTheFirstWriteIsSlow_thenShouldWriteTheNextWindowOnlyAfterIt() throws Exception {
+            // Given: a first write that blocks until released
+            useCase = useCase(SHORT_WINDOW);
+            stored(WorkOrderStatus.RECEIVED);
+            final var started = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+            final var firstDone = new AtomicBoolean();
+            final var secondSawFirstDone = new AtomicBoolean();
+            final var written = new CopyOnWriteArrayList<WorkOrderStatus>();
+            doAnswer(invocation -> {
+                final ApplyWorkOrderStatusChangesCommand command = invocation.getArgument(0);
+                final var status = command.changes().getLast().status();
+                if (status == WorkOrderStatus.PREPARING) {
+                    started.countDown();
+                    assertTrue(release.await(5, TimeUnit.SECONDS));
+                    firstDone.set(true);
+                } else {
+                    secondSawFirstDone.set(firstDone.get());
+                }
+                written.add(status);
+                return null;
+            }).when(applyStatusChangesUseCase).execute(any(ApplyWorkOrderStatusChangesCommand.class));
+
+            useCase.execute(new UpdateWorkOrderCommand(ID, "PREPARING"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // When: the next change opens a second window while the first is still being written
+            useCase.execute(new UpdateWorkOrderCommand(ID, "READY"));
+            Thread.sleep(SHORT_WINDOW.toMillis() * 3);
+            release.countDown();
+
+            // Then: the second window should be written after the first
+            verify(applyStatusChangesUseCase, timeout(5_000).times(2)).execute(any(ApplyWorkOrderStatusChangesCommand.class));
+            assertEquals(List.of(WorkOrderStatus.PREPARING, WorkOrderStatus.READY), written);
+            assertTrue(secondSawFirstDone.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Given a shutdown")
+    class GivenAShutdown {
+
+        @Test
+        @DisplayName("When changes are buffered, Then should write them before returning")
+        void whenChangesAreBuffered_thenShouldWriteThemBeforeReturning() {
+            // Given: a buffered PREPARING in a long window
+            useCase = useCase(LONG_WINDOW);
+            stored(WorkOrderStatus.RECEIVED);
+            useCase.execute(new UpdateWorkOrderCommand(ID, "PREPARING"));
+
+            // When: shutting down
+            useCase.shutdown();
+
+            // Then: the change should already be written
+            final var captor = ArgumentCaptor.forClass(ApplyWorkOrderStatusChangesCommand.class);
+            verify(applyStatusChangesUseCase).execute(captor.capture());
+            assertEquals(WorkOrderStatus.PREPARING, captor.getValue().changes().getFirst().status());
+            assertTrue(useCase.pendingStatus(ID).isEmpty());
+        }
+
+        @Test
+        @DisplayName("When an update arrives after shutdown, Then should write it directly")
+        void whenAnUpdateArrivesAfterShutdown_thenShouldWriteItDirectly() {
+            // Given: a closed buffer
+            useCase = useCase(LONG_WINDOW);
+            useCase.shutdown();
+
+            // When: an update arrives
+            final var command = new UpdateWorkOrderCommand(ID, "PREPARING");
+            useCase.execute(command);
+
+            // Then: should go straight to storage
+            verify(delegate).execute(command);
+            verifyNoInteractions(applyStatusChangesUseCase);
+        }
+    }
+
+    private WriteBehindUpdateWorkOrderUseCase useCase(final Duration window) {
+        return new WriteBehindUpdateWorkOrderUseCase(
+                delegate, applyStatusChangesUseCase, getWorkOrderUseCase, new SimpleMeterRegistry(), window, Duration.ofSeconds(5)
+        );
+    }
+
+    private void stored(final WorkOrderStatus status) {
+        final var now = Instant.now();
+        when(getWorkOrderUseCase.execute(new GetWorkOrderCommand(ID)))
+                .thenReturn(new GetWorkOrderOutput(ID, "42", List.of(), status.name(), now, now, 1L));
+    }
+
+    // The statuses of each write, in the order the writes happened
+    private List<List<WorkOrderStatus>> writes(final int expected) {
+        final var captor = ArgumentCaptor.forClass(ApplyWorkOrderStatusChangesCommand.class);
+        verify(applyStatusChangesUseCase, timeout(5_000).times(expected)).execute(captor.capture());
+        return captor.getAllValues().stream()
+                .map(command -> command.changes().stream().map(WorkOrderStatusChange::status).toList())
+                .toList();
+    }
+
+}
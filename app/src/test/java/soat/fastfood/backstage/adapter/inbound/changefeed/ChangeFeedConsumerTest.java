@@ -0,0 +1,182 @@
+package soat.fastfood.backstage.adapter.inbound.changefeed;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import soat.fastfood.backstage.adapter.inbound.changefeed.memory.InMemoryChangeStream;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderEvent;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Change Feed Consumer")
+class ChangeFeedConsumerTest {
+
+    private InMemoryChangeStream changeStream;
+    private InMemoryCheckpointStore checkpointStore;
+    private List<Object> published;
+
+    @BeforeEach
+    void setUp() {
+        changeStream = new InMemoryChangeStream();
+        checkpointStore = new InMemoryCheckpointStore();
+        published = new ArrayList<>();
+    }
+
+    @Nested
+    @DisplayName("Given records written before the first poll")
+    class GivenRecordsWrittenBeforeTheFirstPoll {
+
+        @Test
+        @DisplayName("When polling, Then should start at the tip and deliver only later records")
+        void whenPolling_thenShouldStartAtTheTipAndDeliverOnlyLaterRecords() {
+            // Given: a record the startup load already reflects
+            final var consumer = consumer(changeStream, published::add);
+            changeStream.append(changed("order-1", WorkOrderStatus.PREPARING));
+
+            // When: polling, then polling again after a new record
+            consumer.poll();
+            final var later = changed("order-1", WorkOrderStatus.READY);
+            changeStream.append(later);
+            consumer.poll();
+
+            // Then: only the later record should be delivered
+            assertEquals(List.of(later), published);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given a resharded stream")
+    class GivenAReshardedStream {
+
+        @Test
+        @DisplayName("When the parent shard is split, Then should deliver its records before the child's")
+        void whenTheParentShardIsSplit_thenShouldDeliverItsRecordsBeforeTheChilds() {
+            // Given: records on both sides of a split
+            final var consumer = consumer(changeStream, published::add);
+            consumer.poll();
+            final var first = changed("order-1", WorkOrderStatus.PREPARING);
+            final var second = changed("order-1", WorkOrderStatus.READY);
+            changeStream.append(first);
+            changeStream.split();
+            changeStream.append(second);
+
+            // When: polling
+            consumer.poll();
+            consumer.poll();
+
+            // Then: should keep the order of the key
+            assertEquals(List.of(first, second), published);
+        }
+
+        @Test
+        @DisplayName("When the child is listed before its parent, Then should wait for the parent to drain")
+        void whenTheChildIsListedBeforeItsParent_thenShouldWaitForTheParentToDrain() {
+            // Given: a stream that lists the newest shard first
+            final ChangeStream reversed = new ChangeStream() {
+                @Override
+                public List<ChangeShard> shards() {
+                    return changeStream.shards().reversed();
+                }
+
+                @Override
+                public ShardReader open(final ChangeShard shard, final String checkpoint, final boolean fromLatest) {
+                    return changeStream.open(shard, checkpoint, fromLatest);
+                }
+            };
+            final var consumer = consumer(reversed, published::add);
+            consumer.poll();
+            final var first = changed("order-1", WorkOrderStatus.PREPARING);
+            final var second = changed("order-1", WorkOrderStatus.READY);
+            changeStream.append(first);
+            changeStream.split();
+            changeStream.append(second);
+
+            // When: polling once
+            consumer.poll();
+
+            // Then: the child should wait for the parent
+            assertEquals(List.of(first), published);
+
+            // When: polling again
+            consumer.poll();
+
+            // Then: the child should follow
+            assertEquals(List.of(first, second), published);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given a failure while delivering")
+    class GivenAFailureWhileDelivering {
+
+        @Test
+        @DisplayName("When polling again, Then should resume after the last checkpoint")
+        void whenPollingAgain_thenShouldResumeAfterTheLastCheckpoint() {
+            // Given: a publisher that fails on the second record once
+            final var first = changed("order-1", WorkOrderStatus.PREPARING);
+            final var second = changed("order-2", WorkOrderStatus.PREPARING);
+            final var failures = new ArrayList<Object>();
+            final var consumer = consumer(changeStream, event -> {
+                if (event == second && failures.isEmpty()) {
+                    failures.add(event);
+                    throw new IllegalStateException("boom");
+                }
+                published.add(event);
+            });
+            consumer.poll();
+            changeStream.append(first);
+            changeStream.append(second);
+
+            // When: the first poll fails on the second record and the next one resumes
+            consumer.poll();
+            assertEquals(List.of(first), published);
+            consumer.poll();
+
+            // Then: each record should be delivered once
+            assertEquals(List.of(first, second), published);
+            assertEquals("%020d".formatted(2), checkpointStore.find("shard-0").orElseThrow());
+        }
+    }
+
+    @Nested
+    @DisplayName("Given records of internal items")
+    class GivenRecordsOfInternalItems {
+
+        @Test
+        @DisplayName("When polling, Then should skip them and still advance the checkpoint")
+        void whenPolling_thenShouldSkipThemAndStillAdvanceTheCheckpoint() {
+            // Given: a counts shard update followed by a work order change
+            final var consumer = consumer(changeStream, published::add);
+            consumer.poll();
+            changeStream.append(changed("#counts#3", WorkOrderStatus.READY));
+            final var workOrder = changed("order-1", WorkOrderStatus.PREPARING);
+            changeStream.append(workOrder);
+
+            // When: polling
+            consumer.poll();
+
+            // Then: only the work order change should be delivered
+            assertEquals(List.of(workOrder), published);
+            assertEquals("%020d".formatted(2), checkpointStore.find("shard-0").orElseThrow());
+        }
+    }
+
+    private ChangeFeedConsumer consumer(final ChangeStream stream, final ApplicationEventPublisher publisher) {
+        return new ChangeFeedConsumer(stream, checkpointStore, publisher, new SimpleMeterRegistry(), Duration.ZERO);
+    }
+
+    private static WorkOrderEvent changed(final String id, final WorkOrderStatus status) {
+        return new WorkOrderEvent.StatusChanged(WorkOrderID.from(id), status, Instant.now(), 1L);
+    }
+
+}
@@ -0,0 +1,102 @@
+package soat.fastfood.backstage.adapter.outbound.dynamodb;
+
+import soat.fastfood.backstage.adapter.outbound.dynamodb.mapper.WorkOrderDynamoDBMapper;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.model.WorkOrderDynamoDB;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+// Stored item size and mapper + TableSchema throughput with and without DYNAMODB_COMPACT_ITEMS.
+// Not part of the test suite; run the main method with the test classpath on the JDK used in production.
+public final class CompactItemsBenchmark {
+
+    private static final int WARM_UP_ROUNDS = 200_000;
+    private static final int MEASURED_ROUNDS = 500_000;
+    private static final TableSchema<WorkOrderDynamoDB> SCHEMA = TableSchema.fromBean(WorkOrderDynamoDB.class);
+
+    private static volatile Object sink;
+
+    private CompactItemsBenchmark() {
+    }
+
+    public static void main(final String[] args) {
+        System.out.printf("java %s%n", Runtime.version());
+
+        for (final var size : List.of(3, 10, 30, 60)) {
+            final var workOrder = workOrder(size);
+            System.out.printf("%n%d items%n", size);
+            System.out.printf("%-8s %8s %5s %14s %14s %14s%n", "format", "bytes", "WCU", "writes/s", "reads/s", "headers/s");
+
+            for (final var compact : List.of(false, true)) {
+                final var attributes = SCHEMA.itemToMap(WorkOrderDynamoDBMapper.fromDomain(workOrder, compact), true);
+                final var bytes = itemSize(attributes);
+
+                measure(() -> SCHEMA.itemToMap(WorkOrderDynamoDBMapper.fromDomain(workOrder, compact), true), WARM_UP_ROUNDS);
+                final var writes = measure(() -> SCHEMA.itemToMap(WorkOrderDynamoDBMapper.fromDomain(workOrder, compact), true), MEASURED_ROUNDS);
+
+                measure(() -> WorkOrderDynamoDBMapper.toDomain(SCHEMA.mapToItem(attributes)).getItems().getLast().getQuantity(), WARM_UP_ROUNDS);
+                final var reads = measure(() -> WorkOrderDynamoDBMapper.toDomain(SCHEMA.mapToItem(attributes)).getItems().getLast().getQuantity(), MEASURED_ROUNDS);
+
+                // Listings that only need the item count never decode the names
+                final var headers = measure(() -> WorkOrderDynamoDBMapper.toDomain(SCHEMA.mapToItem(attributes)).getItems().size(), MEASURED_ROUNDS);
+
+                System.out.printf("%-8s %8d %5d %14.0f %14.0f %14.0f%n",
+                        compact ? "compact" : "list", bytes, (bytes + 1023) / 1024, writes, reads, headers);
+            }
+        }
+    }
+
+    private static double measure(final Supplier<Object> operation, final int rounds) {
+        final var start = System.nanoTime();
+        for (int i = 0; i < rounds; i++)
+            sink = operation.get();
+        return rounds / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static WorkOrder workOrder(final int size) {
+        final var menu = List.of("X-Burger", "Batata Frita Grande", "Refrigerante 500ml", "Milkshake de Morango", "Nuggets 10un");
+        return WorkOrder.create(
+                UUID.randomUUID().toString(),
+                "1234",
+                IntStream.range(0, size)
+                        .mapToObj(i -> WorkOrderItem.create(menu.get(i % menu.size()), 1 + i % 4))
+                        .toList()
+        );
+    }
+
+    // DynamoDB item size rules: attribute names count, numbers take about one byte per two digits,
+    // and lists and maps add three bytes plus one per element
+    private static int itemSize(final Map<String, AttributeValue> attributes) {
+        return attributes.entrySet().stream()
+                .mapToInt(entry -> utf8(entry.getKey()) + valueSize(entry.getValue()))
+                .sum();
+    }
+
+    private static int valueSize(final AttributeValue value) {
+        if (value.s() != null)
+            return utf8(value.s());
+        if (value.n() != null)
+            return (value.n().replace("-", "").replace(".", "").length() + 1) / 2 + 1;
+        if (value.b() != null)
+            return value.b().asByteArray().length;
+        if (value.hasL())
+            return 3 + value.l().stream().mapToInt(element -> 1 + valueSize(element)).sum();
+        if (value.hasM())
+            return 3 + value.m().entrySet().stream()
+                    .mapToInt(entry -> 1 + utf8(entry.getKey()) + valueSize(entry.getValue()))
+                    .sum();
+        return 1;
+    }
+
+    private static int utf8(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
@@ -0,0 +1,158 @@
+package soat.fastfood.backstage.adapter.outbound.dynamodb.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Compact Work Order Items")
+class CompactWorkOrderItemsTest {
+
+    @Nested
+    @DisplayName("Given encoded items")
+    class GivenEncodedItems {
+
+        @Test
+        @DisplayName("When decoding, Then should return the same names and quantities in order")
+        void whenDecoding_thenShouldReturnTheSameNamesAndQuantitiesInOrder() {
+            // Given: items with ASCII and multi-byte names
+            final var items = List.of(
+                    WorkOrderItem.create("X-Burger", 2),
+                    WorkOrderItem.create("Pão de queijo", 1),
+                    WorkOrderItem.create("", 3)
+            );
+
+            // When: encoding and decoding them
+            final var decoded = CompactWorkOrderItems.decode(CompactWorkOrderItems.encode(items));
+
+            // Then: should keep every item
+            assertItems(items, decoded);
+        }
+
+        @Test
+        @DisplayName("When a name or quantity is null, Then should decode it as null")
+        void whenANameOrQuantityIsNull_thenShouldDecodeItAsNull() {
+            // Given: items with null values
+            final var items = List.of(
+                    WorkOrderItem.create(null, 1),
+                    WorkOrderItem.create("Fries", null),
+                    WorkOrderItem.create(null, null)
+            );
+
+            // When: encoding and decoding them
+            final var decoded = CompactWorkOrderItems.decode(CompactWorkOrderItems.encode(items));
+
+            // Then: null should stay distinct from an empty name and a zero quantity
+            assertItems(items, decoded);
+        }
+
+        @Test
+        @DisplayName("When quantities are at the int limits, Then should decode them unchanged")
+        void whenQuantitiesAreAtTheIntLimits_thenShouldDecodeThemUnchanged() {
+            // Given: quantities that need the widest varints
+            final var items = List.of(
+                    WorkOrderItem.create("max", Integer.MAX_VALUE),
+                    WorkOrderItem.create("min", Integer.MIN_VALUE),
+                    WorkOrderItem.create("zero", 0),
+                    WorkOrderItem.create("negative", -1)
+            );
+
+            // When: encoding and decoding them
+            final var decoded = CompactWorkOrderItems.decode(CompactWorkOrderItems.encode(items));
+
+            // Then: should keep every quantity
+            assertItems(items, decoded);
+        }
+
+        @Test
+        @DisplayName("When there are no items, Then should decode an empty list")
+        void whenThereAreNoItems_thenShouldDecodeAnEmptyList() {
+            // When: encoding and decoding an empty list
+            final var decoded = CompactWorkOrderItems.decode(CompactWorkOrderItems.encode(List.of()));
+
+            // Then: should be empty
+            assertTrue(decoded.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Given malformed input")
+    class GivenMalformedInput {
+
+        @Test
+        @DisplayName("When the version is unknown, Then should throw IllegalArgumentException")
+        void whenTheVersionIsUnknown_thenShouldThrowIllegalArgumentException() {
+            // Given: bytes with another version
+            final var bytes = new byte[]{2, 0};
+
+            // When & Then: should reject them
+            assertThrows(IllegalArgumentException.class, () -> CompactWorkOrderItems.decode(bytes));
+            assertThrows(IllegalArgumentException.class, () -> CompactWorkOrderItems.decode(new byte[0]));
+        }
+
+        @Test
+        @DisplayName("When the header is truncated, Then should throw IllegalArgumentException")
+        void whenTheHeaderIsTruncated_thenShouldThrowIllegalArgumentException() {
+            // Given: a version byte and an unfinished varint count
+            final var bytes = new byte[]{1, (byte) 0x80};
+
+            // When & Then: should reject them
+            final var exception = assertThrows(IllegalArgumentException.class, () -> CompactWorkOrderItems.decode(bytes));
+            assertTrue(exception.getMessage().contains("truncated"));
+        }
+
+        @Test
+        @DisplayName("When the count exceeds the remaining bytes, Then should throw IllegalArgumentException")
+        void whenTheCountExceedsTheRemainingBytes_thenShouldThrowIllegalArgumentException() {
+            // Given: a count of 100 items with nothing after it
+            final var bytes = new byte[]{1, 100};
+
+            // When & Then: should reject them on decode
+            assertThrows(IllegalArgumentException.class, () -> CompactWorkOrderItems.decode(bytes));
+        }
+
+        @Test
+        @DisplayName("When an item is truncated, Then should throw IllegalArgumentException on access")
+        void whenAnItemIsTruncated_thenShouldThrowIllegalArgumentException() {
+            // Given: encoded items cut in the middle of the last name
+            final var encoded = CompactWorkOrderItems.encode(List.of(
+                    WorkOrderItem.create("X-Burger", 2),
+                    WorkOrderItem.create("Milkshake", 1)
+            ));
+            final var decoded = CompactWorkOrderItems.decode(Arrays.copyOf(encoded, encoded.length - 4));
+
+            // When & Then: the header is valid, so the error surfaces when the items are read
+            assertEquals(2, decoded.size());
+            final var exception = assertThrows(IllegalArgumentException.class, () -> decoded.get(0));
+            assertTrue(exception.getMessage().contains("item 1"));
+        }
+
+        @Test
+        @DisplayName("When a quantity is cut off, Then should throw IllegalArgumentException on access")
+        void whenAQuantityIsCutOff_thenShouldThrowIllegalArgumentException() {
+            // Given: encoded items missing the last quantity byte
+            final var encoded = CompactWorkOrderItems.encode(List.of(
+                    WorkOrderItem.create("A", 1),
+                    WorkOrderItem.create("B", 1)
+            ));
+            final var decoded = CompactWorkOrderItems.decode(Arrays.copyOf(encoded, encoded.length - 1));
+
+            // When & Then: should reject them
+            assertThrows(IllegalArgumentException.class, () -> decoded.get(1));
+        }
+    }
+
+    private static void assertItems(final List<WorkOrderItem> expected, final List<WorkOrderItem> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (var i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getName(), actual.get(i).getName());
+            assertEquals(expected.get(i).getQuantity(), actual.get(i).getQuantity());
+        }
+    }
+
+}
@@ -0,0 +1,234 @@
+package soat.fastfood.backstage.adapter.outbound.dynamodb.hedging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Hedged Reads")
+class HedgedReadsTest {
+
+    private static final int WINDOW = 10;
+    private static final Duration LATENCY = Duration.ofMillis(20);
+
+    private AtomicLong now;
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("Given no latency samples yet")
+    class GivenNoLatencySamplesYet {
+
+        @Test
+        @DisplayName("When reading, Then should wait for the single call")
+        void whenReading_thenShouldWaitForTheSingleCall() {
+            // Given: a fresh window
+            final var hedgedReads = hedgedReads(5);
+            final var calls = new AtomicInteger();
+
+            // When: reading
+            final var result = hedgedReads.read(() -> "value-" + calls.incrementAndGet());
+
+            // Then: should not hedge
+            assertEquals("value-1", result);
+            assertEquals(1, calls.get());
+            assertEquals(1.0, count("not-hedged"));
+        }
+
+        @Test
+        @DisplayName("When the call fails, Then should rethrow its exception")
+        void whenTheCallFails_thenShouldRethrowItsException() {
+            // Given: a failing call
+            final var hedgedReads = hedgedReads(5);
+
+            // When & Then: should surface the same exception
+            final var exception = assertThrows(IllegalArgumentException.class,
+                    () -> hedgedReads.read(() -> {
+                        throw new IllegalArgumentException("boom");
+                    }));
+            assertEquals("boom", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Given a known p95")
+    class GivenAKnownP95 {
+
+        @Test
+        @DisplayName("When the call finishes before the p95, Then should not hedge")
+        void whenTheCallFinishesBeforeTheP95_thenShouldNotHedge() {
+            // Given: a warmed-up window
+            final var hedgedReads = warmedUp(100);
+
+            // When: a fast read
+            final var result = hedgedReads.read(() -> "fast");
+
+            // Then: should count it as not hedged
+            assertEquals("fast", result);
+            assertEquals(WINDOW + 1.0, count("not-hedged"));
+            assertEquals(0.0, count("hedged"));
+        }
+
+        @Test
+        @DisplayName("When the call fails before the p95, Then should rethrow its exception without hedging")
+        void whenTheCallFailsBeforeTheP95_thenShouldRethrowItsExceptionWithoutHedging() {
+            // Given: a warmed-up window
+            final var hedgedReads = warmedUp(100);
+            final var calls = new AtomicInteger();
+
+            // When & Then: should surface the first failure
+            final var exception = assertThrows(IllegalArgumentException.class, () -> hedgedReads.read(() -> {
+                calls.incrementAndGet();
+                throw new IllegalArgumentException("boom");
+            }));
+            assertEquals("boom", exception.getMessage());
+            assertEquals(1, calls.get());
+        }
+
+        @Test
+        @DisplayName("When the call is slower than the p95, Then should return the hedge's result")
+        void whenTheCallIsSlowerThanTheP95_thenShouldReturnTheHedgesResult() {
+            // Given: a warmed-up window and a first call that hangs
+            final var hedgedReads = warmedUp(100);
+            final var calls = new AtomicInteger();
+
+            // When: reading
+            final var result = hedgedReads.read(() -> calls.incrementAndGet() == 1 ? await("first") : "second");
+
+            // Then: the hedge should win
+            assertEquals("second", result);
+            assertEquals(1.0, count("hedged"));
+            assertEquals(1.0, meterRegistry.get("backstage.dynamodb.hedging.wins").counter().count());
+        }
+
+        @Test
+        @DisplayName("When the hedge fails, Then should wait for the first call")
+        void whenTheHedgeFails_thenShouldWaitForTheFirstCall() {
+            // Given: a first call released only after the hedge failed
+            final var hedgedReads = warmedUp(100);
+            final var calls = new AtomicInteger();
+
+            // When: reading
+            final var result = hedgedReads.read(() -> {
+                if (calls.incrementAndGet() == 1)
+                    return await("first");
+                release.countDown();
+                throw new IllegalStateException("hedge failed");
+            });
+
+            // Then: one failure should not fail the read
+            assertEquals("first", result);
+            assertEquals(0.0, meterRegistry.get("backstage.dynamodb.hedging.wins").counter().count());
+        }
+
+        @Test
+        @DisplayName("When both calls fail, Then should throw only after the second failure")
+        void whenBothCallsFail_thenShouldThrowOnlyAfterTheSecondFailure() throws Exception {
+            // Given: a hedge that fails at once and a first call that fails when released
+            final var hedgedReads = warmedUp(100);
+            final var calls = new AtomicInteger();
+            final var read = executor.submit(() -> hedgedReads.read(() -> {
+                if (calls.incrementAndGet() == 1) {
+                    await("first");
+                    throw new IllegalStateException("first failed");
+                }
+                throw new IllegalStateException("hedge failed");
+            }));
+
+            // When: the hedge has failed and the first call is still running
+            Thread.sleep(LATENCY.toMillis() * 5);
+            assertEquals(2, calls.get());
+            assertFalse(read.isDone());
+            release.countDown();
+
+            // Then: should fail with the last failure
+            final var exception = assertThrows(ExecutionException.class, () -> read.get(5, TimeUnit.SECONDS));
+            assertEquals("first failed", exception.getCause().getMessage());
+        }
+
+        @Test
+        @DisplayName("When the budget is exhausted, Then should wait for the first call")
+        void whenTheBudgetIsExhausted_thenShouldWaitForTheFirstCall() {
+            // Given: no hedging budget and a first call released later
+            final var hedgedReads = warmedUp(0);
+            final var calls = new AtomicInteger();
+            executor.submit(() -> {
+                Thread.sleep(LATENCY.toMillis() * 5);
+                release.countDown();
+                return null;
+            });
+
+            // When: reading
+            final var result = hedgedReads.read(() -> {
+                calls.incrementAndGet();
+                return await("first");
+            });
+
+            // Then: should not send a second call
+            assertEquals("first", result);
+            assertEquals(1, calls.get());
+            assertEquals(1.0, count("budget-exhausted"));
+            assertEquals(0.0, count("hedged"));
+        }
+    }
+
+    private HedgedReads hedgedReads(final double budgetPercent) {
+        return new HedgedReads(true, budgetPercent, Duration.ofMillis(1), WINDOW, executor, now::get, meterRegistry);
+    }
+
+    // Fills the window with reads that take LATENCY on the test clock, so the p95 is LATENCY
+    private HedgedReads warmedUp(final double budgetPercent) {
+        final var hedgedReads = hedgedReads(budgetPercent);
+        final Supplier<String> call = () -> {
+            now.addAndGet(LATENCY.toNanos());
+            return "warm-up";
+        };
+        for (var i = 0; i < WINDOW; i++)
+            hedgedReads.read(call);
+        return hedgedReads;
+    }
+
+    private String await(final String value) {
+        try {
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return value;
+    }
+
+    private double count(final String outcome) {
+        return meterRegistry.get("backstage.dynamodb.hedging.reads").tag("outcome", outcome).counter().count();
+    }
+
+}
@@ -0,0 +1,78 @@
+package soat.fastfood.backstage.adapter.outbound.dynamodb.hedging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Latency Window")
+class LatencyWindowTest {
+
+    @Nested
+    @DisplayName("Given fewer samples than a tenth of the window")
+    class GivenFewerSamplesThanATenthOfTheWindow {
+
+        @Test
+        @DisplayName("When reading the value, Then should return -1")
+        void whenReadingTheValue_thenShouldReturnMinusOne() {
+            // Given: 9 samples in a window of 100
+            final var window = new LatencyWindow(100, 0.95);
+            for (var i = 1; i <= 9; i++)
+                window.record(i);
+
+            // When & Then: no percentile yet
+            assertEquals(-1, window.value());
+
+            // When & Then: the tenth sample computes it
+            window.record(10);
+            assertEquals(10, window.value());
+        }
+    }
+
+    @Nested
+    @DisplayName("Given a full window")
+    class GivenAFullWindow {
+
+        @Test
+        @DisplayName("When the samples are 1 to 100, Then should return the 95th")
+        void whenTheSamplesAreOneToOneHundred_thenShouldReturnTheNinetyFifth() {
+            // Given: samples recorded out of order
+            final var window = new LatencyWindow(100, 0.95);
+            for (var i = 100; i >= 1; i--)
+                window.record(i);
+
+            // When & Then: the nearest-rank p95
+            assertEquals(95, window.value());
+        }
+
+        @Test
+        @DisplayName("When the window is small, Then should round the rank up")
+        void whenTheWindowIsSmall_thenShouldRoundTheRankUp() {
+            // Given: 10 samples, where the p95 rank is 9.5
+            final var window = new LatencyWindow(10, 0.95);
+            for (var i = 1; i <= 10; i++)
+                window.record(i * 10L);
+
+            // When & Then: should take the 10th sample
+            assertEquals(100, window.value());
+        }
+
+        @Test
+        @DisplayName("When new samples arrive, Then should drop the oldest ones")
+        void whenNewSamplesArrive_thenShouldDropTheOldestOnes() {
+            // Given: a full window of fast samples
+            final var window = new LatencyWindow(10, 0.5);
+            for (var i = 0; i < 10; i++)
+                window.record(1);
+
+            // When: half of the window is replaced by slow samples plus one
+            for (var i = 0; i < 6; i++)
+                window.record(1_000);
+
+            // Then: the median should follow the recent samples
+            assertEquals(1_000, window.value());
+        }
+    }
+
+}
@@ -0,0 +1,204 @@
+package soat.fastfood.backstage.adapter.outbound.dynamodb.throttle;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import soat.fastfood.backstage.adapter.outbound.dynamodb.throttle.AdaptiveWriteLimiter.Priority;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Adaptive Write Limiter")
+class AdaptiveWriteLimiterTest {
+
+    private static final Duration COOLDOWN = Duration.ofSeconds(1);
+
+    private AtomicLong now;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Nested
+    @DisplayName("Given throttling responses")
+    class GivenThrottlingResponses {
+
+        @Test
+        @DisplayName("When throttled, Then should halve the rate once per cooldown")
+        void whenThrottled_thenShouldHalveTheRateOncePerCooldown() {
+            // Given: a limiter at its maximum rate
+            final var limiter = limiter(1, 100, 0);
+
+            // When: throttled twice within a cooldown and once after it
+            limiter.onThrottled();
+            limiter.onThrottled();
+            final var afterBurst = rate();
+            advance(COOLDOWN);
+            limiter.onThrottled();
+
+            // Then: the burst should count once
+            assertEquals(50.0, afterBurst);
+            assertEquals(25.0, rate());
+            assertEquals(3.0, meterRegistry.get("backstage.dynamodb.write.throttled").counter().count());
+        }
+
+        @Test
+        @DisplayName("When throttled repeatedly, Then should not go below the minimum rate")
+        void whenThrottledRepeatedly_thenShouldNotGoBelowTheMinimumRate() {
+            // Given: a limiter with a minimum of 10 writes per second
+            final var limiter = limiter(10, 100, 0);
+
+            // When: throttled after every cooldown
+            for (var i = 0; i < 10; i++) {
+                limiter.onThrottled();
+                advance(COOLDOWN);
+            }
+
+            // Then: should stop at the minimum
+            assertEquals(10.0, rate());
+        }
+
+        @Test
+        @DisplayName("When writes succeed after the cooldown, Then should add one step per second up to the maximum")
+        void whenWritesSucceedAfterTheCooldown_thenShouldAddOneStepPerSecondUpToTheMaximum() {
+            // Given: a rate halved to 50
+            final var limiter = limiter(1, 100, 0);
+            limiter.onThrottled();
+
+            // When & Then: successes within the cooldown should not raise it
+            limiter.onSuccess();
+            assertEquals(50.0, rate());
+            assertTrue(limiter.isThrottled());
+
+            // When & Then: one step per second once the cooldown is over
+            advance(COOLDOWN);
+            assertFalse(limiter.isThrottled());
+            limiter.onSuccess();
+            limiter.onSuccess();
+            assertEquals(60.0, rate());
+
+            // When & Then: never above the maximum
+            for (var i = 0; i < 10; i++) {
+                advance(Duration.ofSeconds(1));
+                limiter.onSuccess();
+            }
+            assertEquals(100.0, rate());
+        }
+    }
+
+    @Nested
+    @DisplayName("Given bulk writes")
+    class GivenBulkWrites {
+
+        @Test
+        @DisplayName("When only the reserve is left, Then should reject bulk writes and admit interactive ones")
+        void whenOnlyTheReserveIsLeft_thenShouldRejectBulkWritesAndAdmitInteractiveOnes() {
+            // Given: 10 writes per second, half of the bucket reserved, and no wait for bulk writes
+            final var limiter = limiter(10, 10, 0.5, Duration.ZERO);
+            for (var i = 0; i < 4; i++)
+                limiter.acquire(Priority.INTERACTIVE);
+
+            // When & Then: bulk needs one write plus the reserve, so 6 tokens are enough but 5 are not
+            limiter.acquire(Priority.BULK);
+            assertThrows(IllegalStateException.class, () -> limiter.acquire(Priority.BULK));
+            limiter.acquire(Priority.INTERACTIVE);
+            assertEquals(1.0, meterRegistry.get("backstage.dynamodb.write.bulk.rejected").counter().count());
+        }
+
+        @Test
+        @DisplayName("When the capacity does not come back before the deadline, Then should reject the bulk write")
+        void whenTheCapacityDoesNotComeBackBeforeTheDeadline_thenShouldRejectTheBulkWrite() throws Exception {
+            // Given: an empty bucket refilling at 10 writes per second, with bulk writes needing 6 tokens
+            final var limiter = limiter(10, 10, 0.5, Duration.ofMillis(100));
+            drain(limiter, 10);
+
+            try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                final var bulk = executor.submit(() -> limiter.acquire(Priority.BULK));
+                awaitWaiting(bulk);
+
+                // When: the deadline passes with only 2 tokens back
+                advance(Duration.ofMillis(200));
+
+                // Then: the bulk write should give up
+                final var exception = assertThrows(ExecutionException.class, () -> bulk.get(5, TimeUnit.SECONDS));
+                assertInstanceOf(IllegalStateException.class, exception.getCause());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Given interactive and bulk writes waiting")
+    class GivenInteractiveAndBulkWritesWaiting {
+
+        @Test
+        @DisplayName("When a token comes back, Then should give it to the interactive write")
+        void whenATokenComesBack_thenShouldGiveItToTheInteractiveWrite() throws Exception {
+            // Given: an empty bucket, no bulk reserve, and one writer of each priority waiting
+            final var limiter = limiter(1_000, 1_000, 0, Duration.ofMinutes(1));
+            drain(limiter, 1_000);
+
+            try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                final var interactive = executor.submit(() -> limiter.acquire(Priority.INTERACTIVE));
+                awaitWaiting(interactive);
+                final var bulk = executor.submit(() -> limiter.acquire(Priority.BULK));
+                awaitWaiting(bulk);
+
+                // When: a single token comes back
+                advance(Duration.ofMillis(1));
+
+                // Then: the interactive write should get it and the bulk one keep waiting
+                interactive.get(5, TimeUnit.SECONDS);
+                Thread.sleep(20);
+                assertFalse(bulk.isDone());
+
+                // When & Then: the next token goes to the bulk write
+                advance(Duration.ofMillis(1));
+                bulk.get(5, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    private AdaptiveWriteLimiter limiter(final double minRate, final double maxRate, final double bulkReserve) {
+        return limiter(minRate, maxRate, bulkReserve, Duration.ofSeconds(1));
+    }
+
+    private AdaptiveWriteLimiter limiter(
+            final double minRate,
+            final double maxRate,
+            final double bulkReserve,
+            final Duration bulkMaxWait
+    ) {
+        return new AdaptiveWriteLimiter(minRate, maxRate, 10, 0.5, bulkReserve, COOLDOWN, bulkMaxWait, now::get, meterRegistry);
+    }
+
+    private double rate() {
+        return meterRegistry.get("backstage.dynamodb.write.rate").gauge().value();
+    }
+
+    private void advance(final Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    private static void drain(final AdaptiveWriteLimiter limiter, final int tokens) {
+        for (var i = 0; i < tokens; i++)
+            limiter.acquire(Priority.INTERACTIVE);
+    }
+
+    // The clock only moves when the test advances it, so a caller that has not finished by now is waiting
+    private static void awaitWaiting(final Future<?> future) throws InterruptedException {
+        Thread.sleep(50);
+        assertFalse(future.isDone());
+    }
+
+}
@@ -0,0 +1,301 @@
+package soat.fastfood.backstage.adapter.outbound.invalidation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import soat.fastfood.backstage.adapter.common.EventReplay;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderEvent;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Invalidation Bus")
+class InvalidationBusTest {
+
+    private static final String REMOTE = "remote-pod";
+    private static final Instant UPDATED_AT = Instant.parse("2026-01-20T10:15:30Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private RecordingTransport transport;
+    private List<WorkOrderEvent> events;
+    private List<Boolean> replayed;
+    private InvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        transport = new RecordingTransport();
+        events = new ArrayList<>();
+        replayed = new ArrayList<>();
+        bus = bus(transport, events, replayed);
+    }
+
+    @Nested
+    @DisplayName("Given remote invalidations for the same work order")
+    class GivenRemoteInvalidationsForTheSameWorkOrder {
+
+        @Test
+        @DisplayName("When an older version arrives after a newer one, Then should drop it")
+        void whenAnOlderVersionArrivesAfterANewerOne_thenShouldDropIt() {
+            // Given: version 3 already applied
+            bus.apply(statusChanged("order-1", WorkOrderStatus.READY, 3));
+
+            // When: version 2 arrives late
+            bus.apply(statusChanged("order-1", WorkOrderStatus.PREPARING, 2));
+
+            // Then: only version 3 should reach the local views
+            assertEquals(1, events.size());
+            final var changed = assertInstanceOf(WorkOrderEvent.StatusChanged.class, events.getFirst());
+            assertEquals(WorkOrderStatus.READY, changed.status());
+            assertEquals(3, changed.version());
+            assertEquals(1.0, count("applied"));
+            assertEquals(1.0, count("stale"));
+        }
+
+        @Test
+        @DisplayName("When the same version arrives twice, Then should apply it once")
+        void whenTheSameVersionArrivesTwice_thenShouldApplyItOnce() {
+            // Given: version 2 already applied
+            bus.apply(statusChanged("order-1", WorkOrderStatus.PREPARING, 2));
+
+            // When: it is delivered again
+            bus.apply(statusChanged("order-1", WorkOrderStatus.PREPARING, 2));
+
+            // Then: should publish a single event
+            assertEquals(1, events.size());
+            assertEquals(1.0, count("stale"));
+        }
+
+        @Test
+        @DisplayName("When versions belong to different work orders, Then should apply both")
+        void whenVersionsBelongToDifferentWorkOrders_thenShouldApplyBoth() {
+            // Given: a newer version for another work order
+            bus.apply(statusChanged("order-1", WorkOrderStatus.READY, 3));
+
+            // When: an older version arrives for this one
+            bus.apply(statusChanged("order-2", WorkOrderStatus.PREPARING, 2));
+
+            // Then: should not compare across work orders
+            assertEquals(2, events.size());
+            assertEquals(0.0, count("stale"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Given a remote deletion")
+    class GivenARemoteDeletion {
+
+        @Test
+        @DisplayName("When it arrives after a newer status change, Then should still apply it")
+        void whenItArrivesAfterANewerStatusChange_thenShouldStillApplyIt() {
+            // Given: a status change at a high version
+            bus.apply(statusChanged("order-1", WorkOrderStatus.COMPLETED, 40));
+
+            // When: the deletion arrives
+            bus.apply(deleted("order-1"));
+
+            // Then: should replay the deletion
+            assertEquals(2, events.size());
+            assertEquals(new WorkOrderEvent.Deleted(WorkOrderID.from("order-1")), events.getLast());
+        }
+
+        @Test
+        @DisplayName("When a status change arrives after it, Then should drop the status change")
+        void whenAStatusChangeArrivesAfterIt_thenShouldDropTheStatusChange() {
+            // Given: the work order was deleted
+            bus.apply(deleted("order-1"));
+
+            // When: a status change still in flight arrives
+            bus.apply(statusChanged("order-1", WorkOrderStatus.COMPLETED, 4));
+
+            // Then: the deleted work order should not come back
+            assertEquals(1, events.size());
+            assertInstanceOf(WorkOrderEvent.Deleted.class, events.getFirst());
+            assertEquals(1.0, count("stale"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Given a remote creation")
+    class GivenARemoteCreation {
+
+        @Test
+        @DisplayName("When it carries the items, Then should replay it as a creation with the whole work order")
+        void whenItCarriesTheItems_thenShouldReplayItAsACreationWithTheWholeWorkOrder() {
+            // Given: a creation message with the work order's data
+            final var message = new InvalidationMessage(
+                    "order-1", "RECEIVED", 1, UPDATED_AT.toString(), REMOTE,
+                    "42", UPDATED_AT.toString(), List.of(new InvalidationMessage.Item("Burger", 2))
+            );
+
+            // When: it is applied
+            bus.apply(message);
+
+            // Then: local views should get a Created event
+            final var created = assertInstanceOf(WorkOrderEvent.Created.class, events.getFirst());
+            final var workOrder = created.workOrder();
+            assertEquals(WorkOrderID.from("order-1"), workOrder.getId());
+            assertEquals("42", workOrder.getOrderNumber());
+            assertEquals(WorkOrderStatus.RECEIVED, workOrder.getStatus());
+            assertEquals(1, workOrder.getVersion());
+            assertEquals(1, workOrder.getItems().size());
+            assertEquals("Burger", workOrder.getItems().getFirst().getName());
+            assertEquals(2, workOrder.getItems().getFirst().getQuantity());
+        }
+
+        @Test
+        @DisplayName("When it carries no items, Then should replay it as a status change")
+        void whenItCarriesNoItems_thenShouldReplayItAsAStatusChange() {
+            // Given: a creation message without the work order's data
+            final var message = new InvalidationMessage(
+                    "order-1", "RECEIVED", 1, UPDATED_AT.toString(), REMOTE, null, null, null
+            );
+
+            // When: it is applied
+            bus.apply(message);
+
+            // Then: local views should only learn the status
+            final var changed = assertInstanceOf(WorkOrderEvent.StatusChanged.class, events.getFirst());
+            assertEquals(WorkOrderStatus.RECEIVED, changed.status());
+            assertEquals(UPDATED_AT, changed.updatedAt());
+            assertEquals(1, changed.version());
+        }
+
+        @Test
+        @DisplayName("When a newer status change was applied first, Then should drop the creation")
+        void whenANewerStatusChangeWasAppliedFirst_thenShouldDropTheCreation() {
+            // Given: the next status already applied
+            bus.apply(statusChanged("order-1", WorkOrderStatus.PREPARING, 2));
+
+            // When: the creation arrives late
+            bus.apply(new InvalidationMessage(
+                    "order-1", "RECEIVED", 1, UPDATED_AT.toString(), REMOTE,
+                    "42", UPDATED_AT.toString(), List.of(new InvalidationMessage.Item("Burger", 2))
+            ));
+
+            // Then: should keep the newer status
+            assertEquals(1, events.size());
+            assertInstanceOf(WorkOrderEvent.StatusChanged.class, events.getFirst());
+        }
+    }
+
+    @Nested
+    @DisplayName("Given local events")
+    class GivenLocalEvents {
+
+        @Test
+        @DisplayName("When a work order is created here, Then should publish its data and version")
+        void whenAWorkOrderIsCreatedHere_thenShouldPublishItsDataAndVersion() {
+            // Given: a local creation
+            final var workOrder = WorkOrder.create("order-1", "42", List.of(WorkOrderItem.create("Burger", 2)));
+
+            // When: the event is raised
+            bus.on(new WorkOrderEvent.Created(workOrder));
+
+            // Then: the message should carry everything a peer needs to rebuild it
+            final var message = transport.published.getFirst();
+            assertEquals("order-1", message.id());
+            assertEquals("RECEIVED", message.status());
+            assertEquals(1, message.version());
+            assertEquals("42", message.orderNumber());
+            assertEquals(List.of(new InvalidationMessage.Item("Burger", 2)), message.items());
+            assertEquals(1.0, count("published"));
+        }
+
+        @Test
+        @DisplayName("When the event is a replay, Then should not publish it again")
+        void whenTheEventIsAReplay_thenShouldNotPublishItAgain() {
+            // Given: an event raised while replaying
+            final var event = new WorkOrderEvent.Deleted(WorkOrderID.from("order-1"));
+
+            // When: the bus receives it
+            EventReplay.run(() -> bus.on(event));
+
+            // Then: nothing should go to the transport
+            assertTrue(transport.published.isEmpty());
+            assertEquals(0.0, count("published"));
+        }
+
+        @Test
+        @DisplayName("When a remote message is replayed, Then should mark the local publication as a replay")
+        void whenARemoteMessageIsReplayed_thenShouldMarkTheLocalPublicationAsAReplay() {
+            // Given: a remote status change
+            final var message = statusChanged("order-1", WorkOrderStatus.PREPARING, 2);
+
+            // When: it is applied
+            bus.apply(message);
+
+            // Then: listeners should see EventReplay active, and nothing should be forwarded
+            assertEquals(List.of(true), replayed);
+            assertTrue(transport.published.isEmpty());
+        }
+
+        @Test
+        @DisplayName("When the transport echoes this pod's own message, Then should ignore it")
+        void whenTheTransportEchoesThisPodsOwnMessage_thenShouldIgnoreIt() {
+            // Given: a transport that delivers to every bus, including the sender
+            final var shared = new InProcessInvalidationTransport();
+            final var localEvents = new ArrayList<WorkOrderEvent>();
+            final var peerEvents = new ArrayList<WorkOrderEvent>();
+            final var local = bus(shared, localEvents, new ArrayList<>());
+            bus(shared, peerEvents, new ArrayList<>());
+
+            // When: the local pod deletes a work order
+            local.on(new WorkOrderEvent.Deleted(WorkOrderID.from("order-1")));
+
+            // Then: only the peer should replay it
+            assertTrue(localEvents.isEmpty());
+            assertEquals(List.of(new WorkOrderEvent.Deleted(WorkOrderID.from("order-1"))), peerEvents);
+        }
+    }
+
+    // Local listeners, the bus included, receive the replayed events the way Spring would deliver them
+    private InvalidationBus bus(final InvalidationTransport transport, final List<WorkOrderEvent> events,
+                                final List<Boolean> replayed) {
+        final var holder = new InvalidationBus[1];
+        holder[0] = new InvalidationBus(transport, event -> {
+            replayed.add(EventReplay.active());
+            events.add((WorkOrderEvent) event);
+            holder[0].on((WorkOrderEvent) event);
+        }, meterRegistry);
+        return holder[0];
+    }
+
+    private static InvalidationMessage statusChanged(final String id, final WorkOrderStatus status, final long version) {
+        return new InvalidationMessage(id, status.name(), version, UPDATED_AT.toString(), REMOTE, null, null, null);
+    }
+
+    private static InvalidationMessage deleted(final String id) {
+        return new InvalidationMessage(id, null, Long.MAX_VALUE, null, REMOTE, null, null, null);
+    }
+
+    private double count(final String outcome) {
+        return meterRegistry.counter("backstage.invalidation.messages", "outcome", outcome).count();
+    }
+
+    private static class RecordingTransport implements InvalidationTransport {
+
+        private final List<InvalidationMessage> published = new ArrayList<>();
+
+        @Override
+        public void publish(final InvalidationMessage message) {
+            this.published.add(message);
+        }
+
+        @Override
+        public void subscribe(final Consumer<InvalidationMessage> subscriber) {
+        }
+
+    }
+
+}
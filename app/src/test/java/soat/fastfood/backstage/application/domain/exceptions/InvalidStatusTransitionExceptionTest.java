@@ -0,0 +1,25 @@
+package soat.fastfood.backstage.application.domain.exceptions;
+
+import org.junit.jupiter.api.Test;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvalidStatusTransitionExceptionTest {
+
+    @Test
+    void shouldCreateInvalidStatusTransitionExceptionWithCurrentStatus() {
+        // Given
+        final var id = WorkOrderID.from("abc-123");
+
+        // When
+        final var exception = InvalidStatusTransitionException.with(WorkOrder.class, id, "COMPLETED", "RECEIVED");
+
+        // Then
+        assertEquals("workorder with id abc-123 cannot change status from COMPLETED to RECEIVED", exception.getMessage());
+        assertEquals("COMPLETED", exception.getCurrentStatus());
+        assertEquals(1, exception.getErrors().size());
+        assertInstanceOf(DomainException.class, exception);
+    }
+}
@@ -0,0 +1,24 @@
+package soat.fastfood.backstage.application.domain.exceptions;
+
+import org.junit.jupiter.api.Test;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreconditionFailedExceptionTest {
+
+    @Test
+    void shouldCreatePreconditionFailedExceptionWithVersions() {
+        // Given
+        final var id = WorkOrderID.from("abc-123");
+
+        // When
+        final var exception = PreconditionFailedException.with(WorkOrder.class, id, 2L, 3L);
+
+        // Then
+        assertEquals("workorder with id abc-123 is at version 3, not 2", exception.getMessage());
+        assertEquals(1, exception.getErrors().size());
+        assertInstanceOf(DomainException.class, exception);
+    }
+}
@@ -0,0 +1,127 @@
+package soat.fastfood.backstage.application.domain.workorder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Prep Totals")
+class PrepTotalsTest {
+
+    private PrepTotals prepTotals;
+
+    @BeforeEach
+    void setUp() {
+        prepTotals = new PrepTotals();
+    }
+
+    @Nested
+    @DisplayName("Given work orders are created")
+    class GivenWorkOrdersAreCreated {
+
+        @Test
+        @DisplayName("When adding work orders, Then should sum quantities by item name")
+        void whenAddingWorkOrders_thenShouldSumQuantitiesByItemName() {
+            // Given: two received work orders sharing an item
+            prepTotals.add(WorkOrder.create("order-1", "1", List.of(
+                    WorkOrderItem.create("Burger", 2),
+                    WorkOrderItem.create("Fries", 1)
+            )));
+            prepTotals.add(WorkOrder.create("order-2", "2", List.of(WorkOrderItem.create("Burger", 3))));
+
+            // When: taking a snapshot
+            final var snapshot = prepTotals.snapshot();
+
+            // Then: quantities should be summed under RECEIVED
+            assertEquals(Map.of("Burger", 5L, "Fries", 1L), snapshot.get(WorkOrderStatus.RECEIVED));
+            assertTrue(snapshot.get(WorkOrderStatus.PREPARING).isEmpty());
+            assertTrue(snapshot.get(WorkOrderStatus.READY).isEmpty());
+            assertFalse(snapshot.containsKey(WorkOrderStatus.COMPLETED));
+        }
+
+        @Test
+        @DisplayName("When adding the same work order twice, Then should not count it twice")
+        void whenAddingTheSameWorkOrderTwice_thenShouldNotCountItTwice() {
+            // Given: the same work order delivered twice
+            final var workOrder = WorkOrder.create("order-1", "1", List.of(WorkOrderItem.create("Burger", 2)));
+
+            // When: adding it twice
+            prepTotals.add(workOrder);
+            prepTotals.add(workOrder);
+
+            // Then: should be counted once
+            assertEquals(Map.of("Burger", 2L), prepTotals.snapshot().get(WorkOrderStatus.RECEIVED));
+        }
+    }
+
+    @Nested
+    @DisplayName("Given a work order changes status")
+    class GivenAWorkOrderChangesStatus {
+
+        @Test
+        @DisplayName("When moving to PREPARING, Then should move its quantities between statuses")
+        void whenMovingToPreparing_thenShouldMoveItsQuantitiesBetweenStatuses() {
+            // Given: a received work order
+            final var workOrder = WorkOrder.create("order-1", "1", List.of(WorkOrderItem.create("Burger", 2)));
+            prepTotals.add(workOrder);
+
+            // When: updating its status
+            prepTotals.updateStatus(workOrder.getId(), WorkOrderStatus.PREPARING);
+
+            // Then: quantities should move from RECEIVED to PREPARING
+            final var snapshot = prepTotals.snapshot();
+            assertTrue(snapshot.get(WorkOrderStatus.RECEIVED).isEmpty());
+            assertEquals(Map.of("Burger", 2L), snapshot.get(WorkOrderStatus.PREPARING));
+        }
+
+        @Test
+        @DisplayName("When moving to COMPLETED, Then should drop its quantities")
+        void whenMovingToCompleted_thenShouldDropItsQuantities() {
+            // Given: a received work order
+            final var workOrder = WorkOrder.create("order-1", "1", List.of(WorkOrderItem.create("Burger", 2)));
+            prepTotals.add(workOrder);
+
+            // When: completing it
+            prepTotals.updateStatus(workOrder.getId(), WorkOrderStatus.COMPLETED);
+
+            // Then: no totals should remain
+            prepTotals.snapshot().values().forEach(totals -> assertTrue(totals.isEmpty()));
+        }
+
+        @Test
+        @DisplayName("When the work order is unknown, Then should ignore the change")
+        void whenTheWorkOrderIsUnknown_thenShouldIgnoreTheChange() {
+            // When: updating a work order never added
+            prepTotals.updateStatus(WorkOrderID.from("unknown"), WorkOrderStatus.READY);
+
+            // Then: totals should stay empty
+            prepTotals.snapshot().values().forEach(totals -> assertTrue(totals.isEmpty()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Given a work order is deleted")
+    class GivenAWorkOrderIsDeleted {
+
+        @Test
+        @DisplayName("When removing it, Then should subtract only its quantities")
+        void whenRemovingIt_thenShouldSubtractOnlyItsQuantities() {
+            // Given: two received work orders
+            final var workOrder1 = WorkOrder.create("order-1", "1", List.of(WorkOrderItem.create("Burger", 2)));
+            final var workOrder2 = WorkOrder.create("order-2", "2", List.of(WorkOrderItem.create("Burger", 3)));
+            prepTotals.add(workOrder1);
+            prepTotals.add(workOrder2);
+
+            // When: removing one of them
+            prepTotals.remove(workOrder1.getId());
+
+            // Then: only the remaining quantities should be counted
+            assertEquals(Map.of("Burger", 3L), prepTotals.snapshot().get(WorkOrderStatus.RECEIVED));
+        }
+    }
+}
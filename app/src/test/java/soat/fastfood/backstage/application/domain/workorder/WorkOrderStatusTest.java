@@ -0,0 +1,73 @@
+package soat.fastfood.backstage.application.domain.workorder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import soat.fastfood.backstage.application.domain.exceptions.InvalidStatusTransitionException;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Work Order Status")
+class WorkOrderStatusTest {
+
+    @Nested
+    @DisplayName("Given the status transitions")
+    class GivenTheStatusTransitions {
+
+        @Test
+        @DisplayName("When listing predecessors, Then each status should follow the previous stage only")
+        void whenListingPredecessors_thenEachStatusShouldFollowThePreviousStageOnly() {
+            // When & Then: only forward, single-step transitions are allowed
+            assertEquals(Set.of(), WorkOrderStatus.RECEIVED.predecessors());
+            assertEquals(Set.of(WorkOrderStatus.RECEIVED), WorkOrderStatus.PREPARING.predecessors());
+            assertEquals(Set.of(WorkOrderStatus.PREPARING), WorkOrderStatus.READY.predecessors());
+            assertEquals(Set.of(WorkOrderStatus.READY), WorkOrderStatus.COMPLETED.predecessors());
+        }
+
+        @Test
+        @DisplayName("When moving backwards or skipping a stage, Then should not allow the transition")
+        void whenMovingBackwardsOrSkippingAStage_thenShouldNotAllowTheTransition() {
+            // When & Then: backwards, skipped and repeated statuses are not transitions
+            assertTrue(WorkOrderStatus.READY.canTransitionTo(WorkOrderStatus.COMPLETED));
+            assertFalse(WorkOrderStatus.COMPLETED.canTransitionTo(WorkOrderStatus.RECEIVED));
+            assertFalse(WorkOrderStatus.RECEIVED.canTransitionTo(WorkOrderStatus.READY));
+            assertFalse(WorkOrderStatus.READY.canTransitionTo(WorkOrderStatus.READY));
+        }
+    }
+
+    @Nested
+    @DisplayName("Given a work order")
+    class GivenAWorkOrder {
+
+        @Test
+        @DisplayName("When updating to an illegal status, Then should throw InvalidStatusTransitionException")
+        void whenUpdatingToAnIllegalStatus_thenShouldThrowInvalidStatusTransitionException() {
+            // Given: a received work order
+            final var workOrder = WorkOrder.create("order-1", "1", List.of(WorkOrderItem.create("Burger", 1)));
+
+            // When & Then: should reject skipping to COMPLETED and keep the status
+            final var exception = assertThrows(InvalidStatusTransitionException.class,
+                    () -> workOrder.updateStatus(WorkOrderStatus.COMPLETED));
+            assertEquals("RECEIVED", exception.getCurrentStatus());
+            assertEquals(WorkOrderStatus.RECEIVED, workOrder.getStatus());
+        }
+
+        @Test
+        @DisplayName("When updating to the next or the current status, Then should accept it")
+        void whenUpdatingToTheNextOrTheCurrentStatus_thenShouldAcceptIt() {
+            // Given: a received work order
+            final var workOrder = WorkOrder.create("order-1", "1", List.of(WorkOrderItem.create("Burger", 1)));
+
+            // When: moving forward and repeating the status
+            workOrder.updateStatus(WorkOrderStatus.PREPARING);
+            workOrder.updateStatus(WorkOrderStatus.PREPARING);
+
+            // Then: should be in PREPARING, one version ahead
+            assertEquals(WorkOrderStatus.PREPARING, workOrder.getStatus());
+            assertEquals(2L, workOrder.getVersion());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package soat.fastfood.backstage.application.usecase.archive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import soat.fastfood.backstage.application.domain.exceptions.DomainException;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.port.WorkOrderArchivePort;
+import soat.fastfood.backstage.application.port.WorkOrderPort;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Archive Work Order Use Case")
+class DefaultArchiveWorkOrderUseCaseTest {
+
+    private static final Instant CREATED_BEFORE = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private WorkOrderPort workOrderPort;
+
+    @Mock
+    private WorkOrderArchivePort workOrderArchivePort;
+
+    @InjectMocks
+    private DefaultArchiveWorkOrderUseCase useCase;
+
+    private static WorkOrder completed(final String id) {
+        final var createdAt = CREATED_BEFORE.minusSeconds(3600);
+        return WorkOrder.with(WorkOrderID.from(id), "ORD-" + id, WorkOrderStatus.COMPLETED,
+                createdAt, createdAt, List.of(WorkOrderItem.create("Burger", 1)), 1L);
+    }
+
+    private static List<WorkOrderID> ids(final List<WorkOrder> workOrders) {
+        return workOrders.stream().map(WorkOrder::getId).toList();
+    }
+
+    @Nested
+    @DisplayName("Given completed work orders older than the cutoff")
+    class GivenCompletedWorkOrdersOlderThanTheCutoff {
+
+        @Test
+        @DisplayName("When archiving, Then should copy each batch to the archive before deleting it")
+        void whenArchiving_thenShouldCopyEachBatchToTheArchiveBeforeDeletingIt() {
+            // Given: one full batch followed by a short one
+            final var first = List.of(completed("order-1"), completed("order-2"));
+            final var second = List.of(completed("order-3"));
+
+            when(workOrderPort.findAllByStatusCreatedBefore(WorkOrderStatus.COMPLETED, CREATED_BEFORE, 2, null))
+                    .thenReturn(first, second);
+            when(workOrderPort.deleteAllByStatus(ids(first), WorkOrderStatus.COMPLETED)).thenReturn(ids(first));
+            when(workOrderPort.deleteAllByStatus(ids(second), WorkOrderStatus.COMPLETED)).thenReturn(ids(second));
+
+            // When: archiving with batches of two
+            final var output = useCase.execute(new ArchiveWorkOrderCommand(CREATED_BEFORE, 2));
+
+            // Then: should archive all three in two batches, saving before deleting
+            assertEquals(3, output.archived());
+            assertEquals(2, output.batches());
+
+            final InOrder inOrder = inOrder(workOrderArchivePort, workOrderPort);
+            inOrder.verify(workOrderArchivePort).saveAll(first);
+            inOrder.verify(workOrderPort).deleteAllByStatus(ids(first), WorkOrderStatus.COMPLETED);
+            inOrder.verify(workOrderArchivePort).saveAll(second);
+            inOrder.verify(workOrderPort).deleteAllByStatus(ids(second), WorkOrderStatus.COMPLETED);
+            verify(workOrderPort, times(2)).findAllByStatusCreatedBefore(any(), any(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("When nothing in a full batch can be deleted, Then should stop instead of selecting it again")
+        void whenNothingInAFullBatchCanBeDeleted_thenShouldStopInsteadOfSelectingItAgain() {
+            // Given: a full batch whose work orders all left COMPLETED after being read
+            final var batch = List.of(completed("order-1"), completed("order-2"));
+
+            when(workOrderPort.findAllByStatusCreatedBefore(WorkOrderStatus.COMPLETED, CREATED_BEFORE, 2, null))
+                    .thenReturn(batch);
+            when(workOrderPort.deleteAllByStatus(ids(batch), WorkOrderStatus.COMPLETED)).thenReturn(List.of());
+
+            // When: archiving
+            final var output = useCase.execute(new ArchiveWorkOrderCommand(CREATED_BEFORE, 2));
+
+            // Then: should report nothing archived and run a single batch
+            assertEquals(0, output.archived());
+            assertEquals(1, output.batches());
+            verify(workOrderPort, times(1)).findAllByStatusCreatedBefore(any(), any(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("When the archive write fails, Then should not delete the batch")
+        void whenTheArchiveWriteFails_thenShouldNotDeleteTheBatch() {
+            // Given: the archive rejects the batch
+            final var batch = List.of(completed("order-1"));
+
+            when(workOrderPort.findAllByStatusCreatedBefore(WorkOrderStatus.COMPLETED, CREATED_BEFORE, 10, null))
+                    .thenReturn(batch);
+            doThrow(new IllegalStateException("archive unavailable")).when(workOrderArchivePort).saveAll(batch);
+
+            // When & Then: should propagate the failure and keep the work orders
+            assertThrows(IllegalStateException.class,
+                    () -> useCase.execute(new ArchiveWorkOrderCommand(CREATED_BEFORE, 10)));
+            verify(workOrderPort, never()).deleteAllByStatus(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Given no completed work orders older than the cutoff")
+    class GivenNoCompletedWorkOrdersOlderThanTheCutoff {
+
+        @Test
+        @DisplayName("When archiving, Then should not touch the archive")
+        void whenArchiving_thenShouldNotTouchTheArchive() {
+            // Given: nothing to archive
+            when(workOrderPort.findAllByStatusCreatedBefore(WorkOrderStatus.COMPLETED, CREATED_BEFORE, 10, null))
+                    .thenReturn(List.of());
+
+            // When: archiving
+            final var output = useCase.execute(new ArchiveWorkOrderCommand(CREATED_BEFORE, 10));
+
+            // Then: should report no batches
+            assertEquals(0, output.archived());
+            assertEquals(0, output.batches());
+            verifyNoInteractions(workOrderArchivePort);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given an invalid command")
+    class GivenAnInvalidCommand {
+
+        @Test
+        @DisplayName("When cutoff is null, Then should throw DomainException")
+        void whenCutoffIsNull_thenShouldThrowDomainException() {
+            // When & Then: should reject the command
+            final var exception = assertThrows(DomainException.class,
+                    () -> useCase.execute(new ArchiveWorkOrderCommand(null, 10)));
+
+            assertEquals("'createdBefore' should not be null", exception.getErrors().getFirst().message());
+            verifyNoInteractions(workOrderPort, workOrderArchivePort);
+        }
+
+        @Test
+        @DisplayName("When batch size exceeds the transaction limit, Then should throw DomainException")
+        void whenBatchSizeExceedsTheTransactionLimit_thenShouldThrowDomainException() {
+            // When & Then: should reject the command
+            assertThrows(DomainException.class,
+                    () -> useCase.execute(new ArchiveWorkOrderCommand(CREATED_BEFORE, 100)));
+            verifyNoInteractions(workOrderPort, workOrderArchivePort);
+        }
+    }
+}
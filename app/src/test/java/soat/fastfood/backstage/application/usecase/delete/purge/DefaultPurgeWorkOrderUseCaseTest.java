@@ -0,0 +1,165 @@
+package soat.fastfood.backstage.application.usecase.delete.purge;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import soat.fastfood.backstage.application.domain.exceptions.DomainException;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderCursor;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.port.WorkOrderPort;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Purge Work Order Use Case")
+class DefaultPurgeWorkOrderUseCaseTest {
+
+    private static final Instant CREATED_BEFORE = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private WorkOrderPort workOrderPort;
+
+    @InjectMocks
+    private DefaultPurgeWorkOrderUseCase useCase;
+
+    private static List<WorkOrder> completed(final int from, final int count) {
+        return IntStream.range(from, from + count)
+                .mapToObj(i -> WorkOrder.with(WorkOrderID.from("order-" + i), "ORD-" + i, WorkOrderStatus.COMPLETED,
+                        CREATED_BEFORE.minusSeconds(10_000 - i), CREATED_BEFORE.minusSeconds(10_000 - i),
+                        List.of(WorkOrderItem.create("Burger", 1)), 1L))
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("Given old work orders of the status")
+    class GivenOldWorkOrdersOfTheStatus {
+
+        @Test
+        @DisplayName("When fewer than the limit remain, Then should purge them all and return no checkpoint")
+        void whenFewerThanTheLimitRemain_thenShouldPurgeThemAllAndReturnNoCheckpoint() {
+            // Given: one full page followed by a short one
+            final var first = completed(0, 100);
+            final var second = completed(100, 30);
+
+            when(workOrderPort.findAllByStatusCreatedBefore(WorkOrderStatus.COMPLETED, CREATED_BEFORE, 100, null))
+                    .thenReturn(first);
+            when(workOrderPort.findAllByStatusCreatedBefore(
+                    WorkOrderStatus.COMPLETED, CREATED_BEFORE, 100, WorkOrderCursor.from(first.getLast())
+            )).thenReturn(second);
+            when(workOrderPort.deleteAll(first)).thenReturn(100);
+            when(workOrderPort.deleteAll(second)).thenReturn(30);
+
+            // When: purging with a limit above what is left
+            final var output = useCase.execute(new PurgeWorkOrderCommand("COMPLETED", CREATED_BEFORE, 1_000, null));
+
+            // Then: should purge everything and report the purge as finished
+            assertEquals("COMPLETED", output.status());
+            assertEquals(130, output.purged());
+            assertNull(output.checkpoint());
+        }
+
+        @Test
+        @DisplayName("When the limit is reached, Then should return a checkpoint at the last purged work order")
+        void whenTheLimitIsReached_thenShouldReturnACheckpointAtTheLastPurgedWorkOrder() {
+            // Given: more work orders than the limit
+            final var page = completed(0, 40);
+
+            when(workOrderPort.findAllByStatusCreatedBefore(WorkOrderStatus.COMPLETED, CREATED_BEFORE, 40, null))
+                    .thenReturn(page);
+            when(workOrderPort.deleteAll(page)).thenReturn(40);
+
+            // When: purging with a limit of 40
+            final var output = useCase.execute(new PurgeWorkOrderCommand("COMPLETED", CREATED_BEFORE, 40, null));
+
+            // Then: should stop at the limit and point the checkpoint at the last work order
+            assertEquals(40, output.purged());
+            assertEquals(WorkOrderCursor.from(page.getLast()), WorkOrderCursor.decode(output.checkpoint()));
+            verify(workOrderPort, times(1)).findAllByStatusCreatedBefore(any(), any(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("When resuming from a checkpoint, Then should continue after it")
+        void whenResumingFromACheckpoint_thenShouldContinueAfterIt() {
+            // Given: a checkpoint from a previous run
+            final var cursor = WorkOrderCursor.from(completed(0, 1).getFirst());
+
+            when(workOrderPort.findAllByStatusCreatedBefore(WorkOrderStatus.COMPLETED, CREATED_BEFORE, 100, cursor))
+                    .thenReturn(List.of());
+
+            // When: purging from that checkpoint
+            final var output = useCase.execute(
+                    new PurgeWorkOrderCommand("COMPLETED", CREATED_BEFORE, 500, cursor.encode())
+            );
+
+            // Then: should query after the checkpoint and finish
+            assertEquals(0, output.purged());
+            assertNull(output.checkpoint());
+            verify(workOrderPort, never()).deleteAll(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Given an invalid command")
+    class GivenAnInvalidCommand {
+
+        @Test
+        @DisplayName("When status is invalid, Then should throw DomainException")
+        void whenStatusIsInvalid_thenShouldThrowDomainException() {
+            // When & Then: should reject the status
+            final var exception = assertThrows(DomainException.class,
+                    () -> useCase.execute(new PurgeWorkOrderCommand("ARCHIVED", CREATED_BEFORE, 10, null)));
+
+            assertEquals("'status' ARCHIVED is invalid", exception.getErrors().getFirst().message());
+            verifyNoInteractions(workOrderPort);
+        }
+
+        @Test
+        @DisplayName("When status can still change, Then should throw DomainException")
+        void whenStatusCanStillChange_thenShouldThrowDomainException() {
+            // When & Then: should reject every status with an outgoing transition
+            for (final var status : List.of("RECEIVED", "PREPARING", "READY")) {
+                final var exception = assertThrows(DomainException.class,
+                        () -> useCase.execute(new PurgeWorkOrderCommand(status, CREATED_BEFORE, 10, null)));
+
+                assertEquals("'status' %s is not final and cannot be purged".formatted(status),
+                        exception.getErrors().getFirst().message());
+            }
+            verifyNoInteractions(workOrderPort);
+        }
+
+        @Test
+        @DisplayName("When checkpoint is malformed, Then should throw DomainException")
+        void whenCheckpointIsMalformed_thenShouldThrowDomainException() {
+            // When & Then: should reject the checkpoint
+            final var exception = assertThrows(DomainException.class,
+                    () -> useCase.execute(new PurgeWorkOrderCommand("COMPLETED", CREATED_BEFORE, 10, "not-a-cursor")));
+
+            assertEquals("'checkpoint' is invalid", exception.getErrors().getFirst().message());
+            verifyNoInteractions(workOrderPort);
+        }
+
+        @Test
+        @DisplayName("When limit is out of range, Then should throw DomainException")
+        void whenLimitIsOutOfRange_thenShouldThrowDomainException() {
+            // When & Then: should reject both bounds
+            assertThrows(DomainException.class,
+                    () -> useCase.execute(new PurgeWorkOrderCommand("COMPLETED", CREATED_BEFORE, 0, null)));
+            assertThrows(DomainException.class,
+                    () -> useCase.execute(new PurgeWorkOrderCommand("COMPLETED", CREATED_BEFORE, 10_001, null)));
+            verifyNoInteractions(workOrderPort);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package soat.fastfood.backstage.application.usecase.retrieve.count;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.port.WorkOrderPort;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Count Work Orders Use Case")
+class DefaultCountWorkOrderUseCaseTest {
+
+    @Mock
+    private WorkOrderPort workOrderPort;
+
+    @InjectMocks
+    private DefaultCountWorkOrderUseCase useCase;
+
+    @Nested
+    @DisplayName("Given counters exist for every status")
+    class GivenCountersExistForEveryStatus {
+
+        @Test
+        @DisplayName("When counting, Then should return one count per status in enum order")
+        void whenCounting_thenShouldReturnOneCountPerStatusInEnumOrder() {
+            // Given: counters for all statuses
+            when(workOrderPort.countAllByStatus()).thenReturn(Map.of(
+                    WorkOrderStatus.RECEIVED, 4L,
+                    WorkOrderStatus.PREPARING, 2L,
+                    WorkOrderStatus.READY, 1L,
+                    WorkOrderStatus.COMPLETED, 30L
+            ));
+
+            // When: counting work orders
+            final var result = useCase.execute();
+
+            // Then: should return every status with its count
+            assertEquals(4, result.size());
+            assertEquals(new CountWorkOrderOutput("RECEIVED", 4L), result.get(0));
+            assertEquals(new CountWorkOrderOutput("PREPARING", 2L), result.get(1));
+            assertEquals(new CountWorkOrderOutput("READY", 1L), result.get(2));
+            assertEquals(new CountWorkOrderOutput("COMPLETED", 30L), result.get(3));
+
+            verify(workOrderPort, times(1)).countAllByStatus();
+            verifyNoMoreInteractions(workOrderPort);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given some statuses have no counter")
+    class GivenSomeStatusesHaveNoCounter {
+
+        @Test
+        @DisplayName("When counting, Then should report zero for the missing statuses")
+        void whenCounting_thenShouldReportZeroForTheMissingStatuses() {
+            // Given: only RECEIVED has a counter
+            when(workOrderPort.countAllByStatus()).thenReturn(Map.of(WorkOrderStatus.RECEIVED, 3L));
+
+            // When: counting work orders
+            final var result = useCase.execute();
+
+            // Then: other statuses should be zero
+            assertEquals(3L, result.get(0).count());
+            assertEquals(0L, result.get(1).count());
+            assertEquals(0L, result.get(2).count());
+            assertEquals(0L, result.get(3).count());
+        }
+    }
+}
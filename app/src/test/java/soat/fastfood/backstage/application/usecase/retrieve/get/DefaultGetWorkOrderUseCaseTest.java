@@ -11,6 +11,7 @@ import soat.fastfood.backstage.application.domain.exceptions.NotFoundException;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
+import soat.fastfood.backstage.application.port.WorkOrderArchivePort;
 import soat.fastfood.backstage.application.port.WorkOrderPort;
 
 import java.util.List;
@@ -27,6 +28,9 @@ class DefaultGetWorkOrderUseCaseTest {
     @Mock
     private WorkOrderPort workOrderPort;
 
+    @Mock
+    private WorkOrderArchivePort workOrderArchivePort;
+
     @InjectMocks
     private DefaultGetWorkOrderUseCase useCase;
 
@@ -61,6 +65,7 @@ class DefaultGetWorkOrderUseCaseTest {
             assertEquals("RECEIVED", output.status());
             assertNotNull(output.createdAt());
             assertNotNull(output.updatedAt());
+            assertEquals(1L, output.version());
 
             verify(workOrderPort, times(1)).findById(any(WorkOrderID.class));
         }
@@ -224,6 +229,52 @@ class DefaultGetWorkOrderUseCaseTest {
         }
     }
 
+    @Nested
+    @DisplayName("Given work order was archived")
+    class GivenWorkOrderWasArchived {
+
+        @Test
+        @DisplayName("When retrieving, Then should fall back to the archive")
+        void whenRetrieving_thenShouldFallBackToTheArchive() {
+            // Given: the work order is no longer in the live table but is in the archive
+            final var items = List.of(WorkOrderItem.create("Burger", 1));
+            final var workOrder = WorkOrder.create("order-456", "ORD-001", items);
+            final var command = new GetWorkOrderCommand("work-order-123");
+
+            when(workOrderPort.findById(any(WorkOrderID.class)))
+                    .thenReturn(Optional.empty());
+            when(workOrderArchivePort.findById(any(WorkOrderID.class)))
+                    .thenReturn(Optional.of(workOrder));
+
+            // When: retrieving the work order
+            final var output = useCase.execute(command);
+
+            // Then: should return the archived work order
+            assertEquals("ORD-001", output.orderNumber());
+            verify(workOrderArchivePort, times(1)).findById(argThat(id ->
+                    id.getValue().equals("work-order-123")
+            ));
+        }
+
+        @Test
+        @DisplayName("When work order is live, Then should not read the archive")
+        void whenWorkOrderIsLive_thenShouldNotReadTheArchive() {
+            // Given: the work order is still in the live table
+            final var items = List.of(WorkOrderItem.create("Burger", 1));
+            final var workOrder = WorkOrder.create("order-456", "ORD-001", items);
+            final var command = new GetWorkOrderCommand("work-order-123");
+
+            when(workOrderPort.findById(any(WorkOrderID.class)))
+                    .thenReturn(Optional.of(workOrder));
+
+            // When: retrieving the work order
+            useCase.execute(command);
+
+            // Then: should not query the archive
+            verifyNoInteractions(workOrderArchivePort);
+        }
+    }
+
     @Nested
     @DisplayName("Given port interaction scenarios")
     class GivenPortInteractionScenarios {
@@ -0,0 +1,109 @@
+package soat.fastfood.backstage.application.usecase.retrieve.history;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import soat.fastfood.backstage.application.domain.exceptions.NotFoundException;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatusChange;
+import soat.fastfood.backstage.application.port.WorkOrderArchivePort;
+import soat.fastfood.backstage.application.port.WorkOrderPort;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Get Work Order History Use Case")
+class DefaultGetWorkOrderHistoryUseCaseTest {
+
+    @Mock
+    private WorkOrderPort workOrderPort;
+
+    @Mock
+    private WorkOrderArchivePort workOrderArchivePort;
+
+    @InjectMocks
+    private DefaultGetWorkOrderHistoryUseCase useCase;
+
+    @Nested
+    @DisplayName("Given a work order with status history")
+    class GivenWorkOrderWithStatusHistory {
+
+        @Test
+        @DisplayName("When retrieving the history, Then should return the changes with their durations")
+        void whenRetrievingTheHistory_thenShouldReturnTheChangesWithTheirDurations() {
+            // Given: a work order that went from RECEIVED to READY
+            final var workOrderID = WorkOrderID.from("order-1");
+            final var receivedAt = Instant.parse("2026-01-20T10:00:00Z");
+            final var preparingAt = Instant.parse("2026-01-20T10:01:30Z");
+            final var readyAt = Instant.parse("2026-01-20T10:09:30Z");
+
+            when(workOrderPort.findHistory(workOrderID)).thenReturn(List.of(
+                    new WorkOrderStatusChange(WorkOrderStatus.RECEIVED, receivedAt),
+                    new WorkOrderStatusChange(WorkOrderStatus.PREPARING, preparingAt),
+                    new WorkOrderStatusChange(WorkOrderStatus.READY, readyAt)
+            ));
+
+            // When: retrieving the history
+            final var output = useCase.execute(new GetWorkOrderHistoryCommand("order-1"));
+
+            // Then: should return every change, oldest first, without reading the work order itself
+            assertEquals("order-1", output.id());
+            assertEquals(List.of(
+                    new GetWorkOrderHistoryItemOutput("RECEIVED", receivedAt, 90_000L),
+                    new GetWorkOrderHistoryItemOutput("PREPARING", preparingAt, 480_000L),
+                    new GetWorkOrderHistoryItemOutput("READY", readyAt, null)
+            ), output.history());
+            verify(workOrderPort, never()).findById(any());
+            verifyNoInteractions(workOrderArchivePort);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given a work order without status history")
+    class GivenWorkOrderWithoutStatusHistory {
+
+        @Test
+        @DisplayName("When the work order exists, Then should return an empty history")
+        void whenTheWorkOrderExists_thenShouldReturnAnEmptyHistory() {
+            // Given: a work order created before the history was recorded
+            final var workOrderID = WorkOrderID.from("order-1");
+            final var workOrder = WorkOrder.create("order-1", "ORD-001", List.of(WorkOrderItem.create("Burger", 1)));
+
+            when(workOrderPort.findHistory(workOrderID)).thenReturn(List.of());
+            when(workOrderPort.findById(workOrderID)).thenReturn(Optional.of(workOrder));
+
+            // When: retrieving the history
+            final var output = useCase.execute(new GetWorkOrderHistoryCommand("order-1"));
+
+            // Then: should return an empty history
+            assertEquals("order-1", output.id());
+            assertTrue(output.history().isEmpty());
+        }
+
+        @Test
+        @DisplayName("When the work order does not exist, Then should throw NotFoundException")
+        void whenTheWorkOrderDoesNotExist_thenShouldThrowNotFoundException() {
+            // Given: no history and no work order, active or archived
+            final var workOrderID = WorkOrderID.from("order-1");
+
+            when(workOrderPort.findHistory(workOrderID)).thenReturn(List.of());
+            when(workOrderPort.findById(workOrderID)).thenReturn(Optional.empty());
+            when(workOrderArchivePort.findById(workOrderID)).thenReturn(Optional.empty());
+
+            // When & Then: should throw NotFoundException
+            assertThrows(NotFoundException.class, () -> useCase.execute(new GetWorkOrderHistoryCommand("order-1")));
+        }
+    }
+}
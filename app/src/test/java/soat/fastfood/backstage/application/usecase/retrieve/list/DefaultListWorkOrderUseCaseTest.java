@@ -7,6 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import soat.fastfood.backstage.application.domain.exceptions.DomainException;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
@@ -419,5 +420,61 @@ class DefaultListWorkOrderUseCaseTest {
             verify(workOrderPort, times(1)).findAllByStatus(WorkOrderStatus.COMPLETED);
         }
     }
-}
 
+    @Nested
+    @DisplayName("Given multiple statuses are requested")
+    class GivenMultipleStatusesAreRequested {
+
+        @Test
+        @DisplayName("When listing by RECEIVED and PREPARING, Then should return the merged work orders in one call")
+        void whenListingByReceivedAndPreparing_thenShouldReturnTheMergedWorkOrdersInOneCall() {
+            // Given: a command with RECEIVED and PREPARING statuses
+            final var workOrder1 = createWorkOrderWithItems("order-1", "ORD-001", List.of(WorkOrderItem.create("Burger", 2)));
+            final var workOrder2 = createWorkOrderWithItems("order-2", "ORD-002", List.of(WorkOrderItem.create("Pizza", 1)));
+            final var command = new ListWorkOrderCommand(List.of("RECEIVED", "PREPARING"));
+
+            when(workOrderPort.findAllByStatuses(List.of(WorkOrderStatus.RECEIVED, WorkOrderStatus.PREPARING)))
+                    .thenReturn(List.of(workOrder1, workOrder2));
+
+            // When: listing work orders
+            final var result = useCase.execute(command);
+
+            // Then: should return the merged list as provided by the port
+            assertEquals(2, result.size());
+            assertEquals("ORD-001", result.get(0).orderNumber());
+            assertEquals("ORD-002", result.get(1).orderNumber());
+
+            verify(workOrderPort, times(1)).findAllByStatuses(List.of(WorkOrderStatus.RECEIVED, WorkOrderStatus.PREPARING));
+            verifyNoMoreInteractions(workOrderPort);
+        }
+
+        @Test
+        @DisplayName("When the same status is repeated, Then should query it once")
+        void whenTheSameStatusIsRepeated_thenShouldQueryItOnce() {
+            // Given: a command repeating RECEIVED
+            final var command = new ListWorkOrderCommand(List.of("RECEIVED", "RECEIVED"));
+
+            when(workOrderPort.findAllByStatus(WorkOrderStatus.RECEIVED))
+                    .thenReturn(Collections.emptyList());
+
+            // When: listing work orders
+            useCase.execute(command);
+
+            // Then: should use the single status query
+            verify(workOrderPort, times(1)).findAllByStatus(WorkOrderStatus.RECEIVED);
+            verifyNoMoreInteractions(workOrderPort);
+        }
+
+        @Test
+        @DisplayName("When no status is provided, Then should throw DomainException")
+        void whenNoStatusIsProvided_thenShouldThrowDomainException() {
+            // Given: a command without statuses
+            final var command = new ListWorkOrderCommand(List.of());
+
+            // When & Then: should throw DomainException
+            assertThrows(DomainException.class, () -> useCase.execute(command));
+
+            verifyNoInteractions(workOrderPort);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package soat.fastfood.backstage.application.usecase.retrieve.preptotals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.port.PrepTotalsPort;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Get Prep Totals Use Case")
+class DefaultGetPrepTotalsUseCaseTest {
+
+    @Mock
+    private PrepTotalsPort prepTotalsPort;
+
+    @InjectMocks
+    private DefaultGetPrepTotalsUseCase useCase;
+
+    @Nested
+    @DisplayName("Given open work orders exist")
+    class GivenOpenWorkOrdersExist {
+
+        @Test
+        @DisplayName("When getting prep totals, Then should return totals grouped by status")
+        void whenGettingPrepTotals_thenShouldReturnTotalsGroupedByStatus() {
+            // Given: totals for RECEIVED and PREPARING work orders
+            final var totals = new LinkedHashMap<WorkOrderStatus, Map<String, Long>>();
+            totals.put(WorkOrderStatus.RECEIVED, new TreeMap<>(Map.of("Burger", 14L, "Fries", 9L)));
+            totals.put(WorkOrderStatus.PREPARING, new TreeMap<>(Map.of("Pizza", 2L)));
+            totals.put(WorkOrderStatus.READY, Map.of());
+
+            when(prepTotalsPort.findAll()).thenReturn(totals);
+
+            // When: getting prep totals
+            final var result = useCase.execute();
+
+            // Then: should map every status with its item totals
+            assertEquals(3, result.size());
+            assertEquals("RECEIVED", result.get(0).status());
+            assertEquals(2, result.get(0).items().size());
+            assertEquals("Burger", result.get(0).items().get(0).name());
+            assertEquals(14L, result.get(0).items().get(0).quantity());
+            assertEquals("Fries", result.get(0).items().get(1).name());
+            assertEquals(9L, result.get(0).items().get(1).quantity());
+            assertEquals("PREPARING", result.get(1).status());
+            assertEquals(2L, result.get(1).items().get(0).quantity());
+            assertTrue(result.get(2).items().isEmpty());
+
+            verify(prepTotalsPort, times(1)).findAll();
+            verifyNoMoreInteractions(prepTotalsPort);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given no open work orders exist")
+    class GivenNoOpenWorkOrdersExist {
+
+        @Test
+        @DisplayName("When getting prep totals, Then should return empty items for every status")
+        void whenGettingPrepTotals_thenShouldReturnEmptyItemsForEveryStatus() {
+            // Given: port returns empty totals
+            final var totals = new LinkedHashMap<WorkOrderStatus, Map<String, Long>>();
+            totals.put(WorkOrderStatus.RECEIVED, Map.of());
+            totals.put(WorkOrderStatus.PREPARING, Map.of());
+            totals.put(WorkOrderStatus.READY, Map.of());
+
+            when(prepTotalsPort.findAll()).thenReturn(totals);
+
+            // When: getting prep totals
+            final var result = useCase.execute();
+
+            // Then: all statuses should be present without items
+            assertEquals(3, result.size());
+            result.forEach(output -> assertTrue(output.items().isEmpty()));
+        }
+    }
+}
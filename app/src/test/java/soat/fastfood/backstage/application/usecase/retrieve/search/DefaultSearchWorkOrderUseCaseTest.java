@@ -0,0 +1,114 @@
+package soat.fastfood.backstage.application.usecase.retrieve.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import soat.fastfood.backstage.application.domain.exceptions.DomainException;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
+import soat.fastfood.backstage.application.port.WorkOrderPort;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Search Work Orders Use Case")
+class DefaultSearchWorkOrderUseCaseTest {
+
+    @Mock
+    private WorkOrderPort workOrderPort;
+
+    @InjectMocks
+    private DefaultSearchWorkOrderUseCase useCase;
+
+    @Nested
+    @DisplayName("Given active work orders with the order number exist")
+    class GivenActiveWorkOrdersWithTheOrderNumberExist {
+
+        @Test
+        @DisplayName("When searching by order number, Then should return the matching work orders")
+        void whenSearchingByOrderNumber_thenShouldReturnTheMatchingWorkOrders() {
+            // Given: two active work orders sharing the same order number
+            final var workOrder1 = WorkOrder.create("order-1", "ORD-001", List.of(WorkOrderItem.create("Burger", 2)));
+            final var workOrder2 = WorkOrder.create("order-2", "ORD-001", List.of(WorkOrderItem.create("Pizza", 1)));
+            final var command = new SearchWorkOrderCommand("ORD-001");
+
+            when(workOrderPort.findByOrderNumber("ORD-001"))
+                    .thenReturn(List.of(workOrder2, workOrder1));
+
+            // When: searching by order number
+            final var result = useCase.execute(command);
+
+            // Then: should return both work orders in the port order
+            assertEquals(2, result.size());
+            assertEquals("order-2", result.get(0).id());
+            assertEquals("order-1", result.get(1).id());
+            assertEquals("ORD-001", result.get(0).orderNumber());
+            assertEquals("RECEIVED", result.get(0).status());
+            assertEquals(1, result.get(0).items().size());
+
+            verify(workOrderPort, times(1)).findByOrderNumber("ORD-001");
+            verifyNoMoreInteractions(workOrderPort);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given no active work order with the order number exists")
+    class GivenNoActiveWorkOrderWithTheOrderNumberExists {
+
+        @Test
+        @DisplayName("When searching by order number, Then should return empty list")
+        void whenSearchingByOrderNumber_thenShouldReturnEmptyList() {
+            // Given: port returns no active work orders
+            final var command = new SearchWorkOrderCommand("ORD-404");
+
+            when(workOrderPort.findByOrderNumber("ORD-404"))
+                    .thenReturn(Collections.emptyList());
+
+            // When: searching by order number
+            final var result = useCase.execute(command);
+
+            // Then: should return empty list
+            assertNotNull(result);
+            assertTrue(result.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Given order number validation scenarios")
+    class GivenOrderNumberValidationScenarios {
+
+        @Test
+        @DisplayName("When order number is blank, Then should throw DomainException")
+        void whenOrderNumberIsBlank_thenShouldThrowDomainException() {
+            // Given: a command with blank order number
+            final var command = new SearchWorkOrderCommand("  ");
+
+            // When & Then: should throw DomainException without querying the port
+            final var exception = assertThrows(DomainException.class, () -> useCase.execute(command));
+            assertEquals("'orderNumber' should not be null or empty", exception.getMessage());
+
+            verify(workOrderPort, never()).findByOrderNumber(anyString());
+        }
+
+        @Test
+        @DisplayName("When order number is null, Then should throw DomainException")
+        void whenOrderNumberIsNull_thenShouldThrowDomainException() {
+            // Given: a command without order number
+            final var command = new SearchWorkOrderCommand(null);
+
+            // When & Then: should throw DomainException
+            assertThrows(DomainException.class, () -> useCase.execute(command));
+
+            verifyNoInteractions(workOrderPort);
+        }
+    }
+}
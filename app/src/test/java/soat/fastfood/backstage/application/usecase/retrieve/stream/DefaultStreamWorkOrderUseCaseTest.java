@@ -0,0 +1,116 @@
+package soat.fastfood.backstage.application.usecase.retrieve.stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import soat.fastfood.backstage.application.domain.exceptions.DomainException;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderItem;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.port.WorkOrderPort;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Stream Work Orders Use Case")
+class DefaultStreamWorkOrderUseCaseTest {
+
+    @Mock
+    private WorkOrderPort workOrderPort;
+
+    @InjectMocks
+    private DefaultStreamWorkOrderUseCase useCase;
+
+    @Nested
+    @DisplayName("Given work orders spread over several pages")
+    class GivenWorkOrdersSpreadOverSeveralPages {
+
+        @Test
+        @DisplayName("When streaming, Then should keep the page boundaries")
+        void whenStreaming_thenShouldKeepThePageBoundaries() {
+            // Given: two pages of RECEIVED work orders
+            final var items = List.of(WorkOrderItem.create("Burger", 1));
+            final var firstPage = List.of(
+                    WorkOrder.create("order-1", "ORD-001", items),
+                    WorkOrder.create("order-2", "ORD-002", items)
+            );
+            final var secondPage = List.of(WorkOrder.create("order-3", "ORD-003", items));
+
+            when(workOrderPort.streamAllByStatuses(List.of(WorkOrderStatus.RECEIVED)))
+                    .thenReturn(Stream.of(firstPage, secondPage));
+
+            // When: streaming work orders
+            final var result = useCase.execute(new StreamWorkOrderCommand(List.of("RECEIVED"))).toList();
+
+            // Then: should map each page on its own
+            assertEquals(2, result.size());
+            assertEquals(2, result.get(0).size());
+            assertEquals("ORD-001", result.get(0).get(0).orderNumber());
+            assertEquals("ORD-003", result.get(1).get(0).orderNumber());
+            assertEquals("Burger", result.get(1).get(0).items().getFirst().name());
+        }
+
+        @Test
+        @DisplayName("When the stream is not consumed, Then should not map any page")
+        void whenTheStreamIsNotConsumed_thenShouldNotMapAnyPage() {
+            // Given: a page source that fails once it is pulled
+            when(workOrderPort.streamAllByStatuses(List.of(WorkOrderStatus.RECEIVED)))
+                    .thenReturn(Stream.<List<WorkOrder>>generate(() -> {
+                        throw new IllegalStateException("page pulled");
+                    }));
+
+            // When: executing without consuming the stream
+            final var result = useCase.execute(new StreamWorkOrderCommand(List.of("RECEIVED")));
+
+            // Then: no page should have been pulled yet
+            assertNotNull(result);
+            assertThrows(IllegalStateException.class, () -> result.findFirst());
+        }
+    }
+
+    @Nested
+    @DisplayName("Given repeated statuses")
+    class GivenRepeatedStatuses {
+
+        @Test
+        @DisplayName("When streaming, Then should query each status once")
+        void whenStreaming_thenShouldQueryEachStatusOnce() {
+            // Given: the same status requested twice
+            when(workOrderPort.streamAllByStatuses(List.of(WorkOrderStatus.READY, WorkOrderStatus.PREPARING)))
+                    .thenReturn(Stream.empty());
+
+            // When: streaming work orders
+            final var result = useCase.execute(
+                    new StreamWorkOrderCommand(List.of("READY", "PREPARING", "READY"))).toList();
+
+            // Then: should request distinct statuses in order
+            assertTrue(result.isEmpty());
+            verify(workOrderPort, times(1))
+                    .streamAllByStatuses(List.of(WorkOrderStatus.READY, WorkOrderStatus.PREPARING));
+        }
+    }
+
+    @Nested
+    @DisplayName("Given no status")
+    class GivenNoStatus {
+
+        @Test
+        @DisplayName("When streaming, Then should throw DomainException")
+        void whenStreaming_thenShouldThrowDomainException() {
+            // Given: an empty status list
+            final var command = new StreamWorkOrderCommand(List.of());
+
+            // When & Then: should throw DomainException
+            assertThrows(DomainException.class, () -> useCase.execute(command));
+            verifyNoInteractions(workOrderPort);
+        }
+    }
+}
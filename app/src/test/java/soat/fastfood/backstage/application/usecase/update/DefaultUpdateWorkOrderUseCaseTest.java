@@ -8,6 +8,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import soat.fastfood.backstage.application.domain.exceptions.InvalidStatusTransitionException;
+import soat.fastfood.backstage.application.domain.exceptions.PreconditionFailedException;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrder;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
 import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
 import soat.fastfood.backstage.application.port.NotificationPort;
@@ -34,6 +37,21 @@ class DefaultUpdateWorkOrderUseCaseTest {
     @DisplayName("Given a valid work order update request")
     class GivenValidWorkOrderUpdateRequest {
 
+        @Test
+        @DisplayName("When an expected version is given, Then should update only at that version")
+        void whenAnExpectedVersionIsGiven_thenShouldUpdateOnlyAtThatVersion() {
+            // Given: a command carrying the version read by the client
+            final var command = new UpdateWorkOrderCommand("work-order-123", "PREPARING", 1L);
+
+            // When: executing the update
+            assertDoesNotThrow(() -> useCase.execute(command));
+
+            // Then: should pass the version to the port and notify
+            verify(workOrderPort).updateStatus(WorkOrderID.from("work-order-123"), WorkOrderStatus.PREPARING, 1L);
+            verify(workOrderPort, never()).updateStatus(any(WorkOrderID.class), any(WorkOrderStatus.class));
+            verify(notificationPort).sendWorkOrderStatusUpdateNotification(any(WorkOrderID.class), eq(WorkOrderStatus.PREPARING));
+        }
+
         @Test
         @DisplayName("When updating status to RECEIVED, Then should update and notify successfully")
         void whenUpdatingStatusToReceived_thenShouldUpdateAndNotifySuccessfully() {
@@ -357,6 +375,39 @@ class DefaultUpdateWorkOrderUseCaseTest {
     @DisplayName("Given error handling scenarios")
     class GivenErrorHandlingScenarios {
 
+        @Test
+        @DisplayName("When the expected version is stale, Then should propagate the failed precondition and not notify")
+        void whenTheExpectedVersionIsStale_thenShouldPropagateTheFailedPreconditionAndNotNotify() {
+            // Given: another update moved the work order past the version the client read
+            final var command = new UpdateWorkOrderCommand("work-order-123", "READY", 2L);
+
+            doThrow(PreconditionFailedException.with(WorkOrder.class, WorkOrderID.from("work-order-123"), 2L, 3L))
+                    .when(workOrderPort).updateStatus(any(WorkOrderID.class), any(WorkOrderStatus.class), anyLong());
+
+            // When & Then: should propagate the failed precondition
+            assertThrows(PreconditionFailedException.class, () -> useCase.execute(command));
+
+            verify(workOrderPort).updateStatus(WorkOrderID.from("work-order-123"), WorkOrderStatus.READY, 2L);
+            verify(notificationPort, never()).sendWorkOrderStatusUpdateNotification(any(WorkOrderID.class), any(WorkOrderStatus.class));
+        }
+
+        @Test
+        @DisplayName("When the transition is not allowed, Then should propagate the conflict and not notify")
+        void whenTheTransitionIsNotAllowed_thenShouldPropagateTheConflictAndNotNotify() {
+            // Given: the storage rejects moving a completed work order back to RECEIVED
+            final var command = new UpdateWorkOrderCommand("work-order-123", "RECEIVED");
+
+            doThrow(InvalidStatusTransitionException.with(
+                    WorkOrder.class, WorkOrderID.from("work-order-123"), "COMPLETED", "RECEIVED"
+            )).when(workOrderPort).updateStatus(any(WorkOrderID.class), any(WorkOrderStatus.class));
+
+            // When & Then: should propagate the current status
+            final var exception = assertThrows(InvalidStatusTransitionException.class, () -> useCase.execute(command));
+            assertEquals("COMPLETED", exception.getCurrentStatus());
+
+            verify(notificationPort, never()).sendWorkOrderStatusUpdateNotification(any(WorkOrderID.class), any(WorkOrderStatus.class));
+        }
+
         @Test
         @DisplayName("When port update fails, Then should propagate exception and not notify")
         void whenPortUpdateFails_thenShouldPropagateExceptionAndNotNotify() {
@@ -0,0 +1,245 @@
+package soat.fastfood.backstage.application.usecase.update.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import soat.fastfood.backstage.application.domain.exceptions.DomainException;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatusUpdateResult;
+import soat.fastfood.backstage.application.port.NotificationPort;
+import soat.fastfood.backstage.application.port.WorkOrderPort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Batch Update Work Order Use Case")
+class DefaultBatchUpdateWorkOrderUseCaseTest {
+
+    @Mock
+    private WorkOrderPort workOrderPort;
+
+    @Mock
+    private NotificationPort notificationPort;
+
+    @InjectMocks
+    private DefaultBatchUpdateWorkOrderUseCase useCase;
+
+    @Nested
+    @DisplayName("Given a valid batch update request")
+    class GivenValidBatchUpdateRequest {
+
+        @Test
+        @DisplayName("When all work orders are updated, Then should notify them in one batch and report each id")
+        void whenAllWorkOrdersAreUpdated_thenShouldNotifyThemInOneBatchAndReportEachId() {
+            // Given: two work orders to bump to READY and COMPLETED
+            final var command = new BatchUpdateWorkOrderCommand(List.of(
+                    new BatchUpdateWorkOrderItemCommand("order-1", "READY"),
+                    new BatchUpdateWorkOrderItemCommand("order-2", "COMPLETED")
+            ), false);
+            final var statuses = Map.of(
+                    WorkOrderID.from("order-1"), WorkOrderStatus.READY,
+                    WorkOrderID.from("order-2"), WorkOrderStatus.COMPLETED
+            );
+
+            when(workOrderPort.updateStatuses(statuses, false)).thenReturn(Map.of(
+                    WorkOrderID.from("order-1"), WorkOrderStatusUpdateResult.UPDATED,
+                    WorkOrderID.from("order-2"), WorkOrderStatusUpdateResult.UPDATED
+            ));
+            when(notificationPort.sendWorkOrderStatusUpdateNotifications(statuses)).thenReturn(Set.of());
+
+            // When: executing the batch update
+            final var result = useCase.execute(command);
+
+            // Then: should report every id in request order as updated and notified
+            assertEquals(2, result.size());
+            assertEquals(new BatchUpdateWorkOrderOutput("order-1", "READY", "UPDATED", true), result.get(0));
+            assertEquals(new BatchUpdateWorkOrderOutput("order-2", "COMPLETED", "UPDATED", true), result.get(1));
+
+            verify(workOrderPort, times(1)).updateStatuses(statuses, false);
+            verify(notificationPort, times(1)).sendWorkOrderStatusUpdateNotifications(statuses);
+            verifyNoMoreInteractions(workOrderPort, notificationPort);
+        }
+
+        @Test
+        @DisplayName("When some work orders are missing, Then should notify only the updated ones")
+        void whenSomeWorkOrdersAreMissing_thenShouldNotifyOnlyTheUpdatedOnes() {
+            // Given: one existing and one missing work order
+            final var command = new BatchUpdateWorkOrderCommand(List.of(
+                    new BatchUpdateWorkOrderItemCommand("order-1", "READY"),
+                    new BatchUpdateWorkOrderItemCommand("missing", "READY")
+            ), false);
+
+            when(workOrderPort.updateStatuses(anyMap(), eq(false))).thenReturn(Map.of(
+                    WorkOrderID.from("order-1"), WorkOrderStatusUpdateResult.UPDATED,
+                    WorkOrderID.from("missing"), WorkOrderStatusUpdateResult.NOT_FOUND
+            ));
+            when(notificationPort.sendWorkOrderStatusUpdateNotifications(anyMap())).thenReturn(Set.of());
+
+            // When: executing the batch update
+            final var result = useCase.execute(command);
+
+            // Then: should notify only the updated work order
+            assertEquals("UPDATED", result.get(0).result());
+            assertTrue(result.get(0).notified());
+            assertEquals("NOT_FOUND", result.get(1).result());
+            assertFalse(result.get(1).notified());
+
+            verify(notificationPort).sendWorkOrderStatusUpdateNotifications(Map.of(WorkOrderID.from("order-1"), WorkOrderStatus.READY));
+        }
+
+        @Test
+        @DisplayName("When a notification fails, Then should report the work order as not notified")
+        void whenANotificationFails_thenShouldReportTheWorkOrderAsNotNotified() {
+            // Given: an update whose notification cannot be sent
+            final var command = new BatchUpdateWorkOrderCommand(List.of(
+                    new BatchUpdateWorkOrderItemCommand("order-1", "READY")
+            ), false);
+
+            when(workOrderPort.updateStatuses(anyMap(), eq(false))).thenReturn(Map.of(
+                    WorkOrderID.from("order-1"), WorkOrderStatusUpdateResult.UPDATED
+            ));
+            when(notificationPort.sendWorkOrderStatusUpdateNotifications(anyMap()))
+                    .thenReturn(Set.of(WorkOrderID.from("order-1")));
+
+            // When: executing the batch update
+            final var result = useCase.execute(command);
+
+            // Then: should keep the update but flag the missing notification
+            assertEquals("UPDATED", result.get(0).result());
+            assertFalse(result.get(0).notified());
+        }
+    }
+
+    @Nested
+    @DisplayName("Given an atomic batch update request")
+    class GivenAtomicBatchUpdateRequest {
+
+        @Test
+        @DisplayName("When the transaction is cancelled, Then should not send notifications")
+        void whenTheTransactionIsCancelled_thenShouldNotSendNotifications() {
+            // Given: an atomic batch where one work order does not exist
+            final var command = new BatchUpdateWorkOrderCommand(List.of(
+                    new BatchUpdateWorkOrderItemCommand("order-1", "COMPLETED"),
+                    new BatchUpdateWorkOrderItemCommand("missing", "COMPLETED")
+            ), true);
+
+            when(workOrderPort.updateStatuses(anyMap(), eq(true))).thenReturn(Map.of(
+                    WorkOrderID.from("order-1"), WorkOrderStatusUpdateResult.ABORTED,
+                    WorkOrderID.from("missing"), WorkOrderStatusUpdateResult.NOT_FOUND
+            ));
+
+            // When: executing the batch update
+            final var result = useCase.execute(command);
+
+            // Then: nothing should be notified
+            assertEquals("ABORTED", result.get(0).result());
+            assertEquals("NOT_FOUND", result.get(1).result());
+            verifyNoInteractions(notificationPort);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given an invalid batch update request")
+    class GivenInvalidBatchUpdateRequest {
+
+        @Test
+        @DisplayName("When updates are empty, Then should throw DomainException")
+        void whenUpdatesAreEmpty_thenShouldThrowDomainException() {
+            // Given: a command without updates
+            final var command = new BatchUpdateWorkOrderCommand(List.of(), false);
+
+            // When & Then: should throw DomainException
+            final var exception = assertThrows(DomainException.class, () -> useCase.execute(command));
+            assertEquals("'updates' should not be null or empty", exception.getMessage());
+            verifyNoInteractions(workOrderPort, notificationPort);
+        }
+
+        @Test
+        @DisplayName("When an id is repeated, Then should throw DomainException")
+        void whenAnIdIsRepeated_thenShouldThrowDomainException() {
+            // Given: a command with the same id twice
+            final var command = new BatchUpdateWorkOrderCommand(List.of(
+                    new BatchUpdateWorkOrderItemCommand("order-1", "READY"),
+                    new BatchUpdateWorkOrderItemCommand("order-1", "COMPLETED")
+            ), false);
+
+            // When & Then: should throw DomainException
+            assertThrows(DomainException.class, () -> useCase.execute(command));
+            verifyNoInteractions(workOrderPort, notificationPort);
+        }
+
+        @Test
+        @DisplayName("When a status is invalid, Then should throw DomainException")
+        void whenAStatusIsInvalid_thenShouldThrowDomainException() {
+            // Given: a command with an unknown status
+            final var command = new BatchUpdateWorkOrderCommand(List.of(
+                    new BatchUpdateWorkOrderItemCommand("order-1", "DELIVERED")
+            ), false);
+
+            // When & Then: should throw DomainException
+            final var exception = assertThrows(DomainException.class, () -> useCase.execute(command));
+            assertEquals("'status' DELIVERED is invalid for id order-1", exception.getMessage());
+            verifyNoInteractions(workOrderPort, notificationPort);
+        }
+
+        @Test
+        @DisplayName("When there are more than 500 updates, Then should throw DomainException")
+        void whenThereAreMoreThan500Updates_thenShouldThrowDomainException() {
+            // Given: a command above the non-atomic limit
+            final var updates = IntStream.range(0, 501)
+                    .mapToObj(i -> new BatchUpdateWorkOrderItemCommand("order-" + i, "READY"))
+                    .toList();
+            final var command = new BatchUpdateWorkOrderCommand(updates, false);
+
+            // When & Then: should throw DomainException
+            final var exception = assertThrows(DomainException.class, () -> useCase.execute(command));
+            assertEquals("'updates' should not have more than 500 items", exception.getMessage());
+            verifyNoInteractions(workOrderPort, notificationPort);
+        }
+
+        @Test
+        @DisplayName("When a non-atomic batch exceeds the transaction limit, Then should still update it")
+        void whenANonAtomicBatchExceedsTheTransactionLimit_thenShouldStillUpdateIt() {
+            // Given: a non-atomic command larger than one transaction could hold
+            final var updates = IntStream.range(0, 100)
+                    .mapToObj(i -> new BatchUpdateWorkOrderItemCommand("order-" + i, "READY"))
+                    .toList();
+            final var command = new BatchUpdateWorkOrderCommand(updates, false);
+            when(workOrderPort.updateStatuses(anyMap(), eq(false))).thenReturn(Map.of());
+
+            // When: executing the batch update
+            final var result = useCase.execute(command);
+
+            // Then: should pass every update to the port
+            assertEquals(100, result.size());
+            verify(workOrderPort).updateStatuses(argThat(statuses -> statuses.size() == 100), eq(false));
+        }
+
+        @Test
+        @DisplayName("When an atomic batch has more than 49 updates, Then should throw DomainException")
+        void whenAnAtomicBatchHasMoreThan49Updates_thenShouldThrowDomainException() {
+            // Given: an atomic command above the transaction limit, history appends included
+            final var updates = IntStream.range(0, 50)
+                    .mapToObj(i -> new BatchUpdateWorkOrderItemCommand("order-" + i, "READY"))
+                    .toList();
+            final var command = new BatchUpdateWorkOrderCommand(updates, true);
+
+            // When & Then: should throw DomainException
+            final var exception = assertThrows(DomainException.class, () -> useCase.execute(command));
+            assertEquals("'updates' should not have more than 49 items", exception.getMessage());
+            verifyNoInteractions(workOrderPort, notificationPort);
+        }
+    }
+}
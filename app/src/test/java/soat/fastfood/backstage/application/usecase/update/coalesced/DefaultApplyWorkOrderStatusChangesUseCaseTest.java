@@ -0,0 +1,107 @@
+package soat.fastfood.backstage.application.usecase.update.coalesced;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import soat.fastfood.backstage.application.domain.exceptions.DomainException;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderID;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatus;
+import soat.fastfood.backstage.application.domain.workorder.WorkOrderStatusChange;
+import soat.fastfood.backstage.application.port.NotificationPort;
+import soat.fastfood.backstage.application.port.WorkOrderPort;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Apply Work Order Status Changes Use Case")
+class DefaultApplyWorkOrderStatusChangesUseCaseTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-20T10:00:00Z");
+
+    @Mock
+    private WorkOrderPort workOrderPort;
+
+    @Mock
+    private NotificationPort notificationPort;
+
+    @InjectMocks
+    private DefaultApplyWorkOrderStatusChangesUseCase useCase;
+
+    @Nested
+    @DisplayName("Given consecutive status changes")
+    class GivenConsecutiveStatusChanges {
+
+        @Test
+        @DisplayName("When applying them, Then should write them at once and notify only the last status")
+        void whenApplyingThem_thenShouldWriteThemAtOnceAndNotifyOnlyTheLastStatus() {
+            // Given: PREPARING followed by READY within the window
+            final var changes = List.of(
+                    new WorkOrderStatusChange(WorkOrderStatus.PREPARING, NOW),
+                    new WorkOrderStatusChange(WorkOrderStatus.READY, NOW.plusSeconds(1))
+            );
+
+            // When: applying the changes
+            useCase.execute(new ApplyWorkOrderStatusChangesCommand("order-1", changes));
+
+            // Then: should write both in one call and send a single notification
+            final var inOrder = inOrder(workOrderPort, notificationPort);
+            inOrder.verify(workOrderPort).applyStatusChanges(WorkOrderID.from("order-1"), changes);
+            inOrder.verify(notificationPort).sendWorkOrderStatusUpdateNotification(WorkOrderID.from("order-1"), WorkOrderStatus.READY);
+            verifyNoMoreInteractions(workOrderPort, notificationPort);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given invalid status changes")
+    class GivenInvalidStatusChanges {
+
+        @Test
+        @DisplayName("When there are no changes, Then should throw DomainException")
+        void whenThereAreNoChanges_thenShouldThrowDomainException() {
+            // Given: an empty list of changes
+            final var command = new ApplyWorkOrderStatusChangesCommand("order-1", List.of());
+
+            // When & Then: should throw DomainException
+            final var exception = assertThrows(DomainException.class, () -> useCase.execute(command));
+            assertEquals("'changes' should not be null or empty", exception.getMessage());
+            verifyNoInteractions(workOrderPort, notificationPort);
+        }
+
+        @Test
+        @DisplayName("When a change skips a stage, Then should throw DomainException")
+        void whenAChangeSkipsAStage_thenShouldThrowDomainException() {
+            // Given: PREPARING followed by COMPLETED
+            final var command = new ApplyWorkOrderStatusChangesCommand("order-1", List.of(
+                    new WorkOrderStatusChange(WorkOrderStatus.PREPARING, NOW),
+                    new WorkOrderStatusChange(WorkOrderStatus.COMPLETED, NOW.plusSeconds(1))
+            ));
+
+            // When & Then: should throw DomainException
+            final var exception = assertThrows(DomainException.class, () -> useCase.execute(command));
+            assertEquals("'changes' should not go from PREPARING to COMPLETED", exception.getMessage());
+            verifyNoInteractions(workOrderPort, notificationPort);
+        }
+
+        @Test
+        @DisplayName("When changes are out of order, Then should throw DomainException")
+        void whenChangesAreOutOfOrder_thenShouldThrowDomainException() {
+            // Given: READY recorded before PREPARING
+            final var command = new ApplyWorkOrderStatusChangesCommand("order-1", List.of(
+                    new WorkOrderStatusChange(WorkOrderStatus.PREPARING, NOW),
+                    new WorkOrderStatusChange(WorkOrderStatus.READY, NOW.minusSeconds(1))
+            ));
+
+            // When & Then: should throw DomainException
+            assertThrows(DomainException.class, () -> useCase.execute(command));
+            verifyNoInteractions(workOrderPort, notificationPort);
+        }
+    }
+}